@@ -0,0 +1,29 @@
+-- Migración 001: tabla de versiones del esquema y participaciones únicas por reporte.
+-- Las migraciones se aplican una sola vez, a mano y en orden, antes de desplegar:
+--
+--     psql -d AssistantsReportDB -v ON_ERROR_STOP=1 -f sql/migraciones/001_version_esquema.sql
+--
+-- Cada script va en una transacción (si algo falla no queda nada a medias) y
+-- registra su número en version_esquema. Antes del primer login la aplicación
+-- comprueba que la última versión sea EsquemaBD.VERSION_REQUERIDA.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS version_esquema (
+    version   INTEGER PRIMARY KEY,
+    aplicada  TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Una participación aparece una sola vez por reporte; ReporteDAO.setParticipaciones
+-- se apoya en este índice para el ON CONFLICT. Antes se quitan los duplicados
+-- que ya existan (se conserva la primera fila de cada par).
+DELETE FROM reporte_participacion a USING reporte_participacion b
+WHERE a.id_reporte = b.id_reporte
+  AND a.id_participacion = b.id_participacion
+  AND a.ctid > b.ctid;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_reporte_participacion_unica
+    ON reporte_participacion (id_reporte, id_participacion);
+
+INSERT INTO version_esquema (version) VALUES (1) ON CONFLICT (version) DO NOTHING;
+
+COMMIT;
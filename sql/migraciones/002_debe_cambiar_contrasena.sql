@@ -0,0 +1,12 @@
+-- Migración 002: estado persistido del cambio de contraseña obligatorio.
+-- Se aplica después de la 001 (ver 001_version_esquema.sql).
+
+BEGIN;
+
+-- Estado persistido de "debe cambiar la contraseña". NULL = cuenta anterior a
+-- esta columna; se resuelve en su primer login.
+ALTER TABLE usuario ADD COLUMN IF NOT EXISTS debe_cambiar_contrasena BOOLEAN;
+
+INSERT INTO version_esquema (version) VALUES (2) ON CONFLICT (version) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,15 @@
+-- Migración 003: índices para los contadores de los dashboards.
+-- Se aplica después de la 002 (ver 001_version_esquema.sql).
+
+BEGIN;
+
+-- Contadores de los dashboards (MetricasDashboardDAO): el conteo por proyecto
+-- y la participación más reciente de cada persona se resuelven por índice.
+CREATE INDEX IF NOT EXISTS idx_personal_proyecto ON personaldeinvestigacion (id_proyecto);
+CREATE INDEX IF NOT EXISTS idx_participacion_personal_fecha ON participacion (cedula_personal, fecha_inicio DESC);
+CREATE INDEX IF NOT EXISTS idx_reporte_proyecto_estado ON reporte (id_proyecto, estado);
+CREATE INDEX IF NOT EXISTS idx_informe_proyecto_estado ON informe_actividades (id_proyecto, estado);
+
+INSERT INTO version_esquema (version) VALUES (3) ON CONFLICT (version) DO NOTHING;
+
+COMMIT;
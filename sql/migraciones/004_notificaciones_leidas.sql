@@ -0,0 +1,14 @@
+-- Migración 004: estado leída de las notificaciones y sus índices.
+-- Se aplica después de la 003 (ver 001_version_esquema.sql).
+
+BEGIN;
+
+-- Notificaciones: estado leída/no leída, páginas por (fecha, id) y conteo de
+-- no leídas con un índice parcial que solo contiene las pendientes.
+ALTER TABLE notificacion ADD COLUMN IF NOT EXISTS leida BOOLEAN NOT NULL DEFAULT false;
+CREATE INDEX IF NOT EXISTS idx_notificacion_usuario_fecha ON notificacion (id_usuario, fecha_envio DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_notificacion_no_leidas ON notificacion (id_usuario) WHERE NOT leida;
+
+INSERT INTO version_esquema (version) VALUES (4) ON CONFLICT (version) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,12 @@
+-- Migración 005: versión de los informes para la edición concurrente.
+-- Se aplica después de la 004 (ver 001_version_esquema.sql).
+
+BEGIN;
+
+-- Control de edición concurrente de informes: cada actualización sube la
+-- versión y solo se aplica si coincide con la que se leyó.
+ALTER TABLE informe_actividades ADD COLUMN IF NOT EXISTS version INTEGER NOT NULL DEFAULT 0;
+
+INSERT INTO version_esquema (version) VALUES (5) ON CONFLICT (version) DO NOTHING;
+
+COMMIT;
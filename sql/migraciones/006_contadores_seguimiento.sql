@@ -0,0 +1,138 @@
+-- Migración 006: contadores del resumen de seguimiento mantenidos por triggers.
+-- Se aplica después de la 005 (ver 001_version_esquema.sql).
+--
+-- resumen_contadores guarda, por proyecto y tipo de personal, los mismos conteos
+-- que ResumenSeguimientoDAO.SQL_RESUMEN calcula agregando participaciones:
+-- personas con al menos una participación (registrados) y participaciones
+-- activas y retiradas. Los triggers la actualizan en la misma transacción que
+-- cada escritura, venga de la aplicación o de SQL manual, así leer un resumen es
+-- una búsqueda por clave. ResumenSeguimientoDAO.verificar compara la tabla con
+-- el recálculo completo.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS resumen_contadores (
+    id_proyecto  INTEGER     NOT NULL,
+    tipo         VARCHAR(50) NOT NULL,
+    registrados  INTEGER     NOT NULL DEFAULT 0,
+    activos      INTEGER     NOT NULL DEFAULT 0,
+    retirados    INTEGER     NOT NULL DEFAULT 0,
+    PRIMARY KEY (id_proyecto, tipo)
+);
+
+-- Recalcula la fila de un (proyecto, tipo) desde las tablas base. Es un agregado
+-- sobre el personal de un solo proyecto, no sobre toda la tabla. El lock
+-- consultivo por proyecto ordena a las transacciones que tocan el mismo grupo:
+-- la segunda espera y su SELECT ya ve lo que confirmó la primera.
+CREATE OR REPLACE FUNCTION recalcular_resumen_contadores(p_proyecto INTEGER, p_tipo TEXT)
+RETURNS void LANGUAGE plpgsql AS $$
+BEGIN
+    IF p_proyecto IS NULL OR p_tipo IS NULL THEN
+        RETURN;
+    END IF;
+    PERFORM pg_advisory_xact_lock(hashtext('resumen_contadores'), p_proyecto);
+
+    INSERT INTO resumen_contadores AS c (id_proyecto, tipo, registrados, activos, retirados)
+    SELECT p_proyecto, p_tipo,
+           COUNT(DISTINCT p.cedula) FILTER (WHERE par.cedula_personal IS NOT NULL),
+           COUNT(par.cedula_personal) FILTER (WHERE UPPER(par.estado) = 'ACTIVO'),
+           COUNT(par.cedula_personal) FILTER (WHERE UPPER(par.estado) = 'RETIRADO')
+    FROM personaldeinvestigacion p
+    LEFT JOIN participacion par ON par.cedula_personal = p.cedula
+    WHERE p.id_proyecto = p_proyecto AND p.tipo = p_tipo
+    ON CONFLICT (id_proyecto, tipo) DO UPDATE SET
+        registrados = EXCLUDED.registrados,
+        activos     = EXCLUDED.activos,
+        retirados   = EXCLUDED.retirados;
+END;
+$$;
+
+-- Vuelve a llenar la tabla completa; la usan esta migración y
+-- ResumenSeguimientoDAO.reconstruir. Bloquea la tabla para que ningún trigger
+-- escriba sobre datos a medio reconstruir.
+CREATE OR REPLACE FUNCTION reconstruir_resumen_contadores()
+RETURNS void LANGUAGE plpgsql AS $$
+BEGIN
+    LOCK TABLE resumen_contadores IN SHARE ROW EXCLUSIVE MODE;
+    DELETE FROM resumen_contadores;
+    INSERT INTO resumen_contadores (id_proyecto, tipo, registrados, activos, retirados)
+    SELECT p.id_proyecto, p.tipo,
+           COUNT(DISTINCT p.cedula) FILTER (WHERE par.cedula_personal IS NOT NULL),
+           COUNT(par.cedula_personal) FILTER (WHERE UPPER(par.estado) = 'ACTIVO'),
+           COUNT(par.cedula_personal) FILTER (WHERE UPPER(par.estado) = 'RETIRADO')
+    FROM personaldeinvestigacion p
+    LEFT JOIN participacion par ON par.cedula_personal = p.cedula
+    WHERE p.id_proyecto IS NOT NULL AND p.tipo IS NOT NULL
+    GROUP BY p.id_proyecto, p.tipo;
+END;
+$$;
+
+-- Alta, baja, cambio de estado o de persona de una participación: se recalcula
+-- el grupo de la persona anterior y el de la nueva.
+CREATE OR REPLACE FUNCTION trg_participacion_resumen_contadores()
+RETURNS trigger LANGUAGE plpgsql AS $$
+DECLARE
+    v_proyecto INTEGER;
+    v_tipo     TEXT;
+BEGIN
+    IF TG_OP = 'UPDATE'
+       AND NEW.cedula_personal IS NOT DISTINCT FROM OLD.cedula_personal
+       AND NEW.estado IS NOT DISTINCT FROM OLD.estado THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        SELECT id_proyecto, tipo INTO v_proyecto, v_tipo
+        FROM personaldeinvestigacion WHERE cedula = OLD.cedula_personal;
+        IF FOUND THEN
+            PERFORM recalcular_resumen_contadores(v_proyecto, v_tipo);
+        END IF;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        SELECT id_proyecto, tipo INTO v_proyecto, v_tipo
+        FROM personaldeinvestigacion WHERE cedula = NEW.cedula_personal;
+        IF FOUND THEN
+            PERFORM recalcular_resumen_contadores(v_proyecto, v_tipo);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- Alta, baja o cambio de proyecto/tipo del personal: sale de un grupo y entra en otro.
+CREATE OR REPLACE FUNCTION trg_personal_resumen_contadores()
+RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'UPDATE'
+       AND NEW.cedula IS NOT DISTINCT FROM OLD.cedula
+       AND NEW.id_proyecto IS NOT DISTINCT FROM OLD.id_proyecto
+       AND NEW.tipo IS NOT DISTINCT FROM OLD.tipo THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM recalcular_resumen_contadores(OLD.id_proyecto, OLD.tipo);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM recalcular_resumen_contadores(NEW.id_proyecto, NEW.tipo);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS participacion_resumen_contadores ON participacion;
+CREATE TRIGGER participacion_resumen_contadores
+    AFTER INSERT OR UPDATE OR DELETE ON participacion
+    FOR EACH ROW EXECUTE FUNCTION trg_participacion_resumen_contadores();
+
+DROP TRIGGER IF EXISTS personal_resumen_contadores ON personaldeinvestigacion;
+CREATE TRIGGER personal_resumen_contadores
+    AFTER INSERT OR UPDATE OR DELETE ON personaldeinvestigacion
+    FOR EACH ROW EXECUTE FUNCTION trg_personal_resumen_contadores();
+
+SELECT reconstruir_resumen_contadores();
+
+INSERT INTO version_esquema (version) VALUES (6) ON CONFLICT (version) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,185 @@
+package Logica.Conexiones;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caché LRU de PreparedStatement de una conexión física, indexada por el texto SQL.
+ * Los DAO siguen cerrando sus sentencias con try-with-resources: el close() del
+ * envoltorio solo limpia parámetros, resultados y opciones (fetch size, máximo de
+ * filas, timeout) y deja la sentencia lista para reutilizarse, así el driver
+ * puede mantenerla preparada en el servidor.
+ * Solo la usa un hilo a la vez (el que tiene prestada la conexión).
+ *
+ * Las ejecuciones se registran en la {@link Cancelacion} del hilo, si hay una.
+ * Los Statement de createStatement() no pasan por aquí y no se pueden cancelar,
+ * por eso los DAO usan siempre prepareStatement, aunque la consulta no tenga parámetros.
+ */
+class CacheSentencias {
+
+    private final Connection fisica;
+    private final int capacidad;
+    private final PoolConexiones pool;
+    private final LinkedHashMap<String, Entrada> entradas;
+
+    CacheSentencias(Connection fisica, int capacidad, PoolConexiones pool) {
+        this.fisica = fisica;
+        this.capacidad = capacidad;
+        this.pool = pool;
+        // accessOrder = true: el recorrido va del menos al más recientemente usado
+        this.entradas = new LinkedHashMap<>(capacidad, 0.75f, true);
+    }
+
+    /**
+     * Devuelve una sentencia preparada para el SQL, reutilizando la cacheada si
+     * está libre. Si la misma consulta ya está abierta (llamada anidada) se
+     * prepara una sentencia aparte, sin cachear.
+     */
+    PreparedStatement preparar(String sql) throws SQLException {
+        Entrada entrada = entradas.get(sql);
+        if (entrada != null && !entrada.enUso) {
+            pool.contarSentencia(true);
+            return entrada.prestar();
+        }
+
+        pool.contarSentencia(false);
+        if (entrada != null || capacidad <= 0) {
+            // Sentencia de un solo uso: se cierra físicamente al liberarla
+            Entrada suelta = new Entrada(fisica.prepareStatement(sql));
+            suelta.descartada = true;
+            return suelta.prestar();
+        }
+
+        entrada = new Entrada(fisica.prepareStatement(sql));
+        entradas.put(sql, entrada);
+        desalojarExcedentes();
+        return entrada.prestar();
+    }
+
+    private void desalojarExcedentes() {
+        Iterator<Map.Entry<String, Entrada>> it = entradas.entrySet().iterator();
+        while (entradas.size() > capacidad && it.hasNext()) {
+            Entrada menosUsada = it.next().getValue();
+            if (menosUsada.enUso) continue;
+            it.remove();
+            menosUsada.cerrarFisica();
+        }
+    }
+
+    /** Cierra todas las sentencias libres; las que están en uso se cierran al liberarse. */
+    void vaciar() {
+        for (Entrada entrada : entradas.values()) {
+            if (entrada.enUso) {
+                entrada.descartada = true;
+            } else {
+                entrada.cerrarFisica();
+            }
+        }
+        entradas.clear();
+    }
+
+    // ─── Entrada de la caché ───
+
+    private static class Entrada {
+        private final PreparedStatement sentencia;
+        private boolean enUso;
+        private boolean descartada;
+
+        Entrada(PreparedStatement sentencia) {
+            this.sentencia = sentencia;
+        }
+
+        PreparedStatement prestar() {
+            enUso = true;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new Vista());
+        }
+
+        void liberar(List<ResultSet> abiertos) {
+            try {
+                for (ResultSet rs : abiertos) {
+                    rs.close();
+                }
+                sentencia.clearParameters();
+                sentencia.clearBatch();
+                // Opciones que un DAO pudo cambiar: el siguiente préstamo parte de los valores por defecto
+                sentencia.setFetchSize(0);
+                sentencia.setMaxRows(0);
+                sentencia.setQueryTimeout(0);
+            } catch (SQLException e) {
+                // Si no se puede limpiar, no se reutiliza
+                descartada = true;
+            }
+            enUso = false;
+            if (descartada) {
+                cerrarFisica();
+            }
+        }
+
+        void cerrarFisica() {
+            try {
+                sentencia.close();
+            } catch (SQLException ignored) {
+            }
+        }
+
+        /** Envoltorio entregado al DAO en cada préstamo. */
+        private class Vista implements InvocationHandler {
+            private boolean cerrada;
+            private final List<ResultSet> abiertos = new ArrayList<>(1);
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!cerrada) {
+                            cerrada = true;
+                            liberar(abiertos);
+                        }
+                        return null;
+                    case "isClosed":
+                        return cerrada || sentencia.isClosed();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        break;
+                }
+                if (cerrada) {
+                    throw new SQLException("La sentencia ya fue cerrada");
+                }
+                Cancelacion cancelacion = method.getName().startsWith("execute") ? Cancelacion.actual() : null;
+                if (cancelacion != null) {
+                    cancelacion.iniciar(sentencia);
+                }
+                try {
+                    Object resultado = method.invoke(sentencia, args);
+                    if (resultado instanceof ResultSet) {
+                        abiertos.add((ResultSet) resultado);
+                    }
+                    return resultado;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    if (cancelacion != null) {
+                        cancelacion.terminar(sentencia);
+                    }
+                }
+            }
+        }
+    }
+}
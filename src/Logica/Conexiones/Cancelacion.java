@@ -0,0 +1,107 @@
+package Logica.Conexiones;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Permite cancelar desde otro hilo las consultas de un trabajo en curso.
+ * Mientras {@link #ejecutar} corre, las sentencias del pool que se ejecutan en
+ * ese hilo se registran aquí; {@link #cancelar()} les aplica Statement.cancel,
+ * con lo que PostgreSQL aborta la consulta y la conexión vuelve antes al pool.
+ *
+ * Uso:
+ * <pre>
+ * Cancelacion cancelacion = new Cancelacion();
+ * // hilo de fondo
+ * cancelacion.ejecutar(() -> proyectoDAO.obtenerTodos());
+ * // desde cualquier otro hilo
+ * cancelacion.cancelar();
+ * </pre>
+ */
+public final class Cancelacion {
+
+    /** SQLSTATE de PostgreSQL para "query_canceled". */
+    public static final String ESTADO_CANCELADA = "57014";
+
+    private static final ThreadLocal<Cancelacion> actual = new ThreadLocal<>();
+
+    private final Set<Statement> enCurso = new HashSet<>();
+    private boolean cancelada;
+
+    /**
+     * Ejecuta el trabajo con esta cancelación ligada al hilo actual.
+     * @throws SQLException con estado {@link #ESTADO_CANCELADA} si se canceló
+     */
+    public <T> T ejecutar(GestorTransacciones.Trabajo<T> trabajo) throws SQLException {
+        Cancelacion anterior = actual.get();
+        actual.set(this);
+        try {
+            verificar();
+            return trabajo.ejecutar();
+        } finally {
+            if (anterior == null) {
+                actual.remove();
+            } else {
+                actual.set(anterior);
+            }
+        }
+    }
+
+    /**
+     * Marca el trabajo como cancelado y aborta sus sentencias en curso.
+     * No bloquea: Statement.cancel abre una conexión aparte al servidor, así que
+     * se hace en un hilo virtual.
+     */
+    public void cancelar() {
+        synchronized (this) {
+            if (cancelada) return;
+            cancelada = true;
+            if (enCurso.isEmpty()) return;
+        }
+        Thread.startVirtualThread(this::cancelarEnCurso);
+    }
+
+    public synchronized boolean isCancelada() {
+        return cancelada;
+    }
+
+    // ─── Registro desde las sentencias del pool ───
+
+    /** Cancelación ligada al hilo actual, o null. */
+    static Cancelacion actual() {
+        return actual.get();
+    }
+
+    /** Se llama antes de ejecutar la sentencia; falla si ya está cancelado. */
+    synchronized void iniciar(Statement sentencia) throws SQLException {
+        verificar();
+        enCurso.add(sentencia);
+    }
+
+    /**
+     * Se llama al terminar de ejecutar. Al ser synchronized espera a que un
+     * cancelarEnCurso() pendiente termine, así la sentencia no vuelve a la caché
+     * (ni a otro hilo) mientras se le envía el cancel.
+     */
+    synchronized void terminar(Statement sentencia) {
+        enCurso.remove(sentencia);
+    }
+
+    private synchronized void cancelarEnCurso() {
+        for (Statement sentencia : enCurso) {
+            try {
+                sentencia.cancel();
+            } catch (SQLException e) {
+                System.err.println("No se pudo cancelar la consulta: " + e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void verificar() throws SQLException {
+        if (cancelada) {
+            throw new SQLException("Consulta cancelada", ESTADO_CANCELADA);
+        }
+    }
+}
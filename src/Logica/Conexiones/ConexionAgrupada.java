@@ -0,0 +1,136 @@
+package Logica.Conexiones;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Conexión física administrada por PoolConexiones.
+ * Cada préstamo crea un envoltorio (proxy de Connection) propio, de modo que
+ * cerrar dos veces el mismo envoltorio o usarlo tras devolverlo no afecta
+ * al siguiente usuario de la conexión física.
+ */
+class ConexionAgrupada {
+
+    private final PoolConexiones pool;
+    private final Connection fisica;
+    private final CacheSentencias sentencias;
+
+    private volatile long ultimoUso = System.currentTimeMillis();
+    private volatile long prestadaEn;
+    private volatile Throwable origenPrestamo;
+    private volatile boolean fugaReportada;
+
+    ConexionAgrupada(PoolConexiones pool, Connection fisica) {
+        this.pool = pool;
+        this.fisica = fisica;
+        this.sentencias = new CacheSentencias(fisica, pool.getCapacidadCacheSentencias(), pool);
+    }
+
+    Connection getFisica() {
+        return fisica;
+    }
+
+    /** Entrega un envoltorio nuevo y registra el punto de préstamo para detectar fugas. */
+    Connection prestar() {
+        prestadaEn = System.currentTimeMillis();
+        origenPrestamo = new Throwable("Préstamo de conexión");
+        fugaReportada = false;
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new Envoltorio());
+    }
+
+    /**
+     * Deja la conexión lista para el siguiente préstamo.
+     * @return false si la conexión quedó inutilizable y debe descartarse.
+     */
+    boolean restablecer() {
+        try {
+            if (fisica.isClosed()) return false;
+            if (!fisica.getAutoCommit()) {
+                fisica.rollback();
+                fisica.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    void cerrarFisica() {
+        sentencias.vaciar();
+        try {
+            fisica.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    void marcarUso() {
+        ultimoUso = System.currentTimeMillis();
+        origenPrestamo = null;
+    }
+
+    long milisDesdeUltimoUso() {
+        return System.currentTimeMillis() - ultimoUso;
+    }
+
+    long milisPrestada() {
+        return System.currentTimeMillis() - prestadaEn;
+    }
+
+    Throwable getOrigenPrestamo() {
+        return origenPrestamo;
+    }
+
+    /** @return true solo la primera vez, para no repetir el aviso de fuga. */
+    boolean marcarFugaReportada() {
+        if (fugaReportada) return false;
+        fugaReportada = true;
+        return true;
+    }
+
+    // ─── Envoltorio entregado a los DAO ───
+
+    private class Envoltorio implements InvocationHandler {
+        private boolean devuelta;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!devuelta) {
+                        devuelta = true;
+                        pool.devolver(ConexionAgrupada.this);
+                    }
+                    return null;
+                case "isClosed":
+                    return devuelta || fisica.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "ConexionAgrupada[" + fisica + (devuelta ? ", devuelta]" : "]");
+                default:
+                    break;
+            }
+            if (devuelta) {
+                throw new SQLException("La conexión ya fue devuelta al pool");
+            }
+            // prepareStatement(sql) sin opciones pasa por la caché de sentencias
+            if (method.getName().equals("prepareStatement") && args.length == 1) {
+                return sentencias.preparar((String) args[0]);
+            }
+            try {
+                return method.invoke(fisica, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
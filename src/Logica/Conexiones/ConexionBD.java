@@ -1,18 +1,71 @@
 package Logica.Conexiones;
+import java.lang.System.Logger.Level;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Properties;
 
+/**
+ * Punto de acceso a la base de datos.
+ * Las conexiones salen de un pool acotado; cada DAO debe cerrarlas
+ * (try-with-resources) para devolverlas.
+ * El tamaño y los tiempos del pool pueden ajustarse con propiedades del sistema
+ * (-Dbd.pool.min, -Dbd.pool.max, -Dbd.pool.esperaMs, -Dbd.pool.inactividadMs, -Dbd.pool.fugaMs,
+ * -Dbd.cacheSentencias).
+ */
 public class ConexionBD {
-    private static Connection connection;
+    private static final System.Logger LOG = System.getLogger(ConexionBD.class.getName());
+
+    private static PoolConexiones pool;
     private static final String URL = "jdbc:postgresql://26.224.201.172/AssistantsReportDB";
     private static final String USUARIO = "postgres";
     private static final String CONTRASEÑA = "admin";
 
+    private static final int POOL_MINIMO = Integer.getInteger("bd.pool.min", 2);
+    private static final int POOL_MAXIMO = Integer.getInteger("bd.pool.max", 10);
+    private static final long ESPERA_MAXIMA_MS = Long.getLong("bd.pool.esperaMs", 15_000L);
+    private static final long INACTIVIDAD_MAXIMA_MS = Long.getLong("bd.pool.inactividadMs", 300_000L);
+    private static final long UMBRAL_FUGA_MS = Long.getLong("bd.pool.fugaMs", 60_000L);
+    private static final int CACHE_SENTENCIAS = Integer.getInteger("bd.cacheSentencias", 64);
+
+    /**
+     * Presta una conexión del pool. Debe cerrarse para devolverla.
+     * Dentro de GestorTransacciones.ejecutar devuelve la conexión de esa
+     * transacción (cerrarla no tiene efecto).
+     */
     public static Connection conectar() throws SQLException {
-        if(connection == null){
-            connection = DriverManager.getConnection(URL, USUARIO, CONTRASEÑA);
+        Connection enTransaccion = GestorTransacciones.conexionActual();
+        if (enTransaccion != null) {
+            return enTransaccion;
+        }
+        return getPool().obtener();
+    }
+
+    public static synchronized PoolConexiones getPool() {
+        if (pool == null) {
+            Properties propiedades = new Properties();
+            propiedades.setProperty("user", USUARIO);
+            propiedades.setProperty("password", CONTRASEÑA);
+            // Las sentencias cacheadas se preparan en el servidor desde su primer uso
+            propiedades.setProperty("prepareThreshold", "1");
+            pool = PoolConexiones.crear(URL, propiedades,
+                    POOL_MINIMO, POOL_MAXIMO, ESPERA_MAXIMA_MS,
+                    INACTIVIDAD_MAXIMA_MS, UMBRAL_FUGA_MS, CACHE_SENTENCIAS);
+        }
+        return pool;
+    }
+
+    /**
+     * Cierra el pool al salir de la aplicación.
+     */
+    public static synchronized void cerrar() {
+        if (pool != null) {
+            LOG.log(Level.DEBUG, pool::resumen);
+            if (ConsultasParalelas.getGruposMedidos() > 0) {
+                LOG.log(Level.DEBUG, () -> "Consultas paralelas: " + ConsultasParalelas.getGruposMedidos()
+                        + " grupos, ahorro total " + ConsultasParalelas.getAhorroTotalMs() + " ms");
+            }
+            pool.cerrar();
+            pool = null;
         }
-        return connection;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package Logica.Conexiones;
+
+import java.lang.System.Logger.Level;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Grupo de consultas de solo lectura independientes entre sí que se ejecutan a la
+ * vez, cada una en un hilo virtual con su propia conexión del pool. Las consultas
+ * arrancan al lanzarse, así que quien crea el grupo puede seguir trabajando
+ * (p. ej. armar la ventana) mientras el servidor responde.
+ *
+ * Uso:
+ * <pre>
+ * ConsultasParalelas grupo = new ConsultasParalelas("Dashboard");
+ * Pendiente&lt;List&lt;Proyecto&gt;&gt; proyectos = grupo.lanzar(() -> proyectoDAO.obtenerTodos());
+ * Pendiente&lt;List&lt;Reporte&gt;&gt;  reportes  = grupo.lanzar(() -> reporteDAO.obtenerTodos());
+ * grupo.esperar();
+ * mostrar(proyectos.obtener(), reportes.obtener());
+ * </pre>
+ * Si se lanzan dentro de {@link Cancelacion#ejecutar}, las consultas heredan esa
+ * cancelación. No se usa dentro de una transacción: cada consulta va por otra conexión.
+ */
+public final class ConsultasParalelas {
+
+    private static final System.Logger LOG = System.getLogger(ConsultasParalelas.class.getName());
+
+    private static final ExecutorService EJECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("consulta-paralela-", 0).factory());
+
+    // ─── Métricas globales ───
+    private static final AtomicLong gruposMedidos = new AtomicLong();
+    private static final AtomicLong ahorroTotalNanos = new AtomicLong();
+
+    private final String nombre;
+    private final Cancelacion cancelacion = Cancelacion.actual();
+    private final long inicio = System.nanoTime();
+    private final List<Pendiente<?>> pendientes = new ArrayList<>();
+    private final AtomicLong serieNanos = new AtomicLong();
+    private boolean medido;
+
+    /** @param nombre se usa en el registro del tiempo ahorrado */
+    public ConsultasParalelas(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /** Resultado de una consulta lanzada en el grupo. */
+    public static final class Pendiente<T> {
+        private final Future<T> futuro;
+
+        private Pendiente(Future<T> futuro) {
+            this.futuro = futuro;
+        }
+
+        /** Espera la consulta (si aún no terminó) y devuelve su resultado. */
+        public T obtener() throws SQLException {
+            try {
+                return futuro.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Consulta interrumpida", e);
+            } catch (ExecutionException e) {
+                Throwable causa = e.getCause();
+                if (causa instanceof SQLException error) throw error;
+                if (causa instanceof RuntimeException error) throw error;
+                throw new SQLException(causa);
+            }
+        }
+    }
+
+    /** Arranca la consulta en su propio hilo y devuelve su resultado pendiente. */
+    public synchronized <T> Pendiente<T> lanzar(GestorTransacciones.Trabajo<T> consulta) {
+        if (GestorTransacciones.enTransaccion()) {
+            throw new IllegalStateException("Las consultas paralelas no pueden ver la transacción en curso");
+        }
+        Future<T> futuro = EJECUTOR.submit(() -> {
+            long inicioConsulta = System.nanoTime();
+            try {
+                return cancelacion != null ? cancelacion.ejecutar(consulta) : consulta.ejecutar();
+            } finally {
+                serieNanos.addAndGet(System.nanoTime() - inicioConsulta);
+            }
+        });
+        Pendiente<T> pendiente = new Pendiente<>(futuro);
+        pendientes.add(pendiente);
+        return pendiente;
+    }
+
+    /**
+     * Espera a que terminen todas las consultas lanzadas; falla con el primer error.
+     * La primera vez registra el tiempo ahorrado: lo que habrían tardado una tras
+     * otra menos lo que realmente hubo que esperar aquí. Si el grupo se lanzó con
+     * antelación y ya terminó, no se espera nada y se ahorra todo.
+     */
+    public void esperar() throws SQLException {
+        List<Pendiente<?>> lanzadas;
+        synchronized (this) {
+            lanzadas = List.copyOf(pendientes);
+        }
+        long inicioEspera = System.nanoTime();
+        for (Pendiente<?> pendiente : lanzadas) {
+            pendiente.obtener();
+        }
+        long espera = System.nanoTime() - inicioEspera;
+
+        synchronized (this) {
+            if (medido) return;
+            medido = true;
+        }
+        long serie = serieNanos.get();
+        long ahorro = Math.max(0, serie - espera);
+        gruposMedidos.incrementAndGet();
+        ahorroTotalNanos.addAndGet(ahorro);
+        long total = System.nanoTime() - inicio;
+        LOG.log(Level.DEBUG, () -> String.format(
+                "%s: %d consultas listas en %d ms (en serie: %d ms, esperado: %d ms, ahorro: %d ms)",
+                nombre, lanzadas.size(), ms(total), ms(serie), ms(espera), ms(ahorro)));
+    }
+
+    public static long getGruposMedidos() { return gruposMedidos.get(); }
+
+    /** Tiempo total ahorrado por todos los grupos desde el arranque. */
+    public static long getAhorroTotalMs() { return ms(ahorroTotalNanos.get()); }
+
+    private static long ms(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
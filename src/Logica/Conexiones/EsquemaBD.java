@@ -0,0 +1,58 @@
+package Logica.Conexiones;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Versión del esquema que necesita esta versión de la aplicación.
+ * Los cambios de esquema no se aplican desde aquí: van en scripts numerados en
+ * sql/migraciones/ que se ejecutan una sola vez antes de desplegar, y cada uno
+ * registra su número en la tabla version_esquema. Antes del primer login se
+ * comprueba que la base tenga la versión esperada.
+ */
+public final class EsquemaBD {
+
+    /** Última migración que esta versión de la aplicación da por aplicada. */
+    public static final int VERSION_REQUERIDA = 6;
+
+    /** true cuando ya se comprobó la versión en esta ejecución */
+    private static volatile boolean verificada;
+
+    private EsquemaBD() {
+    }
+
+    /**
+     * Comprueba que la base esté en {@link #VERSION_REQUERIDA}. Solo va a la base
+     * hasta que la comprobación tiene éxito una vez.
+     * @throws SQLException si no se puede leer la versión o no coincide; no se
+     *                      debe iniciar sesión en ese caso.
+     */
+    public static void verificar() throws SQLException {
+        if (verificada) return;
+        int version = leerVersion();
+        if (version != VERSION_REQUERIDA) {
+            throw new SQLException("La base de datos está en la versión de esquema " + version +
+                    " y esta aplicación requiere la " + VERSION_REQUERIDA +
+                    ". Aplique las migraciones de sql/migraciones/ antes de continuar.");
+        }
+        verificada = true;
+    }
+
+    /** Versión aplicada en la base; 0 si todavía no se aplicó ninguna migración. */
+    private static int leerVersion() throws SQLException {
+        try (Connection conn = ConexionBD.conectar()) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT to_regclass('version_esquema') IS NOT NULL")) {
+                ResultSet rs = stmt.executeQuery();
+                if (!rs.next() || !rs.getBoolean(1)) {
+                    return 0;
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT COALESCE(MAX(version), 0) FROM version_esquema")) {
+                ResultSet rs = stmt.executeQuery();
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+}
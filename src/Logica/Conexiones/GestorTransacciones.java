@@ -0,0 +1,167 @@
+package Logica.Conexiones;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unidad de trabajo ligada al hilo actual.
+ * Mientras se ejecuta un trabajo, ConexionBD.conectar() devuelve en ese hilo
+ * la misma conexión dedicada, de modo que varios DAO comparten una sola
+ * transacción y se confirma una única vez al final.
+ *
+ * Uso:
+ * <pre>
+ * GestorTransacciones.ejecutar(() -> {
+ *     usuarioDAO.guardar(usuario);
+ *     directorDAO.guardar(director);
+ * });
+ * </pre>
+ * Si el trabajo lanza una excepción se revierte todo. Las llamadas anidadas
+ * se suman a la transacción ya abierta.
+ *
+ * Los cambios en memoria que dependen de que la escritura quede confirmada (ids
+ * generados, versiones) se registran con {@link #alConfirmar}: solo se aplican
+ * tras el commit de la transacción más externa. Cuando el DAO necesita el valor
+ * nuevo en la entidad para escribirlo, {@link #alRevertir} registra cómo
+ * restaurar el anterior si la transacción se revierte.
+ */
+public final class GestorTransacciones {
+
+    private static final ThreadLocal<Connection> transaccionActual = new ThreadLocal<>();
+    private static final ThreadLocal<List<Runnable>> alConfirmarActual = new ThreadLocal<>();
+    private static final ThreadLocal<List<Runnable>> alRevertirActual = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface Trabajo<T> {
+        T ejecutar() throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface Accion {
+        void ejecutar() throws SQLException;
+    }
+
+    private GestorTransacciones() {
+    }
+
+    /**
+     * Ejecuta el trabajo dentro de una transacción y devuelve su resultado.
+     */
+    public static <T> T ejecutar(Trabajo<T> trabajo) throws SQLException {
+        if (transaccionActual.get() != null) {
+            return trabajo.ejecutar();
+        }
+
+        List<Runnable> alConfirmar = new ArrayList<>();
+        List<Runnable> alRevertir = new ArrayList<>();
+        T resultado;
+        try (Connection conexion = ConexionBD.getPool().obtener()) {
+            conexion.setAutoCommit(false);
+            transaccionActual.set(conexion);
+            alConfirmarActual.set(alConfirmar);
+            alRevertirActual.set(alRevertir);
+            boolean confirmada = false;
+            try {
+                resultado = trabajo.ejecutar();
+                conexion.commit();
+                confirmada = true;
+            } finally {
+                transaccionActual.remove();
+                alConfirmarActual.remove();
+                alRevertirActual.remove();
+                if (!confirmada) {
+                    try {
+                        conexion.rollback();
+                    } catch (SQLException e) {
+                        System.err.println("Error al revertir transacción: " + e.getMessage());
+                    }
+                    // En orden inverso: el último cambio se deshace primero
+                    for (int i = alRevertir.size() - 1; i >= 0; i--) {
+                        alRevertir.get(i).run();
+                    }
+                }
+            }
+        }
+        alConfirmar.forEach(Runnable::run);
+        return resultado;
+    }
+
+    /**
+     * Variante sin resultado de {@link #ejecutar(Trabajo)}.
+     */
+    public static void ejecutar(Accion accion) throws SQLException {
+        ejecutar(() -> {
+            accion.ejecutar();
+            return null;
+        });
+    }
+
+    /**
+     * Ejecuta {@code accion} cuando la transacción actual se confirme; si se
+     * revierte, no se ejecuta. Fuera de una transacción se ejecuta enseguida.
+     */
+    public static void alConfirmar(Runnable accion) {
+        List<Runnable> pendientes = alConfirmarActual.get();
+        if (pendientes != null) {
+            pendientes.add(accion);
+        } else {
+            accion.run();
+        }
+    }
+
+    /**
+     * Ejecuta {@code accion} si la transacción actual se revierte, para restaurar
+     * en memoria lo que se cambió antes de escribirlo. Fuera de una transacción
+     * no hace nada.
+     */
+    public static void alRevertir(Runnable accion) {
+        List<Runnable> pendientes = alRevertirActual.get();
+        if (pendientes != null) {
+            pendientes.add(accion);
+        }
+    }
+
+    public static boolean enTransaccion() {
+        return transaccionActual.get() != null;
+    }
+
+    /**
+     * Conexión de la transacción del hilo, envuelta para que cerrarla no la
+     * devuelva al pool antes de tiempo; null si no hay transacción abierta.
+     */
+    static Connection conexionActual() {
+        Connection conexion = transaccionActual.get();
+        if (conexion == null) return null;
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        // La transacción la controla el gestor, no el DAO
+                        case "close":
+                        case "commit":
+                        case "setAutoCommit":
+                            return null;
+                        case "rollback":
+                            if (args == null) return null;
+                            break;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(conexion, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
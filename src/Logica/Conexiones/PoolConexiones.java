@@ -0,0 +1,416 @@
+package Logica.Conexiones;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool acotado de conexiones JDBC.
+ * Cada préstamo entrega un envoltorio cuyo close() devuelve la conexión física
+ * al pool en lugar de cerrarla. Incluye validación al préstamo, desalojo de
+ * conexiones inactivas, detección de fugas y métricas básicas.
+ */
+public class PoolConexiones {
+
+    private final String url;
+    private final Properties propiedades;
+
+    private final int minimo;
+    private final int maximo;
+    private final long esperaMaximaMs;
+    private final long inactividadMaximaMs;
+    private final long umbralFugaMs;
+    private final int capacidadCacheSentencias;
+
+    /** Una conexión usada hace menos de esto no se vuelve a validar al prestarla. */
+    private static final long VENTANA_SIN_VALIDAR_MS = 500;
+    private static final int TIMEOUT_VALIDACION_SEG = 3;
+    private static final long PERIODO_MANTENIMIENTO_MS = 15_000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition disponible = lock.newCondition();
+
+    // Inactivas ordenadas de la más reciente (cabeza) a la más antigua (cola)
+    private final Deque<ConexionAgrupada> inactivas = new ArrayDeque<>();
+    private final Set<ConexionAgrupada> prestadas = new LinkedHashSet<>();
+    private int total;
+    private boolean cerrado;
+
+    private final ScheduledExecutorService mantenimiento;
+
+    // ─── Métricas ───
+    private final AtomicLong prestamos = new AtomicLong();
+    private final AtomicLong esperaTotalNanos = new AtomicLong();
+    private final AtomicLong esperaMaximaNanos = new AtomicLong();
+    private final AtomicLong conexionesCreadas = new AtomicLong();
+    private final AtomicLong validacionesFallidas = new AtomicLong();
+    private final AtomicLong fugasDetectadas = new AtomicLong();
+    private final AtomicLong sentenciasReutilizadas = new AtomicLong();
+    private final AtomicLong sentenciasPreparadas = new AtomicLong();
+
+    /**
+     * Crea el pool y arranca su mantenimiento, cuyo primer ciclo llena el mínimo
+     * en segundo plano.
+     * @param propiedades propiedades del driver (user, password y opciones propias)
+     * @param capacidadCacheSentencias sentencias preparadas que se conservan por conexión (0 = sin caché)
+     */
+    public static PoolConexiones crear(String url, Properties propiedades,
+                                       int minimo, int maximo, long esperaMaximaMs,
+                                       long inactividadMaximaMs, long umbralFugaMs,
+                                       int capacidadCacheSentencias) {
+        PoolConexiones pool = new PoolConexiones(url, propiedades, minimo, maximo, esperaMaximaMs,
+                inactividadMaximaMs, umbralFugaMs, capacidadCacheSentencias);
+        pool.mantenimiento.scheduleWithFixedDelay(pool::mantener, 0,
+                PERIODO_MANTENIMIENTO_MS, TimeUnit.MILLISECONDS);
+        return pool;
+    }
+
+    private PoolConexiones(String url, Properties propiedades,
+                           int minimo, int maximo, long esperaMaximaMs,
+                           long inactividadMaximaMs, long umbralFugaMs,
+                           int capacidadCacheSentencias) {
+        if (minimo < 0 || maximo < 1 || minimo > maximo) {
+            throw new IllegalArgumentException(
+                    "Tamaño de pool inválido: mínimo=" + minimo + ", máximo=" + maximo);
+        }
+        this.url = url;
+        this.propiedades = propiedades;
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.esperaMaximaMs = esperaMaximaMs;
+        this.inactividadMaximaMs = inactividadMaximaMs;
+        this.umbralFugaMs = umbralFugaMs;
+        this.capacidadCacheSentencias = capacidadCacheSentencias;
+
+        this.mantenimiento = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "pool-bd-mantenimiento");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // ─── Préstamo y devolución ───
+
+    /**
+     * Presta una conexión del pool. Si no hay inactivas y el pool está lleno,
+     * espera hasta esperaMaximaMs antes de fallar.
+     * El llamador debe cerrarla (try-with-resources) para devolverla.
+     */
+    public Connection obtener() throws SQLException {
+        long inicio = System.nanoTime();
+        long limite = inicio + TimeUnit.MILLISECONDS.toNanos(esperaMaximaMs);
+
+        while (true) {
+            ConexionAgrupada agrupada = null;
+            boolean crear = false;
+
+            lock.lock();
+            try {
+                while (!cerrado && inactivas.isEmpty() && total >= maximo) {
+                    long restante = limite - System.nanoTime();
+                    if (restante <= 0) {
+                        throw new SQLException("No hay conexiones disponibles tras "
+                                + esperaMaximaMs + " ms (activas=" + prestadas.size()
+                                + ", máximo=" + maximo + ")");
+                    }
+                    try {
+                        disponible.awaitNanos(restante);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Espera de conexión interrumpida", e);
+                    }
+                }
+                if (cerrado) {
+                    throw new SQLException("El pool de conexiones está cerrado");
+                }
+                if (!inactivas.isEmpty()) {
+                    agrupada = inactivas.pollFirst();
+                } else {
+                    total++;
+                    crear = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (crear) {
+                agrupada = crearConexion();
+            } else if (!esValida(agrupada)) {
+                validacionesFallidas.incrementAndGet();
+                descartar(agrupada);
+                continue;
+            }
+
+            long espera = System.nanoTime() - inicio;
+            prestamos.incrementAndGet();
+            esperaTotalNanos.addAndGet(espera);
+            esperaMaximaNanos.accumulateAndGet(espera, Math::max);
+
+            lock.lock();
+            try {
+                prestadas.add(agrupada);
+            } finally {
+                lock.unlock();
+            }
+            return agrupada.prestar();
+        }
+    }
+
+    /**
+     * Recibe una conexión devuelta por su envoltorio. Si quedó con una transacción
+     * abierta se revierte; si no puede restaurarse se descarta.
+     */
+    void devolver(ConexionAgrupada agrupada) {
+        boolean sana = agrupada.restablecer();
+
+        lock.lock();
+        try {
+            prestadas.remove(agrupada);
+            if (sana && !cerrado) {
+                agrupada.marcarUso();
+                inactivas.addFirst(agrupada);
+            } else {
+                total--;
+            }
+            disponible.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (!sana || cerrado) {
+            agrupada.cerrarFisica();
+        }
+    }
+
+    private ConexionAgrupada crearConexion() throws SQLException {
+        try {
+            Connection fisica = DriverManager.getConnection(url, propiedades);
+            conexionesCreadas.incrementAndGet();
+            return new ConexionAgrupada(this, fisica);
+        } catch (SQLException e) {
+            lock.lock();
+            try {
+                total--;
+                disponible.signal();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private boolean esValida(ConexionAgrupada agrupada) {
+        if (agrupada.milisDesdeUltimoUso() < VENTANA_SIN_VALIDAR_MS) {
+            return true;
+        }
+        try {
+            return agrupada.getFisica().isValid(TIMEOUT_VALIDACION_SEG);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void descartar(ConexionAgrupada agrupada) {
+        lock.lock();
+        try {
+            total--;
+            disponible.signal();
+        } finally {
+            lock.unlock();
+        }
+        agrupada.cerrarFisica();
+    }
+
+    // ─── Mantenimiento ───
+
+    /**
+     * Tarea periódica: desaloja inactivas que superan el tiempo máximo
+     * (respetando el mínimo), avisa de fugas y completa el mínimo.
+     */
+    private void mantener() {
+        List<ConexionAgrupada> desalojadas = new ArrayList<>();
+        List<ConexionAgrupada> sospechosas = new ArrayList<>();
+        int faltantes;
+
+        lock.lock();
+        try {
+            if (cerrado) return;
+
+            Iterator<ConexionAgrupada> it = inactivas.descendingIterator();
+            while (it.hasNext() && total > minimo) {
+                ConexionAgrupada c = it.next();
+                if (c.milisDesdeUltimoUso() < inactividadMaximaMs) break;
+                it.remove();
+                total--;
+                desalojadas.add(c);
+            }
+
+            for (ConexionAgrupada c : prestadas) {
+                if (c.milisPrestada() >= umbralFugaMs && c.marcarFugaReportada()) {
+                    sospechosas.add(c);
+                }
+            }
+
+            faltantes = Math.max(0, minimo - total);
+            total += faltantes;
+        } finally {
+            lock.unlock();
+        }
+
+        for (ConexionAgrupada c : desalojadas) {
+            c.cerrarFisica();
+        }
+
+        for (ConexionAgrupada c : sospechosas) {
+            fugasDetectadas.incrementAndGet();
+            System.err.println("Posible fuga de conexión: prestada hace "
+                    + c.milisPrestada() + " ms sin devolverse. Préstamo realizado en:");
+            Throwable origen = c.getOrigenPrestamo();
+            if (origen != null) {
+                origen.printStackTrace();
+            }
+        }
+
+        for (int i = 0; i < faltantes; i++) {
+            try {
+                ConexionAgrupada nueva = crearConexion();
+                lock.lock();
+                try {
+                    if (cerrado) {
+                        total--;
+                        nueva.cerrarFisica();
+                    } else {
+                        inactivas.addLast(nueva);
+                        disponible.signal();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } catch (SQLException e) {
+                // crearConexion ya descontó el cupo; se reintenta en el próximo ciclo
+                System.err.println("No se pudo abrir conexión de reserva: " + e.getMessage());
+                lock.lock();
+                try {
+                    total -= faltantes - i - 1;
+                } finally {
+                    lock.unlock();
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Cierra las conexiones inactivas y detiene el mantenimiento.
+     * Las prestadas se cierran al devolverse.
+     */
+    public void cerrar() {
+        List<ConexionAgrupada> aCerrar;
+        lock.lock();
+        try {
+            cerrado = true;
+            aCerrar = new ArrayList<>(inactivas);
+            total -= inactivas.size();
+            inactivas.clear();
+            disponible.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        mantenimiento.shutdownNow();
+        for (ConexionAgrupada c : aCerrar) {
+            c.cerrarFisica();
+        }
+    }
+
+    // ─── Métricas ───
+
+    public int getActivas() {
+        lock.lock();
+        try {
+            return prestadas.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInactivas() {
+        lock.lock();
+        try {
+            return inactivas.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getTotal() {
+        lock.lock();
+        try {
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void contarSentencia(boolean reutilizada) {
+        (reutilizada ? sentenciasReutilizadas : sentenciasPreparadas).incrementAndGet();
+    }
+
+    int getCapacidadCacheSentencias() { return capacidadCacheSentencias; }
+
+    public int getMinimo() { return minimo; }
+    public int getMaximo() { return maximo; }
+    public long getPrestamos() { return prestamos.get(); }
+    public long getConexionesCreadas() { return conexionesCreadas.get(); }
+    public long getValidacionesFallidas() { return validacionesFallidas.get(); }
+    public long getFugasDetectadas() { return fugasDetectadas.get(); }
+
+    /** Aciertos de la caché de sentencias (sumados sobre todas las conexiones). */
+    public long getSentenciasReutilizadas() { return sentenciasReutilizadas.get(); }
+
+    /** Fallos de la caché: sentencias que hubo que preparar de nuevo. */
+    public long getSentenciasPreparadas() { return sentenciasPreparadas.get(); }
+
+    public double getTasaAciertoSentencias() {
+        long aciertos = sentenciasReutilizadas.get();
+        long total = aciertos + sentenciasPreparadas.get();
+        return total == 0 ? 0 : (double) aciertos / total;
+    }
+
+    public long getEsperaTotalMs() {
+        return TimeUnit.NANOSECONDS.toMillis(esperaTotalNanos.get());
+    }
+
+    public long getEsperaMaximaMs() {
+        return TimeUnit.NANOSECONDS.toMillis(esperaMaximaNanos.get());
+    }
+
+    public double getEsperaPromedioMs() {
+        long n = prestamos.get();
+        return n == 0 ? 0 : esperaTotalNanos.get() / 1_000_000.0 / n;
+    }
+
+    /** Resumen legible de las métricas, útil para logs. */
+    public String resumen() {
+        return String.format("Pool BD: activas=%d, inactivas=%d, total=%d/%d, préstamos=%d, "
+                        + "espera prom=%.1f ms, espera máx=%d ms, creadas=%d, inválidas=%d, fugas=%d, "
+                        + "sentencias reutilizadas=%d, preparadas=%d (acierto %.0f%%)",
+                getActivas(), getInactivas(), getTotal(), maximo, getPrestamos(),
+                getEsperaPromedioMs(), getEsperaMaximaMs(), getConexionesCreadas(),
+                getValidacionesFallidas(), getFugasDetectadas(),
+                getSentenciasReutilizadas(), getSentenciasPreparadas(),
+                getTasaAciertoSentencias() * 100);
+    }
+}
@@ -0,0 +1,103 @@
+package Logica.DAO;
+
+import Logica.Entidades.PeriodoAcademico;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché compartida por toda la aplicación con los periodos académicos.
+ * Son pocos y casi no cambian, pero se consultan desde muchas pantallas (proyectos,
+ * reportes, formularios), así que se leen una vez y se sirven desde memoria.
+ *
+ * La llena {@link PeriodoAcademicoDAO} (lectura a través de la caché) y la invalida
+ * al guardar un periodo; la siguiente consulta vuelve a leer la tabla.
+ * También recuerda los códigos que se buscaron y no existían, para no volver a
+ * consultar la base por cada uno hasta la próxima carga.
+ * Los periodos en caché son instancias compartidas: no deben modificarse.
+ */
+public final class CachePeriodos {
+
+    /** Periodos por código, en orden de fecha_inicio descendente; null = sin cargar */
+    private static volatile Map<String, PeriodoAcademico> porCodigo;
+
+    /** Códigos ya comprobados que no existen en la base; se vacía en cada carga */
+    private static volatile Set<String> desconocidos = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong aciertos = new AtomicLong();
+    private static final AtomicLong fallos = new AtomicLong();
+
+    private CachePeriodos() {
+    }
+
+    // ─── Uso desde los DAO ───
+
+    /** Todos los periodos, o null si la caché no está cargada. No cuenta aciertos. */
+    static List<PeriodoAcademico> todos() {
+        Map<String, PeriodoAcademico> actual = porCodigo;
+        return actual != null ? List.copyOf(actual.values()) : null;
+    }
+
+    /**
+     * Periodo con ese código si está en caché. Cuenta un acierto o un fallo;
+     * un fallo puede ser caché sin cargar o un periodo creado desde otro equipo.
+     */
+    static PeriodoAcademico obtener(String codigo) {
+        Map<String, PeriodoAcademico> actual = porCodigo;
+        PeriodoAcademico periodo = actual != null ? actual.get(codigo) : null;
+        contar(periodo != null);
+        return periodo;
+    }
+
+    /** Reemplaza el contenido con los periodos recién leídos de la base. */
+    static void cargar(List<PeriodoAcademico> periodos) {
+        Map<String, PeriodoAcademico> nuevo = new LinkedHashMap<>();
+        for (PeriodoAcademico p : periodos) {
+            nuevo.put(p.getCodigo(), p);
+        }
+        porCodigo = nuevo;
+        desconocidos = ConcurrentHashMap.newKeySet();
+    }
+
+    /** true si el código ya se buscó en la base desde la última carga y no existía. */
+    static boolean esDesconocido(String codigo) {
+        return desconocidos.contains(codigo);
+    }
+
+    static void marcarDesconocido(String codigo) {
+        desconocidos.add(codigo);
+    }
+
+    static void contar(boolean acierto) {
+        (acierto ? aciertos : fallos).incrementAndGet();
+    }
+
+    /** Descarta la caché; la próxima consulta la vuelve a llenar desde la base. */
+    public static void invalidar() {
+        porCodigo = null;
+        desconocidos = ConcurrentHashMap.newKeySet();
+    }
+
+    // ─── Métricas ───
+
+    public static long getAciertos() { return aciertos.get(); }
+    public static long getFallos() { return fallos.get(); }
+
+    public static double getTasaAcierto() {
+        long a = aciertos.get();
+        long total = a + fallos.get();
+        return total == 0 ? 0 : (double) a / total;
+    }
+
+    /** Resumen legible de las métricas, útil para logs. */
+    public static String resumen() {
+        Map<String, PeriodoAcademico> actual = porCodigo;
+        return String.format("Caché periodos: %s, aciertos=%d, fallos=%d (acierto %.0f%%)",
+                actual != null ? actual.size() + " periodos" : "sin cargar",
+                getAciertos(), getFallos(), getTasaAcierto() * 100);
+    }
+}
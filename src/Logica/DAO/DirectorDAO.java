@@ -7,18 +7,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class DirectorDAO {
-    private Connection connection;
-
-    public DirectorDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-    }
-
     public List<Director> obtenerTodos() throws SQLException {
         List<Director> directores = new ArrayList<>();
         String sql = "SELECT * FROM public.director ORDER BY apellidos, nombres";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 directores.add(mapResultSet(rs));
             }
@@ -28,7 +23,8 @@ public class DirectorDAO {
 
     public Director obtenerPorCedula(String cedula) throws SQLException {
         String sql = "SELECT * FROM public.director WHERE cedula = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedula);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -40,7 +36,8 @@ public class DirectorDAO {
 
     public Director obtenerPorIdUsuario(int idUsuario) throws SQLException {
         String sql = "SELECT * FROM public.director WHERE id_usuario = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idUsuario);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -52,7 +49,8 @@ public class DirectorDAO {
 
     public boolean guardar(Director director) throws SQLException {
         String sql = "INSERT INTO public.director (cedula, id_usuario, nombres, apellidos, correo) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, director.getCedula());
             stmt.setInt(2, director.getIdUsuario());
             stmt.setString(3, director.getNombres());
@@ -64,7 +62,8 @@ public class DirectorDAO {
 
     public boolean actualizar(Director director) throws SQLException {
         String sql = "UPDATE public.director SET nombres = ?, apellidos = ?, correo = ? WHERE cedula = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, director.getNombres());
             stmt.setString(2, director.getApellidos());
             stmt.setString(3, director.getCorreo());
@@ -75,7 +74,8 @@ public class DirectorDAO {
 
     public boolean eliminar(String cedula) throws SQLException {
         String sql = "DELETE FROM public.director WHERE cedula = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedula);
             return stmt.executeUpdate() > 0;
         }
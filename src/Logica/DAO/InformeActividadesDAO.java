@@ -1,36 +1,32 @@
 package Logica.DAO;
 
 import Logica.Conexiones.ConexionBD;
+import Logica.Conexiones.GestorTransacciones;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.EstadoInforme;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class InformeActividadesDAO {
-    private Connection connection;
-
-    public InformeActividadesDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-    }
-
     /**
-     * Guarda un informe completo con sus semanas
+     * Guarda un informe completo con sus semanas en una sola transacción.
+     * Los ids generados se asignan al informe y a sus semanas solo cuando la
+     * transacción se confirma; si se revierte, el objeto queda como estaba.
      */
     public boolean guardar(InformeActividades informe) throws SQLException {
-        boolean autoCommitOriginal = connection.getAutoCommit();
-
-        try {
-            connection.setAutoCommit(false);
-
+        return GestorTransacciones.ejecutar(() -> {
             // 1. Insertar cabecera del informe
             String sqlInforme = "INSERT INTO informe_actividades " +
                     "(fecha_registro, cedula_personal, id_proyecto, estado) " +
                     "VALUES (?, ?, ?, ?) RETURNING id_informe";
 
             int idInformeGenerado;
-            try (PreparedStatement stmt = connection.prepareStatement(sqlInforme)) {
+            try (Connection conn = ConexionBD.conectar();
+                 PreparedStatement stmt = conn.prepareStatement(sqlInforme)) {
                 stmt.setDate(1, Date.valueOf(informe.getFechaRegistro()));
                 stmt.setString(2, informe.getPersonalDeInvestigacion().getCedula());
                 stmt.setInt(3, informe.getProyecto().getId());
@@ -43,270 +39,442 @@ public class InformeActividadesDAO {
                 ResultSet rs = stmt.executeQuery();
                 if (rs.next()) {
                     idInformeGenerado = rs.getInt(1);
-                    informe.setIdInforme(idInformeGenerado);
                 } else {
                     throw new SQLException("Error: No se generó ID para el informe.");
                 }
             }
 
-            // 2. Insertar cada semana
-            for (SemanaActividades semana : informe.getSemanas()) {
-                guardarSemana(semana, idInformeGenerado);
-            }
+            // 2. Insertar todas las semanas de una vez
+            List<SemanaActividades> semanas = List.copyOf(informe.getSemanas());
+            List<Integer> idsSemanas = guardarSemanas(semanas, idInformeGenerado);
 
-            connection.commit();
+            GestorTransacciones.alConfirmar(() -> {
+                informe.setIdInforme(idInformeGenerado);
+                asignarIds(semanas, idsSemanas);
+                semanas.forEach(SemanaActividades::marcarGuardada);
+            });
             return true;
-
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(autoCommitOriginal);
-        }
+        });
     }
 
     /**
-     * Guarda una semana individual y la vincula al informe
+     * Guarda las semanas nuevas de un informe y las vincula a él con dos sentencias,
+     * sin importar cuántas sean: un INSERT de varias filas que devuelve los ids y
+     * un INSERT sobre unnest para la tabla de relación.
+     *
+     * PostgreSQL no garantiza que RETURNING siga el orden de VALUES, así que cada
+     * id se asocia por su nro_semana, que debe ser distinto en todas las semanas.
+     * Las semanas no se modifican: el llamador asigna los ids al confirmar.
+     *
+     * @return id generado de cada semana, en el mismo orden que {@code semanas}
      */
-    private void guardarSemana(SemanaActividades semana, int idInforme) throws SQLException {
-        // Insertar semana
-        String sqlSemana = "INSERT INTO semana_actividades " +
-                "(nro_semana, fechas, horas_inicio, horas_salida, " +
-                "actividad_semanal, observaciones) " +
-                "VALUES (?, ?, ?, ?, ?, ?) RETURNING id";
-
-        int idSemanaGenerada;
-        try (PreparedStatement stmt = connection.prepareStatement(sqlSemana)) {
-            stmt.setInt(1, semana.getNumeroSemana());
-
-            // Convertir arrays para PostgreSQL
-            java.util.Date[] utilDates = semana.getFechas();
-            java.sql.Date[] sqlDates = new java.sql.Date[utilDates.length];
-            for (int i = 0; i < utilDates.length; i++) {
-                if (utilDates[i] != null) {
-                    sqlDates[i] = new java.sql.Date(utilDates[i].getTime());
-                }
+    private List<Integer> guardarSemanas(List<SemanaActividades> semanas, int idInforme) throws SQLException {
+        if (semanas.isEmpty()) return List.of();
+
+        Map<Integer, Integer> posicionPorNumero = new HashMap<>();
+        for (int i = 0; i < semanas.size(); i++) {
+            SemanaActividades semana = semanas.get(i);
+            if (posicionPorNumero.put(semana.getNumeroSemana(), i) != null) {
+                throw new SQLException("Error al guardar semanas: el número de semana "
+                        + semana.getNumeroSemana() + " está repetido");
             }
+        }
 
-            stmt.setArray(2, connection.createArrayOf("DATE", sqlDates));
-            stmt.setArray(3, connection.createArrayOf("TIME", semana.getHorasInicio()));
-            stmt.setArray(4, connection.createArrayOf("TIME", semana.getHorasSalida()));
-            stmt.setString(5, semana.getActividadSemanal());
-            stmt.setString(6, semana.getObservaciones());
+        // Insertar todas las semanas
+        StringBuilder sqlSemanas = new StringBuilder("INSERT INTO semana_actividades " +
+                "(nro_semana, fechas, horas_inicio, horas_salida, " +
+                "actividad_semanal, observaciones) VALUES ");
+        for (int i = 0; i < semanas.size(); i++) {
+            sqlSemanas.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?)");
+        }
+        sqlSemanas.append(" RETURNING id, nro_semana");
+
+        Integer[] idsGenerados = new Integer[semanas.size()];
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sqlSemanas.toString())) {
+            int p = 1;
+            for (SemanaActividades semana : semanas) {
+                stmt.setInt(p++, semana.getNumeroSemana());
+                stmt.setArray(p++, conn.createArrayOf("DATE", aFechasSql(semana.getFechas())));
+                stmt.setArray(p++, conn.createArrayOf("TIME", semana.getHorasInicio()));
+                stmt.setArray(p++, conn.createArrayOf("TIME", semana.getHorasSalida()));
+                stmt.setString(p++, semana.getActividadSemanal());
+                stmt.setString(p++, semana.getObservaciones());
+            }
 
             ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                idSemanaGenerada = rs.getInt(1);
-                semana.setId(idSemanaGenerada);
-            } else {
-                throw new SQLException("Error al guardar semana");
+            int i = 0;
+            while (rs.next() && i < idsGenerados.length) {
+                idsGenerados[posicionPorNumero.get(rs.getInt("nro_semana"))] = rs.getInt("id");
+                i++;
+            }
+            if (i != idsGenerados.length) {
+                throw new SQLException("Error al guardar semanas: se esperaban " +
+                        idsGenerados.length + " ids y se generaron " + i);
             }
         }
 
-        // Crear relación informe-semana
-        String sqlRelacion = "INSERT INTO informe_semana (id_informe, id_semana) VALUES (?, ?)";
-        try (PreparedStatement stmt = connection.prepareStatement(sqlRelacion)) {
+        // Crear todas las relaciones informe-semana
+        String sqlRelacion = "INSERT INTO informe_semana (id_informe, id_semana) " +
+                "SELECT ?, unnest(?::integer[])";
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sqlRelacion)) {
             stmt.setInt(1, idInforme);
-            stmt.setInt(2, idSemanaGenerada);
+            stmt.setArray(2, conn.createArrayOf("integer", idsGenerados));
             stmt.executeUpdate();
         }
+        return List.of(idsGenerados);
+    }
+
+    private static void asignarIds(List<SemanaActividades> semanas, List<Integer> ids) {
+        for (int i = 0; i < semanas.size(); i++) {
+            semanas.get(i).setId(ids.get(i));
+        }
+    }
+
+    /** Convierte las fechas de la semana al tipo que espera el arreglo DATE de PostgreSQL. */
+    private static java.sql.Date[] aFechasSql(java.util.Date[] utilDates) {
+        java.sql.Date[] sqlDates = new java.sql.Date[utilDates.length];
+        for (int i = 0; i < utilDates.length; i++) {
+            if (utilDates[i] != null) {
+                sqlDates[i] = new java.sql.Date(utilDates[i].getTime());
+            }
+        }
+        return sqlDates;
     }
 
     /**
-     * Actualiza una semana existente
+     * Escribe las semanas existentes que cambiaron, en un solo lote
      */
-    private void actualizarSemana(SemanaActividades semana) throws SQLException {
+    private void actualizarSemanas(List<SemanaActividades> semanas) throws SQLException {
+        if (semanas.isEmpty()) return;
+
         String sql = "UPDATE semana_actividades SET " +
                 "nro_semana = ?, fechas = ?, horas_inicio = ?, horas_salida = ?, " +
                 "actividad_semanal = ?, observaciones = ? WHERE id = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, semana.getNumeroSemana());
-
-            // Convertir arrays para PostgreSQL
-            java.util.Date[] utilDates = semana.getFechas();
-            java.sql.Date[] sqlDates = new java.sql.Date[utilDates.length];
-            for (int i = 0; i < utilDates.length; i++) {
-                if (utilDates[i] != null) {
-                    sqlDates[i] = new java.sql.Date(utilDates[i].getTime());
-                }
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (SemanaActividades semana : semanas) {
+                stmt.setInt(1, semana.getNumeroSemana());
+                stmt.setArray(2, conn.createArrayOf("DATE", aFechasSql(semana.getFechas())));
+                stmt.setArray(3, conn.createArrayOf("TIME", semana.getHorasInicio()));
+                stmt.setArray(4, conn.createArrayOf("TIME", semana.getHorasSalida()));
+                stmt.setString(5, semana.getActividadSemanal());
+                stmt.setString(6, semana.getObservaciones());
+                stmt.setInt(7, semana.getId());
+                stmt.addBatch();
             }
-
-            stmt.setArray(2, connection.createArrayOf("DATE", sqlDates));
-            stmt.setArray(3, connection.createArrayOf("TIME", semana.getHorasInicio()));
-            stmt.setArray(4, connection.createArrayOf("TIME", semana.getHorasSalida()));
-            stmt.setString(5, semana.getActividadSemanal());
-            stmt.setString(6, semana.getObservaciones());
-            stmt.setInt(7, semana.getId());
-
-            stmt.executeUpdate();
+            stmt.executeBatch();
         }
     }
 
     /**
-     * Actualiza el informe completo: estado y semanas
+     * Actualiza el informe completo (estado y semanas) en una sola transacción.
+     * Solo viajan los cambios: semanas nuevas, semanas modificadas y semanas
+     * quitadas; las que no cambiaron no se envían.
+     *
+     * La cabecera se actualiza solo si su versión sigue siendo la que se leyó; si
+     * otro usuario guardó antes, se lanza SQLException y no se escribe nada.
      */
     public boolean actualizar(InformeActividades informe) throws SQLException {
-        boolean autoCommitOriginal = connection.getAutoCommit();
-
-        try {
-            connection.setAutoCommit(false);
-
-            // 1. Actualizar estado del informe
-            String sqlInforme = "UPDATE informe_actividades SET estado = ? WHERE id_informe = ?";
-            try (PreparedStatement stmt = connection.prepareStatement(sqlInforme)) {
+        return GestorTransacciones.ejecutar(() -> {
+            // 1. Actualizar estado del informe, comprobando la versión leída
+            String sqlInforme = "UPDATE informe_actividades SET estado = ?, version = version + 1 " +
+                    "WHERE id_informe = ? AND version = ?";
+            try (Connection conn = ConexionBD.conectar();
+                 PreparedStatement stmt = conn.prepareStatement(sqlInforme)) {
                 stmt.setString(1, informe.getEstado().name());
                 stmt.setInt(2, informe.getIdInforme());
-                stmt.executeUpdate();
-            }
-
-            // 2. Obtener IDs de semanas actuales en BD
-            List<Integer> semanasExistentesIds = new ArrayList<>();
-            String sqlGetSemanas = "SELECT id_semana FROM informe_semana WHERE id_informe = ?";
-            try (PreparedStatement stmt = connection.prepareStatement(sqlGetSemanas)) {
-                stmt.setInt(1, informe.getIdInforme());
-                ResultSet rs = stmt.executeQuery();
-                while (rs.next()) {
-                    semanasExistentesIds.add(rs.getInt("id_semana"));
+                stmt.setInt(3, informe.getVersion());
+                if (stmt.executeUpdate() == 0) {
+                    throw new SQLException("El informe fue modificado por otro usuario. " +
+                            "Vuelva a abrirlo para ver los cambios.");
                 }
             }
 
-            // 3. Actualizar o insertar cada semana
-            List<Integer> semanasActualizadas = new ArrayList<>();
+            // 2. Separar las semanas en nuevas y modificadas
+            List<SemanaActividades> nuevas = new ArrayList<>();
+            List<SemanaActividades> modificadas = new ArrayList<>();
+            List<Integer> conservadas = new ArrayList<>();
             for (SemanaActividades semana : informe.getSemanas()) {
-                if (semana.getId() > 0 && semanasExistentesIds.contains(semana.getId())) {
-                    // Actualizar semana existente
-                    actualizarSemana(semana);
-                    semanasActualizadas.add(semana.getId());
+                if (semana.getId() <= 0) {
+                    nuevas.add(semana);
                 } else {
-                    // Insertar nueva semana
-                    guardarSemana(semana, informe.getIdInforme());
-                    semanasActualizadas.add(semana.getId());
+                    conservadas.add(semana.getId());
+                    if (semana.isModificada()) modificadas.add(semana);
                 }
             }
 
-            // 4. Eliminar semanas que ya no están en el informe
-            for (Integer idSemanaExistente : semanasExistentesIds) {
-                if (!semanasActualizadas.contains(idSemanaExistente)) {
-                    // Eliminar relación
-                    String sqlDelRelacion = "DELETE FROM informe_semana WHERE id_informe = ? AND id_semana = ?";
-                    try (PreparedStatement stmt = connection.prepareStatement(sqlDelRelacion)) {
-                        stmt.setInt(1, informe.getIdInforme());
-                        stmt.setInt(2, idSemanaExistente);
-                        stmt.executeUpdate();
-                    }
-
-                    // Eliminar semana
-                    String sqlDelSemana = "DELETE FROM semana_actividades WHERE id = ?";
-                    try (PreparedStatement stmt = connection.prepareStatement(sqlDelSemana)) {
-                        stmt.setInt(1, idSemanaExistente);
-                        stmt.executeUpdate();
-                    }
-                }
-            }
-
-            connection.commit();
+            // 3. Eliminar las semanas que ya no están en el informe
+            eliminarSemanasQuitadas(informe.getIdInforme(), conservadas);
+
+            // 4. Escribir las modificadas y agregar las nuevas
+            actualizarSemanas(modificadas);
+            List<Integer> idsNuevas = guardarSemanas(nuevas, informe.getIdInforme());
+
+            // 5. Reflejar en memoria solo si la transacción se confirma
+            int versionNueva = informe.getVersion() + 1;
+            List<SemanaActividades> semanas = List.copyOf(informe.getSemanas());
+            GestorTransacciones.alConfirmar(() -> {
+                asignarIds(nuevas, idsNuevas);
+                informe.setVersion(versionNueva);
+                semanas.forEach(SemanaActividades::marcarGuardada);
+            });
             return true;
+        });
+    }
+
+    /**
+     * Quita del informe las semanas cuyo id no está en {@code conservadas}: primero
+     * la relación (devolviendo los ids) y luego las semanas, con una sentencia cada una.
+     */
+    private void eliminarSemanasQuitadas(int idInforme, List<Integer> conservadas) throws SQLException {
+        List<Integer> quitadas = new ArrayList<>();
+        String sqlDelRelacion = "DELETE FROM informe_semana " +
+                "WHERE id_informe = ? AND id_semana <> ALL(?) RETURNING id_semana";
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sqlDelRelacion)) {
+            stmt.setInt(1, idInforme);
+            stmt.setArray(2, conn.createArrayOf("integer", conservadas.toArray()));
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                quitadas.add(rs.getInt(1));
+            }
+        }
+        if (quitadas.isEmpty()) return;
 
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(autoCommitOriginal);
+        String sqlDelSemanas = "DELETE FROM semana_actividades WHERE id = ANY(?)";
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sqlDelSemanas)) {
+            stmt.setArray(1, conn.createArrayOf("integer", quitadas.toArray()));
+            stmt.executeUpdate();
         }
     }
 
+    // ─── Lectura ───
+
+    private static final String SQL_CABECERA = "SELECT i.*, " +
+            "p.cedula, p.nombres, p.apellidos, p.tipo, p.id_proyecto AS id_proyecto_personal, p.id_usuario " +
+            "FROM informe_actividades i " +
+            "JOIN personaldeinvestigacion p ON i.cedula_personal = p.cedula ";
+
     /**
      * Obtiene un informe por ID con todas sus semanas
      */
     public InformeActividades obtenerPorId(int idInforme) throws SQLException {
-        InformeActividades informe = null;
+        List<InformeActividades> informes = cargarInformes(
+                SQL_CABECERA + "WHERE i.id_informe = ?",
+                stmt -> stmt.setInt(1, idInforme));
+        return informes.isEmpty() ? null : informes.get(0);
+    }
 
-        // Primero obtener la cabecera
-        String sqlCabecera = "SELECT i.*, " +
-                "p.cedula, p.nombres, p.apellidos, p.tipo, p.id_proyecto, p.id_usuario " +
-                "FROM informe_actividades i " +
-                "JOIN personaldeinvestigacion p ON i.cedula_personal = p.cedula " +
-                "WHERE i.id_informe = ?";
+    /**
+     * Obtiene todos los informes de un personal específico
+     */
+    public List<InformeActividades> obtenerPorPersonal(String cedula) throws SQLException {
+        return cargarInformes(
+                SQL_CABECERA + "WHERE i.cedula_personal = ? ORDER BY i.id_informe",
+                stmt -> stmt.setString(1, cedula));
+    }
 
-        try (PreparedStatement stmt = connection.prepareStatement(sqlCabecera)) {
-            stmt.setInt(1, idInforme);
+    /**
+     * Obtiene informes pendientes de revisión para un director
+     */
+    public List<InformeActividades> obtenerPendientesDeRevision(int idProyecto) throws SQLException {
+        return cargarInformes(
+                SQL_CABECERA + "WHERE i.id_proyecto = ? AND i.estado = ? ORDER BY i.id_informe",
+                stmt -> {
+                    stmt.setInt(1, idProyecto);
+                    stmt.setString(2, EstadoInforme.ENVIADO.name());
+                });
+    }
+
+    /**
+     * Listado paginado de informes con una sola consulta: datos del personal,
+     * nombre del proyecto, número de semanas y horas totales calculadas en SQL.
+     * Las horas cuentan cada día con fecha, hora de inicio y hora de salida.
+     * Orden: más recientes primero.
+     */
+    public List<ResumenInforme> obtenerResumenes(FiltroInformes filtro) throws SQLException {
+        StringBuilder sql = new StringBuilder(
+                "SELECT i.id_informe, i.fecha_registro, i.estado, i.cedula_personal, i.id_proyecto, " +
+                "p.nombres, p.apellidos, pr.nombre AS nombre_proyecto, " +
+                "COALESCE(h.num_semanas, 0) AS num_semanas, COALESCE(h.horas, 0) AS horas_totales " +
+                "FROM informe_actividades i " +
+                "JOIN personaldeinvestigacion p ON p.cedula = i.cedula_personal " +
+                "LEFT JOIN proyecto pr ON pr.id_proyecto = i.id_proyecto " +
+                "LEFT JOIN LATERAL (" +
+                "  SELECT COUNT(DISTINCT s.id) AS num_semanas, " +
+                "         SUM(EXTRACT(EPOCH FROM (d.hs - d.hi)) / 3600.0) AS horas " +
+                "  FROM informe_semana iso " +
+                "  JOIN semana_actividades s ON s.id = iso.id_semana " +
+                "  LEFT JOIN LATERAL unnest(s.fechas, s.horas_inicio, s.horas_salida) AS d(f, hi, hs) " +
+                "    ON d.f IS NOT NULL AND d.hi IS NOT NULL AND d.hs IS NOT NULL " +
+                "  WHERE iso.id_informe = i.id_informe" +
+                ") h ON true " +
+                "WHERE 1 = 1");
+
+        List<Object> valores = new ArrayList<>();
+        if (filtro.getIdProyecto() > 0) {
+            sql.append(" AND i.id_proyecto = ?");
+            valores.add(filtro.getIdProyecto());
+        }
+        if (filtro.getEstado() != null) {
+            sql.append(" AND i.estado = ?");
+            valores.add(filtro.getEstado().name());
+        }
+        if (filtro.getDesde() != null) {
+            sql.append(" AND i.fecha_registro >= ?");
+            valores.add(Date.valueOf(filtro.getDesde()));
+        }
+        if (filtro.getHasta() != null) {
+            sql.append(" AND i.fecha_registro <= ?");
+            valores.add(Date.valueOf(filtro.getHasta()));
+        }
+        if (filtro.getCedulaPersonal() != null) {
+            sql.append(" AND i.cedula_personal = ?");
+            valores.add(filtro.getCedulaPersonal());
+        }
+        sql.append(" ORDER BY i.fecha_registro DESC, i.id_informe DESC LIMIT ? OFFSET ?");
+        valores.add(filtro.getLimite());
+        valores.add(filtro.getDesplazamiento());
+
+        List<ResumenInforme> resumenes = new ArrayList<>();
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < valores.size(); i++) {
+                stmt.setObject(i + 1, valores.get(i));
+            }
             ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                resumenes.add(mapResultSetResumen(rs));
+            }
+        }
+        return resumenes;
+    }
+
+    @FunctionalInterface
+    private interface Parametros {
+        void asignar(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Carga informes completos en dos consultas: una para las cabeceras (con su
+     * personal) y otra para todas sus semanas, que se reparten en memoria.
+     */
+    private List<InformeActividades> cargarInformes(String sqlCabecera, Parametros parametros) throws SQLException {
+        List<InformeActividades> informes = new ArrayList<>();
+
+        try (Connection conn = ConexionBD.conectar()) {
+            try (PreparedStatement stmt = conn.prepareStatement(sqlCabecera)) {
+                parametros.asignar(stmt);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    informes.add(mapResultSetCabecera(rs));
+                }
+            }
 
-            if (rs.next()) {
-                informe = new InformeActividades();
-                informe.setIdInforme(rs.getInt("id_informe"));
-                informe.setFechaRegistro(rs.getDate("fecha_registro").toLocalDate());
-                informe.setEstado(EstadoInforme.fromString(rs.getString("estado")));
-
-                // Crear personal
-                PersonalDeInvestigacion personal = crearPersonalPorTipo(rs.getString("tipo"));
-                personal.setIdUsuario(rs.getInt("id_usuario"));
-                personal.setCedula(rs.getString("cedula"));
-                personal.setNombres(rs.getString("nombres"));
-                personal.setApellidos(rs.getString("apellidos"));
-                personal.setIdProyecto(rs.getInt("id_proyecto"));
-                informe.setPersonalDeInvestigacion(personal);
-
-                // Cargar semanas
-                List<SemanaActividades> semanas = cargarSemanasDelInforme(idInforme);
-                informe.setSemanas(semanas);
+            if (!informes.isEmpty()) {
+                cargarSemanasDeInformes(conn, informes);
             }
         }
 
-        return informe;
+        return informes;
     }
 
     /**
-     * Carga todas las semanas de un informe
+     * Carga las semanas de varios informes con una sola consulta (id_informe = ANY)
      */
-    private List<SemanaActividades> cargarSemanasDelInforme(int idInforme) throws SQLException {
-        List<SemanaActividades> semanas = new ArrayList<>();
+    private void cargarSemanasDeInformes(Connection conn, List<InformeActividades> informes) throws SQLException {
+        Map<Integer, InformeActividades> porId = new HashMap<>();
+        for (InformeActividades informe : informes) {
+            porId.put(informe.getIdInforme(), informe);
+        }
 
-        String sql = "SELECT s.* FROM semana_actividades s " +
+        String sql = "SELECT iso.id_informe, s.* FROM semana_actividades s " +
                 "JOIN informe_semana iso ON s.id = iso.id_semana " +
-                "WHERE iso.id_informe = ? ORDER BY s.nro_semana";
+                "WHERE iso.id_informe = ANY(?) ORDER BY iso.id_informe, s.nro_semana";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, idInforme);
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setArray(1, conn.createArrayOf("integer", porId.keySet().toArray()));
             ResultSet rs = stmt.executeQuery();
 
             while (rs.next()) {
-                SemanaActividades semana = new SemanaActividades();
-                semana.setId(rs.getInt("id"));
-                semana.setNumeroSemana(rs.getInt("nro_semana"));
-                semana.setActividadSemanal(rs.getString("actividad_semanal"));
-                semana.setObservaciones(rs.getString("observaciones"));
-
-                // Convertir arrays de PostgreSQL
-                Array sqlFechas = rs.getArray("fechas");
-                Array sqlInicio = rs.getArray("horas_inicio");
-                Array sqlFin = rs.getArray("horas_salida");
-
-                if (sqlFechas != null) {
-                    java.sql.Date[] dbDates = (java.sql.Date[]) sqlFechas.getArray();
-                    java.util.Date[] utilDates = new java.util.Date[dbDates.length];
-                    for (int i = 0; i < dbDates.length; i++) {
-                        if (dbDates[i] != null) {
-                            utilDates[i] = new java.util.Date(dbDates[i].getTime());
-                        }
-                    }
-                    semana.setFechas(utilDates);
+                InformeActividades informe = porId.get(rs.getInt("id_informe"));
+                if (informe != null) {
+                    informe.getSemanas().add(mapResultSetSemana(rs));
                 }
+            }
+        }
+    }
 
-                if (sqlInicio != null) {
-                    semana.setHorasInicio((Time[]) sqlInicio.getArray());
-                }
+    private InformeActividades mapResultSetCabecera(ResultSet rs) throws SQLException {
+        InformeActividades informe = new InformeActividades();
+        informe.setIdInforme(rs.getInt("id_informe"));
+        informe.setFechaRegistro(rs.getDate("fecha_registro").toLocalDate());
+        informe.setEstado(EstadoInforme.fromString(rs.getString("estado")));
+        informe.setVersion(rs.getInt("version"));
+
+        // Crear personal
+        PersonalDeInvestigacion personal = crearPersonalPorTipo(rs.getString("tipo"));
+        personal.setIdUsuario(rs.getInt("id_usuario"));
+        personal.setCedula(rs.getString("cedula"));
+        personal.setNombres(rs.getString("nombres"));
+        personal.setApellidos(rs.getString("apellidos"));
+        personal.setIdProyecto(rs.getInt("id_proyecto_personal"));
+        informe.setPersonalDeInvestigacion(personal);
+        return informe;
+    }
 
-                if (sqlFin != null) {
-                    semana.setHorasSalida((Time[]) sqlFin.getArray());
-                }
+    private ResumenInforme mapResultSetResumen(ResultSet rs) throws SQLException {
+        ResumenInforme resumen = new ResumenInforme();
+        resumen.setIdInforme(rs.getInt("id_informe"));
+        resumen.setFechaRegistro(rs.getDate("fecha_registro").toLocalDate());
+        resumen.setEstado(EstadoInforme.fromString(rs.getString("estado")));
+        resumen.setCedulaPersonal(rs.getString("cedula_personal"));
+        resumen.setNombresPersonal(rs.getString("nombres"));
+        resumen.setApellidosPersonal(rs.getString("apellidos"));
+        resumen.setIdProyecto(rs.getInt("id_proyecto"));
+        resumen.setNombreProyecto(rs.getString("nombre_proyecto"));
+        resumen.setNumeroSemanas(rs.getInt("num_semanas"));
+        resumen.setHorasTotales(rs.getDouble("horas_totales"));
+        return resumen;
+    }
 
-                semanas.add(semana);
+    private SemanaActividades mapResultSetSemana(ResultSet rs) throws SQLException {
+        SemanaActividades semana = new SemanaActividades();
+        semana.setId(rs.getInt("id"));
+        semana.setNumeroSemana(rs.getInt("nro_semana"));
+        semana.setActividadSemanal(rs.getString("actividad_semanal"));
+        semana.setObservaciones(rs.getString("observaciones"));
+
+        // Convertir arrays de PostgreSQL
+        Array sqlFechas = rs.getArray("fechas");
+        Array sqlInicio = rs.getArray("horas_inicio");
+        Array sqlFin = rs.getArray("horas_salida");
+
+        if (sqlFechas != null) {
+            java.sql.Date[] dbDates = (java.sql.Date[]) sqlFechas.getArray();
+            java.util.Date[] utilDates = new java.util.Date[dbDates.length];
+            for (int i = 0; i < dbDates.length; i++) {
+                if (dbDates[i] != null) {
+                    utilDates[i] = new java.util.Date(dbDates[i].getTime());
+                }
             }
+            semana.setFechas(utilDates);
+        }
+
+        if (sqlInicio != null) {
+            semana.setHorasInicio((Time[]) sqlInicio.getArray());
+        }
+
+        if (sqlFin != null) {
+            semana.setHorasSalida((Time[]) sqlFin.getArray());
         }
 
-        return semanas;
+        semana.marcarGuardada();
+        return semana;
     }
 
     /**
@@ -323,52 +491,4 @@ public class InformeActividadesDAO {
             return new Tecnico(); // Default
         }
     }
-
-    /**
-     * Obtiene todos los informes de un personal específico
-     */
-    public List<InformeActividades> obtenerPorPersonal(String cedula) throws SQLException {
-        List<InformeActividades> informes = new ArrayList<>();
-        String sql = "SELECT id_informe FROM informe_actividades WHERE cedula_personal = ?";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, cedula);
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                int idInforme = rs.getInt("id_informe");
-                InformeActividades informe = obtenerPorId(idInforme);
-                if (informe != null) {
-                    informes.add(informe);
-                }
-            }
-        }
-
-        return informes;
-    }
-
-    /**
-     * Obtiene informes pendientes de revisión para un director
-     */
-    public List<InformeActividades> obtenerPendientesDeRevision(int idProyecto) throws SQLException {
-        List<InformeActividades> informes = new ArrayList<>();
-        String sql = "SELECT id_informe FROM informe_actividades " +
-                "WHERE id_proyecto = ? AND estado = ?";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, idProyecto);
-            stmt.setString(2, EstadoInforme.ENVIADO.name());
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                int idInforme = rs.getInt("id_informe");
-                InformeActividades informe = obtenerPorId(idInforme);
-                if (informe != null) {
-                    informes.add(informe);
-                }
-            }
-        }
-
-        return informes;
-    }
-}
\ No newline at end of file
+}
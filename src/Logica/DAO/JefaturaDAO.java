@@ -9,18 +9,13 @@ import java.util.List;
 
 public class JefaturaDAO {
 
-    private Connection connection;
-
-    public JefaturaDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-    }
-
     public List<Jefatura> obtenerTodos() throws SQLException {
         List<Jefatura> jefaturas = new ArrayList<>();
         String sql = "SELECT * FROM public.jefatura ORDER BY apellidos, nombres";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 jefaturas.add(mapResultSet(rs));
             }
@@ -30,7 +25,8 @@ public class JefaturaDAO {
 
     public Jefatura obtenerPorCedula(String cedula) throws SQLException {
         String sql = "SELECT * FROM public.jefatura WHERE cedula = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedula);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -42,7 +38,8 @@ public class JefaturaDAO {
 
     public Jefatura obtenerPorIdUsuario(int idUsuario) throws SQLException {
         String sql = "SELECT * FROM public.jefatura WHERE id_usuario = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idUsuario);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -54,7 +51,8 @@ public class JefaturaDAO {
 
     public boolean guardar(Jefatura jefatura) throws SQLException {
         String sql = "INSERT INTO public.jefatura (cedula, id_usuario, nombres, apellidos, correo) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, jefatura.getCedula());
             stmt.setInt(2, jefatura.getIdUsuario());
             stmt.setString(3, jefatura.getNombres());
@@ -66,7 +64,8 @@ public class JefaturaDAO {
 
     public boolean actualizar(Jefatura jefatura) throws SQLException {
         String sql = "UPDATE public.jefatura SET nombres = ?, apellidos = ?, correo = ? WHERE cedula = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, jefatura.getNombres());
             stmt.setString(2, jefatura.getApellidos());
             stmt.setString(3, jefatura.getCorreo());
@@ -77,7 +76,8 @@ public class JefaturaDAO {
 
     public boolean eliminar(String cedula) throws SQLException {
         String sql = "DELETE FROM public.jefatura WHERE cedula = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedula);
             return stmt.executeUpdate() > 0;
         }
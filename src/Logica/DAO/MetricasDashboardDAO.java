@@ -0,0 +1,131 @@
+package Logica.DAO;
+
+import Logica.Conexiones.ConexionBD;
+import Logica.Entidades.*;
+import Logica.Enumeraciones.EstadoInforme;
+import Logica.Enumeraciones.EstadoParticipacion;
+import Logica.Enumeraciones.EstadoProyecto;
+import Logica.Enumeraciones.EstadoReporte;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Datos de los dashboards: los contadores se agregan en el servidor
+ * (COUNT(*) FILTER) y de los elementos pendientes solo se traen los primeros,
+ * así el costo del dashboard no crece con la cantidad de proyectos o personal.
+ */
+public class MetricasDashboardDAO {
+
+    private static final String SQL_JEFATURA = "SELECT " +
+            "COUNT(*) AS total_proyectos, " +
+            "COUNT(*) FILTER (WHERE pr.estado = ?) AS proyectos_aprobados, " +
+            "COUNT(*) FILTER (WHERE pr.estado = ?) AS proyectos_en_revision, " +
+            "(SELECT COUNT(*) FROM reporte r WHERE r.estado = ?) AS reportes_pendientes " +
+            "FROM proyecto pr";
+
+    // El estado de cada persona es el de su participación más reciente
+    private static final String SQL_DIRECTOR = "SELECT " +
+            "COUNT(*) AS total_personal, " +
+            "COUNT(*) FILTER (WHERE ult.estado = ?) AS personal_activo, " +
+            "(SELECT COUNT(*) FROM reporte r WHERE r.id_proyecto = ? AND r.estado = ?) AS reportes_en_edicion, " +
+            "(SELECT COUNT(*) FROM informe_actividades i WHERE i.id_proyecto = ? AND i.estado = ?) AS informes_pendientes " +
+            "FROM personaldeinvestigacion pi " +
+            "LEFT JOIN LATERAL (" +
+            "  SELECT p.estado FROM participacion p WHERE p.cedula_personal = pi.cedula " +
+            "  ORDER BY p.fecha_inicio DESC LIMIT 1" +
+            ") ult ON true " +
+            "WHERE pi.id_proyecto = ?";
+
+    /**
+     * Contadores de Jefatura en una sola consulta.
+     */
+    public MetricasJefatura obtenerMetricasJefatura() throws SQLException {
+        MetricasJefatura metricas = new MetricasJefatura();
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(SQL_JEFATURA)) {
+            stmt.setString(1, EstadoProyecto.APROBADO.name());
+            stmt.setString(2, EstadoProyecto.EN_REVISION.name());
+            stmt.setString(3, EstadoReporte.CERRADO.name());
+            ResultSet rs = stmt.executeQuery();
+            if (rs.next()) {
+                metricas.setTotalProyectos(rs.getInt("total_proyectos"));
+                metricas.setProyectosAprobados(rs.getInt("proyectos_aprobados"));
+                metricas.setProyectosEnRevision(rs.getInt("proyectos_en_revision"));
+                metricas.setReportesPendientes(rs.getInt("reportes_pendientes"));
+            }
+        }
+        return metricas;
+    }
+
+    /**
+     * Contadores del dashboard del director para un proyecto, en una sola consulta.
+     */
+    public MetricasDirector obtenerMetricasDirector(int idProyecto) throws SQLException {
+        MetricasDirector metricas = new MetricasDirector();
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(SQL_DIRECTOR)) {
+            stmt.setString(1, EstadoParticipacion.ACTIVO.name());
+            stmt.setInt(2, idProyecto);
+            stmt.setString(3, EstadoReporte.EN_EDICION.name());
+            stmt.setInt(4, idProyecto);
+            stmt.setString(5, EstadoInforme.ENVIADO.name());
+            stmt.setInt(6, idProyecto);
+            ResultSet rs = stmt.executeQuery();
+            if (rs.next()) {
+                metricas.setTotalPersonal(rs.getInt("total_personal"));
+                metricas.setPersonalActivo(rs.getInt("personal_activo"));
+                metricas.setReportesEnEdicion(rs.getInt("reportes_en_edicion"));
+                metricas.setInformesPendientes(rs.getInt("informes_pendientes"));
+            }
+        }
+        return metricas;
+    }
+
+    // ─── Primeros pendientes ───
+
+    /**
+     * Primeros proyectos en revisión (por nombre), con director y periodo.
+     */
+    public List<Proyecto> obtenerProyectosEnRevision(int limite) throws SQLException {
+        List<Proyecto> proyectos = new ArrayList<>();
+        String sql = ProyectoDAO.SQL_PROYECTO + "WHERE pr.estado = ? ORDER BY pr.nombre LIMIT ?";
+        ProyectoDAO proyectoDAO = new ProyectoDAO();
+        Map<String, Director> directores = new HashMap<>();
+        Map<String, PeriodoAcademico> periodos = new HashMap<>();
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, EstadoProyecto.EN_REVISION.name());
+            stmt.setInt(2, limite);
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                proyectos.add(proyectoDAO.mapResultSet(rs, directores, periodos));
+            }
+        }
+        return proyectos;
+    }
+
+    /**
+     * Reportes cerrados más recientes, con nombre del proyecto y director.
+     */
+    public List<ResumenReporte> obtenerReportesPendientes(int limite) throws SQLException {
+        return new ReporteDAO().obtenerResumenes(EstadoReporte.CERRADO, null, limite);
+    }
+
+    /**
+     * Informes enviados más recientes de un proyecto, sin sus semanas.
+     */
+    public List<ResumenInforme> obtenerInformesPendientes(int idProyecto, int limite) throws SQLException {
+        FiltroInformes filtro = new FiltroInformes();
+        filtro.setIdProyecto(idProyecto);
+        filtro.setEstado(EstadoInforme.ENVIADO);
+        filtro.setLimite(limite);
+        return new InformeActividadesDAO().obtenerResumenes(filtro);
+    }
+}
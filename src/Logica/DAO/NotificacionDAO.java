@@ -8,16 +8,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class NotificacionDAO {
-    private Connection connection;
 
-    public NotificacionDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-    }
+    /** Notificaciones por página en la barra y al cargar las de un usuario. */
+    public static final int TAMANO_PAGINA = 20;
 
     public boolean guardar(Notificacion notificacion) throws SQLException {
         String sql = "INSERT INTO public.notificacion (id_usuario, fecha_envio, contenido) VALUES (?, ?, ?)";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             stmt.setInt(1, notificacion.getIdUsuario());
             stmt.setTimestamp(2, Timestamp.valueOf(notificacion.getFecha()));
             stmt.setString(3, notificacion.getContenido());
@@ -36,12 +35,27 @@ public class NotificacionDAO {
         }
     }
 
-    public List<Notificacion> obtenerPorUsuario(int idUsuario) throws SQLException {
+    /**
+     * Una página de notificaciones del usuario, la más reciente primero.
+     * La página siguiente se pide con la última notificación recibida (paginación
+     * por clave sobre fecha e id), así el costo no crece con el historial.
+     * @param despuesDe última notificación de la página anterior; null para la primera
+     */
+    public List<Notificacion> obtenerPagina(int idUsuario, Notificacion despuesDe, int limite) throws SQLException {
         List<Notificacion> notificaciones = new ArrayList<>();
-        String sql = "SELECT * FROM public.notificacion WHERE id_usuario = ? ORDER BY fecha_envio DESC";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, idUsuario);
+        String sql = "SELECT * FROM public.notificacion WHERE id_usuario = ? " +
+                (despuesDe != null ? "AND (fecha_envio, id) < (?, ?) " : "") +
+                "ORDER BY fecha_envio DESC, id DESC LIMIT ?";
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int i = 1;
+            stmt.setInt(i++, idUsuario);
+            if (despuesDe != null) {
+                stmt.setTimestamp(i++, Timestamp.valueOf(despuesDe.getFecha()));
+                stmt.setInt(i++, despuesDe.getIdNotificacion());
+            }
+            stmt.setInt(i, limite);
             ResultSet rs = stmt.executeQuery();
 
             while (rs.next()) {
@@ -51,10 +65,38 @@ public class NotificacionDAO {
         return notificaciones;
     }
 
+    /** Las notificaciones más recientes del usuario (primera página). */
+    public List<Notificacion> obtenerRecientes(int idUsuario) throws SQLException {
+        return obtenerPagina(idUsuario, null, TAMANO_PAGINA);
+    }
+
+    public int contarNoLeidas(int idUsuario) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM public.notificacion WHERE id_usuario = ? AND NOT leida";
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, idUsuario);
+            ResultSet rs = stmt.executeQuery();
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /** Marca como leídas todas las notificaciones pendientes del usuario. */
+    public int marcarLeidas(int idUsuario) throws SQLException {
+        String sql = "UPDATE public.notificacion SET leida = true WHERE id_usuario = ? AND NOT leida";
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, idUsuario);
+            return stmt.executeUpdate();
+        }
+    }
+
     public Notificacion obtenerPorId(int id) throws SQLException {
         String sql = "SELECT * FROM public.notificacion WHERE id = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, id);
             ResultSet rs = stmt.executeQuery();
 
@@ -70,6 +112,7 @@ public class NotificacionDAO {
         notificacion.setIdNotificacion(rs.getInt("id"));
         notificacion.setIdUsuario(rs.getInt("id_usuario"));
         notificacion.setContenido(rs.getString("contenido"));
+        notificacion.setLeida(rs.getBoolean("leida"));
 
         Timestamp timestamp = rs.getTimestamp("fecha_envio");
         if (timestamp != null) {
@@ -10,15 +10,12 @@ import Logica.Entidades.Asistente;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ParticipacionDAO {
-    private Connection connection;
-
-    public ParticipacionDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-    }
-
     /**
      * Obtiene todas las participaciones
      */
@@ -32,8 +29,9 @@ public class ParticipacionDAO {
                 "INNER JOIN personaldeinvestigacion pi ON p.cedula_personal = pi.cedula " +
                 "ORDER BY p.fecha_inicio DESC";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 lista.add(mapResultSet(rs));
             }
@@ -56,7 +54,8 @@ public class ParticipacionDAO {
                 "WHERE p.cedula_personal = ? " +
                 "ORDER BY p.fecha_inicio DESC";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedula);
             ResultSet rs = stmt.executeQuery();
 
@@ -78,7 +77,8 @@ public class ParticipacionDAO {
                 "INNER JOIN personaldeinvestigacion pi ON p.cedula_personal = pi.cedula " +
                 "WHERE p.id_participacion = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idParticipacion);
             ResultSet rs = stmt.executeQuery();
 
@@ -103,7 +103,8 @@ public class ParticipacionDAO {
                 "WHERE pi.id_proyecto = ? AND p.estado = ? " +
                 "ORDER BY p.fecha_inicio DESC";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idProyecto);
             stmt.setString(2, EstadoParticipacion.ACTIVO.name());
             ResultSet rs = stmt.executeQuery();
@@ -115,6 +116,64 @@ public class ParticipacionDAO {
         return lista;
     }
 
+    /**
+     * Obtiene las participaciones de varias personas en una sola consulta.
+     * Cada lista queda ordenada por fecha de inicio descendente (la más reciente primero);
+     * las cédulas sin participaciones no aparecen en el mapa.
+     */
+    public Map<String, List<Participacion>> obtenerPorCedulas(Collection<String> cedulas) throws SQLException {
+        Map<String, List<Participacion>> porCedula = new LinkedHashMap<>();
+        if (cedulas == null || cedulas.isEmpty()) return porCedula;
+
+        String sql = "SELECT p.*, " +
+                "pi.cedula, pi.nombres, pi.apellidos, pi.correo, pi.tipo " +
+                "FROM participacion p " +
+                "INNER JOIN personaldeinvestigacion pi ON p.cedula_personal = pi.cedula " +
+                "WHERE p.cedula_personal = ANY(?) " +
+                "ORDER BY p.cedula_personal, p.fecha_inicio DESC";
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setArray(1, conn.createArrayOf("varchar", cedulas.toArray()));
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                Participacion participacion = mapResultSet(rs);
+                porCedula.computeIfAbsent(rs.getString("cedula_personal"), c -> new ArrayList<>())
+                        .add(participacion);
+            }
+        }
+        return porCedula;
+    }
+
+    /**
+     * Obtiene las participaciones de todo el personal de un proyecto, agrupadas por cédula.
+     * Mismo orden que obtenerPorCedulas.
+     */
+    public Map<String, List<Participacion>> obtenerPorProyecto(int idProyecto) throws SQLException {
+        Map<String, List<Participacion>> porCedula = new LinkedHashMap<>();
+
+        String sql = "SELECT p.*, " +
+                "pi.cedula, pi.nombres, pi.apellidos, pi.correo, pi.tipo " +
+                "FROM participacion p " +
+                "INNER JOIN personaldeinvestigacion pi ON p.cedula_personal = pi.cedula " +
+                "WHERE pi.id_proyecto = ? " +
+                "ORDER BY p.cedula_personal, p.fecha_inicio DESC";
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, idProyecto);
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                Participacion participacion = mapResultSet(rs);
+                porCedula.computeIfAbsent(rs.getString("cedula_personal"), c -> new ArrayList<>())
+                        .add(participacion);
+            }
+        }
+        return porCedula;
+    }
+
     /**
      * Guarda una nueva participación
      */
@@ -123,7 +182,8 @@ public class ParticipacionDAO {
                 "(cedula_personal, fecha_inicio, fecha_fin, fecha_retiro, motivo_retiro, estado) " +
                 "VALUES (?, ?, ?, ?, ?, ?) RETURNING id_participacion";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, p.getCedulaPersonal());
             stmt.setDate(2, Date.valueOf(p.getFechaInicio()));
 
@@ -162,7 +222,8 @@ public class ParticipacionDAO {
                 "motivo_retiro = ?, estado = ? " +
                 "WHERE id_participacion = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setDate(1, Date.valueOf(p.getFechaInicio()));
 
             if (p.getFechaFin() != null) {
@@ -190,7 +251,8 @@ public class ParticipacionDAO {
      */
     public boolean eliminar(int idParticipacion) throws SQLException {
         String sql = "DELETE FROM participacion WHERE id_participacion = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idParticipacion);
             return stmt.executeUpdate() > 0;
         }
@@ -3,40 +3,86 @@ package Logica.DAO;
 import Logica.Conexiones.ConexionBD;
 import Logica.Entidades.PeriodoAcademico;
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Acceso a periodo_academico. Las lecturas pasan por {@link CachePeriodos}: la
+ * tabla se lee una vez y las consultas siguientes se responden desde memoria.
+ */
 public class PeriodoAcademicoDAO {
-    private Connection connection;
 
-    public PeriodoAcademicoDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
+    /**
+     * Todos los periodos, del más reciente al más antiguo (desde la caché).
+     * La lista no se puede modificar.
+     */
+    public List<PeriodoAcademico> obtenerTodos() throws SQLException {
+        List<PeriodoAcademico> periodos = CachePeriodos.todos();
+        CachePeriodos.contar(periodos != null);
+        return periodos != null ? periodos : recargarCache();
     }
 
-    public List<PeriodoAcademico> obtenerTodos() throws SQLException {
+    /**
+     * Periodo con ese código. Si no está en caché se consulta la base por si fue
+     * creado desde otro equipo; en ese caso la caché se vuelve a leer. Los códigos
+     * que tampoco están en la base se recuerdan hasta la próxima carga.
+     */
+    public PeriodoAcademico obtenerPorCodigo(String codigo) throws SQLException {
+        if (codigo == null) return null;
+
+        PeriodoAcademico periodo = CachePeriodos.obtener(codigo);
+        if (periodo != null) return periodo;
+
+        boolean cargada = CachePeriodos.todos() != null;
+        if (cargada && CachePeriodos.esDesconocido(codigo)) return null;
+
+        if (!cargada || existeEnBase(codigo)) {
+            periodo = recargarCache().stream()
+                    .filter(p -> p.getCodigo().equals(codigo))
+                    .findFirst().orElse(null);
+        }
+        if (periodo == null) CachePeriodos.marcarDesconocido(codigo);
+        return periodo;
+    }
+
+    /**
+     * Periodo que contiene la fecha (inicio y fin incluidos), o null si ninguno.
+     * Con la caché cargada no consulta la base.
+     */
+    public PeriodoAcademico obtenerPorFecha(LocalDate fecha) throws SQLException {
+        for (PeriodoAcademico p : obtenerTodos()) {
+            if (!fecha.isBefore(p.getFechaInicio()) && !fecha.isAfter(p.getFechaFin())) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    /** Lee la tabla completa y reemplaza el contenido de la caché. */
+    private List<PeriodoAcademico> recargarCache() throws SQLException {
         List<PeriodoAcademico> periodos = new ArrayList<>();
         String sql = "SELECT * FROM periodo_academico ORDER BY fecha_inicio DESC";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 periodos.add(mapResultSet(rs));
             }
         }
-        return periodos;
+        CachePeriodos.cargar(periodos);
+        return List.copyOf(periodos);
     }
 
-    public PeriodoAcademico obtenerPorCodigo(String codigo) throws SQLException {
-        String sql = "SELECT * FROM periodo_academico WHERE codigo = ?";
+    private boolean existeEnBase(String codigo) throws SQLException {
+        String sql = "SELECT 1 FROM periodo_academico WHERE codigo = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, codigo);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return mapResultSet(rs);
-            }
+            return stmt.executeQuery().next();
         }
-        return null;
     }
 
     /**
@@ -48,7 +94,8 @@ public class PeriodoAcademicoDAO {
         String sql = "INSERT INTO periodo_academico (codigo, fecha_inicio, fecha_fin, fecha_mitad) " +
                 "VALUES (?, ?, ?, ?)";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, periodo.getCodigo());
             stmt.setDate(2, Date.valueOf(periodo.getFechaInicio()));
             stmt.setDate(3, Date.valueOf(periodo.getFechaFin()));
@@ -60,6 +107,9 @@ public class PeriodoAcademicoDAO {
             }
 
             return stmt.executeUpdate() > 0;
+        } finally {
+            // El periodo nuevo aparece en la próxima lectura
+            CachePeriodos.invalidar();
         }
     }
 
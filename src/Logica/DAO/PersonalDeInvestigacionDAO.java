@@ -7,18 +7,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class PersonalDeInvestigacionDAO {
-    private Connection connection;
-
-    public PersonalDeInvestigacionDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-    }
-
     public List<PersonalDeInvestigacion> obtenerTodos() throws SQLException {
         List<PersonalDeInvestigacion> lista = new ArrayList<>();
         String sql = "SELECT * FROM public.personaldeinvestigacion ORDER BY apellidos, nombres";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 lista.add(mapResultSet(rs));
             }
@@ -31,7 +26,8 @@ public class PersonalDeInvestigacionDAO {
 
         // Nota: lista no estaba declarada dentro de este scope en el bloque anterior, corregido aquí:
         List<PersonalDeInvestigacion> lista = new ArrayList<>();
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, tipo);
             ResultSet rs = stmt.executeQuery();
             while (rs.next()) {
@@ -43,7 +39,8 @@ public class PersonalDeInvestigacionDAO {
 
     public PersonalDeInvestigacion obtenerPorCedula(String cedula) throws SQLException {
         String sql = "SELECT * FROM public.personaldeinvestigacion WHERE cedula = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedula);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -58,7 +55,8 @@ public class PersonalDeInvestigacionDAO {
         // Si el objeto Java no tiene proyecto (0), esto podría fallar si no hay FK válida.
         String sql = "INSERT INTO public.personaldeinvestigacion (cedula, id_usuario, nombres, apellidos, correo, tipo, id_proyecto) VALUES (?, ?, ?, ?, ?, ?, ?)";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, p.getCedula());
             stmt.setInt(2, p.getIdUsuario());
             stmt.setString(3, p.getNombres());
@@ -74,7 +72,8 @@ public class PersonalDeInvestigacionDAO {
     public boolean actualizar(PersonalDeInvestigacion p) throws SQLException {
         String sql = "UPDATE public.personaldeinvestigacion SET nombres = ?, apellidos = ?, correo = ?, id_proyecto = ? WHERE cedula = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, p.getNombres());
             stmt.setString(2, p.getApellidos());
             stmt.setString(3, p.getCorreo());
@@ -87,7 +86,8 @@ public class PersonalDeInvestigacionDAO {
 
     public boolean eliminar(String cedula) throws SQLException {
         String sql = "DELETE FROM public.personaldeinvestigacion WHERE cedula = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedula);
             return stmt.executeUpdate() > 0;
         }
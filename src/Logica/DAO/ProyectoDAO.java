@@ -6,29 +6,37 @@ import Logica.Enumeraciones.EstadoProyecto;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ProyectoDAO {
-    private Connection connection;
-    private DirectorDAO directorDAO;
-    private PeriodoAcademicoDAO periodoDAO;
-
-    public ProyectoDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-        this.directorDAO = new DirectorDAO();
-        this.periodoDAO = new PeriodoAcademicoDAO();
-    }
+    /**
+     * Proyecto con su director y su periodo en una sola consulta.
+     * Las columnas del director y del periodo van con alias para no chocar con las del proyecto.
+     */
+    static final String SQL_PROYECTO = "SELECT pr.*, " +
+            "d.cedula AS dir_cedula, d.id_usuario AS dir_id_usuario, d.nombres AS dir_nombres, " +
+            "d.apellidos AS dir_apellidos, d.correo AS dir_correo, " +
+            "pa.codigo AS per_codigo, pa.fecha_inicio AS per_fecha_inicio, " +
+            "pa.fecha_fin AS per_fecha_fin, pa.fecha_mitad AS per_fecha_mitad " +
+            "FROM Proyecto pr " +
+            "LEFT JOIN director d ON d.cedula = pr.cedula_director " +
+            "LEFT JOIN periodo_academico pa ON pa.codigo = pr.periodo_inicio ";
 
     // --- MÉTODOS ESTÁNDAR (Sin cargar la lista pesada) ---
 
     public List<Proyecto> obtenerTodos() throws SQLException {
         List<Proyecto> proyectos = new ArrayList<>();
-        String sql = "SELECT * FROM Proyecto ORDER BY nombre";
+        String sql = SQL_PROYECTO + "ORDER BY pr.nombre";
+        Map<String, Director> directores = new HashMap<>();
+        Map<String, PeriodoAcademico> periodos = new HashMap<>();
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
-                proyectos.add(mapResultSet(rs));
+                proyectos.add(mapResultSet(rs, directores, periodos));
             }
         }
         return proyectos;
@@ -36,13 +44,16 @@ public class ProyectoDAO {
 
     public List<Proyecto> obtenerPorDirector(String cedulaDirector) throws SQLException {
         List<Proyecto> proyectos = new ArrayList<>();
-        String sql = "SELECT * FROM Proyecto WHERE cedula_director = ? ORDER BY nombre";
+        String sql = SQL_PROYECTO + "WHERE pr.cedula_director = ? ORDER BY pr.nombre";
+        Map<String, Director> directores = new HashMap<>();
+        Map<String, PeriodoAcademico> periodos = new HashMap<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedulaDirector);
             ResultSet rs = stmt.executeQuery();
             while (rs.next()) {
-                proyectos.add(mapResultSet(rs));
+                proyectos.add(mapResultSet(rs, directores, periodos));
             }
         }
         return proyectos;
@@ -54,13 +65,14 @@ public class ProyectoDAO {
             return null;
         }
 
-        String sql = "SELECT * FROM Proyecto WHERE codigo_proyecto = ?";
+        String sql = SQL_PROYECTO + "WHERE pr.codigo_proyecto = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, codigo);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
-                return mapResultSet(rs);
+                return mapResultSet(rs, new HashMap<>(), new HashMap<>());
             }
         }
         return null;
@@ -79,7 +91,8 @@ public class ProyectoDAO {
         // Consultamos la tabla PersonalDeInvestigacion filtrando por la FK id_proyecto
         String sql = "SELECT * FROM PersonalDeInvestigacion WHERE id_proyecto = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, proyecto.getId());
             ResultSet rs = stmt.executeQuery();
 
@@ -119,7 +132,8 @@ public class ProyectoDAO {
                 "num_ayudantes_planificados, num_tecnico_planificados) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) RETURNING id_proyecto";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, proyecto.getCodigoProyecto());
             stmt.setString(2, proyecto.getNombre());
             stmt.setString(3, proyecto.getPeriodoInicio().getCodigo());
@@ -156,7 +170,8 @@ public class ProyectoDAO {
                 "candidato_nombres, candidato_apellidos, candidato_cedula, candidato_correo) " +
                 "VALUES (NULL, ?, ?, ?, ?, NULL, ?, ?, ?, ?, ?, ?, ?, ?) RETURNING id_proyecto";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, proyecto.getNombre());
             stmt.setString(2, proyecto.getPeriodoInicio().getCodigo());
             stmt.setInt(3, proyecto.getDuracionMeses());
@@ -186,7 +201,8 @@ public class ProyectoDAO {
     public boolean actualizarCodigoYDirector(int idProyecto, String codigoProyecto, String cedulaDirector) throws SQLException {
         String sql = "UPDATE Proyecto SET codigo_proyecto = ?, cedula_director = ? WHERE id_proyecto = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, codigoProyecto);
             stmt.setString(2, cedulaDirector);
             stmt.setInt(3, idProyecto);
@@ -201,7 +217,8 @@ public class ProyectoDAO {
     public boolean actualizarDirector(int idProyecto, String cedulaDirector) throws SQLException {
         String sql = "UPDATE Proyecto SET cedula_director = ? WHERE id_proyecto = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, cedulaDirector);
             stmt.setInt(2, idProyecto);
             return stmt.executeUpdate() > 0;
@@ -213,7 +230,8 @@ public class ProyectoDAO {
                 "estado = ?, num_asistentes_planificados = ?, num_ayudantes_planificados = ?, " +
                 "num_tecnico_planificados = ?, cedula_director = ?, codigo_proyecto = ? WHERE id_proyecto = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, proyecto.getNombre());
             stmt.setString(2, proyecto.getPeriodoInicio().getCodigo());
             stmt.setInt(3, proyecto.getDuracionMeses());
@@ -229,7 +247,12 @@ public class ProyectoDAO {
         }
     }
 
-    private Proyecto mapResultSet(ResultSet rs) throws SQLException {
+    /**
+     * Mapea una fila de SQL_PROYECTO. Los mapas se comparten durante una misma
+     * consulta para que los proyectos de un mismo director o periodo usen la misma instancia.
+     */
+    Proyecto mapResultSet(ResultSet rs, Map<String, Director> directores,
+                          Map<String, PeriodoAcademico> periodos) throws SQLException {
         String tipo = rs.getString("tipo_proyecto");
         Proyecto proyecto;
 
@@ -247,15 +270,41 @@ public class ProyectoDAO {
         proyecto.setDuracionMeses(rs.getInt("duracion_meses"));
         proyecto.setEstado(EstadoProyecto.valueOf(rs.getString("estado")));
 
-        // Carga ansiosa (Eager) de objetos simples
-        String cedulaDir = rs.getString("cedula_director");
+        // Director y periodo vienen en la misma fila (LEFT JOIN)
+        String cedulaDir = rs.getString("dir_cedula");
         if (cedulaDir != null) {
-            proyecto.setDirector(directorDAO.obtenerPorCedula(cedulaDir));
+            Director director = directores.get(cedulaDir);
+            if (director == null) {
+                director = new Director();
+                director.setCedula(cedulaDir);
+                director.setIdUsuario(rs.getInt("dir_id_usuario"));
+                director.setNombres(rs.getString("dir_nombres"));
+                director.setApellidos(rs.getString("dir_apellidos"));
+                director.setCorreo(rs.getString("dir_correo"));
+                directores.put(cedulaDir, director);
+            }
+            proyecto.setDirector(director);
         }
 
-        String codPeriodo = rs.getString("periodo_inicio");
+        String codPeriodo = rs.getString("per_codigo");
         if (codPeriodo != null) {
-            proyecto.setPeriodoInicio(periodoDAO.obtenerPorCodigo(codPeriodo));
+            PeriodoAcademico periodo = periodos.get(codPeriodo);
+            if (periodo == null) {
+                // Instancia compartida de CachePeriodos; si aún no está, se arma con el JOIN
+                periodo = CachePeriodos.obtener(codPeriodo);
+            }
+            if (periodo == null) {
+                periodo = new PeriodoAcademico();
+                periodo.setCodigo(codPeriodo);
+                periodo.setFechaInicio(rs.getDate("per_fecha_inicio").toLocalDate());
+                periodo.setFechaFin(rs.getDate("per_fecha_fin").toLocalDate());
+                Date fechaMitad = rs.getDate("per_fecha_mitad");
+                if (fechaMitad != null) {
+                    periodo.setFechaMitad(fechaMitad.toLocalDate());
+                }
+            }
+            periodos.put(codPeriodo, periodo);
+            proyecto.setPeriodoInicio(periodo);
         }
 
         proyecto.setNumAsistentesPlanificados(rs.getInt("num_asistentes_planificados"));
@@ -286,13 +335,14 @@ public class ProyectoDAO {
      * Obtiene un proyecto por su ID
      */
     public Proyecto obtenerPorId(int idProyecto) throws SQLException {
-        String sql = "SELECT * FROM Proyecto WHERE id_proyecto = ?";
+        String sql = SQL_PROYECTO + "WHERE pr.id_proyecto = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idProyecto);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
-                return mapResultSet(rs);
+                return mapResultSet(rs, new HashMap<>(), new HashMap<>());
             }
         }
         return null;
@@ -303,7 +353,8 @@ public class ProyectoDAO {
                 "estado = ?, num_asistentes_planificados = ?, num_ayudantes_planificados = ?, " +
                 "num_tecnico_planificados = ?, codigo_proyecto = ? WHERE id_proyecto = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, proyecto.getNombre());
             stmt.setString(2, proyecto.getPeriodoInicio().getCodigo());
             stmt.setInt(3, proyecto.getDuracionMeses());
@@ -317,4 +368,16 @@ public class ProyectoDAO {
             return stmt.executeUpdate() > 0;
         }
     }
+
+    /** Cambia solo el estado, sin tomarlo de la entidad en memoria. */
+    public boolean actualizarEstado(int idProyecto, EstadoProyecto estado) throws SQLException {
+        String sql = "UPDATE Proyecto SET estado = ? WHERE id_proyecto = ?";
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, estado.name());
+            stmt.setInt(2, idProyecto);
+            return stmt.executeUpdate() > 0;
+        }
+    }
 }
\ No newline at end of file
@@ -1,21 +1,20 @@
 package Logica.DAO;
 
 import Logica.Conexiones.ConexionBD;
+import Logica.Conexiones.GestorTransacciones;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.EstadoReporte;
 import Logica.Enumeraciones.EstadoParticipacion;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class ReporteDAO {
-    private Connection connection;
-
-    public ReporteDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-    }
-
     // ==========================================
     // SECCIÓN 1: CRUD BÁSICO DE LA TABLA REPORTE
     // ==========================================
@@ -24,8 +23,9 @@ public class ReporteDAO {
         List<Reporte> reportes = new ArrayList<>();
         String sql = "SELECT * FROM reporte ORDER BY fecha_inicio DESC";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 reportes.add(mapResultSetReporte(rs));
             }
@@ -37,7 +37,8 @@ public class ReporteDAO {
         List<Reporte> reportes = new ArrayList<>();
         String sql = "SELECT * FROM reporte WHERE id_proyecto = ? ORDER BY fecha_inicio DESC";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idProyecto);
             ResultSet rs = stmt.executeQuery();
             while (rs.next()) {
@@ -50,7 +51,8 @@ public class ReporteDAO {
     public Reporte obtenerPorId(int idReporte) throws SQLException {
         String sql = "SELECT * FROM reporte WHERE id_reporte = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idReporte);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -64,7 +66,8 @@ public class ReporteDAO {
         String sql = "INSERT INTO reporte (periodo_academico, id_proyecto, estado, fecha_inicio, fecha_cierre) " +
                 "VALUES (?, ?, ?, ?, ?) RETURNING id_reporte";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, reporte.getPeriodoAcademico());
             stmt.setInt(2, reporte.getIdProyecto());
             stmt.setString(3, reporte.getEstado().name()); // Enum a String
@@ -94,7 +97,8 @@ public class ReporteDAO {
     public boolean actualizar(Reporte reporte) throws SQLException {
         String sql = "UPDATE reporte SET estado = ?, fecha_cierre = ?, periodo_academico = ? WHERE id_reporte = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, reporte.getEstado().name());
 
             if (reporte.getFechaCierre() != null) {
@@ -111,14 +115,17 @@ public class ReporteDAO {
     }
 
     public boolean eliminar(int idReporte) throws SQLException {
-        // Primero vaciamos la tabla intermedia para evitar error de FK
-        vaciarParticipacionesDelReporte(idReporte);
-
-        String sql = "DELETE FROM reporte WHERE id_reporte = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, idReporte);
-            return stmt.executeUpdate() > 0;
-        }
+        return GestorTransacciones.ejecutar(() -> {
+            // Primero vaciamos la tabla intermedia para evitar error de FK
+            vaciarParticipacionesDelReporte(idReporte);
+
+            String sql = "DELETE FROM reporte WHERE id_reporte = ?";
+            try (Connection conn = ConexionBD.conectar();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, idReporte);
+                return stmt.executeUpdate() > 0;
+            }
+        });
     }
 
     // ============================================================
@@ -126,12 +133,15 @@ public class ReporteDAO {
     // ============================================================
 
     /**
-     * Vincula una participación existente a este reporte.
+     * Vincula una participación existente a este reporte. Si ya estaba vinculada
+     * no hace nada y devuelve false.
      */
     public boolean agregarParticipacion(int idReporte, int idParticipacion) throws SQLException {
-        String sql = "INSERT INTO reporte_participacion (id_reporte, id_participacion) VALUES (?, ?)";
+        String sql = "INSERT INTO reporte_participacion (id_reporte, id_participacion) VALUES (?, ?) " +
+                "ON CONFLICT (id_reporte, id_participacion) DO NOTHING";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idReporte);
             stmt.setInt(2, idParticipacion);
             return stmt.executeUpdate() > 0;
@@ -144,19 +154,52 @@ public class ReporteDAO {
     public boolean quitarParticipacion(int idReporte, int idParticipacion) throws SQLException {
         String sql = "DELETE FROM reporte_participacion WHERE id_reporte = ? AND id_participacion = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idReporte);
             stmt.setInt(2, idParticipacion);
             return stmt.executeUpdate() > 0;
         }
     }
 
+    /**
+     * Deja el reporte con exactamente las participaciones {@code idsParticipacion}:
+     * quita las que sobran y agrega las que faltan, en una transacción y con una
+     * sentencia para cada cosa sin importar cuántas sean. Las que ya estaban no se
+     * tocan (ON CONFLICT DO NOTHING), así repetir la operación no tiene efecto.
+     */
+    public void setParticipaciones(int idReporte, Set<Integer> idsParticipacion) throws SQLException {
+        GestorTransacciones.ejecutar(() -> {
+            String sqlQuitar = "DELETE FROM reporte_participacion " +
+                    "WHERE id_reporte = ? AND id_participacion <> ALL(?)";
+            try (Connection conn = ConexionBD.conectar();
+                 PreparedStatement stmt = conn.prepareStatement(sqlQuitar)) {
+                stmt.setInt(1, idReporte);
+                stmt.setArray(2, conn.createArrayOf("integer", idsParticipacion.toArray()));
+                stmt.executeUpdate();
+            }
+
+            if (idsParticipacion.isEmpty()) return;
+
+            String sqlAgregar = "INSERT INTO reporte_participacion (id_reporte, id_participacion) " +
+                    "SELECT ?, unnest(?::integer[]) " +
+                    "ON CONFLICT (id_reporte, id_participacion) DO NOTHING";
+            try (Connection conn = ConexionBD.conectar();
+                 PreparedStatement stmt = conn.prepareStatement(sqlAgregar)) {
+                stmt.setInt(1, idReporte);
+                stmt.setArray(2, conn.createArrayOf("integer", idsParticipacion.toArray()));
+                stmt.executeUpdate();
+            }
+        });
+    }
+
     /**
      * Elimina todas las participaciones de un reporte (limpieza).
      */
     private boolean vaciarParticipacionesDelReporte(int idReporte) throws SQLException {
         String sql = "DELETE FROM reporte_participacion WHERE id_reporte = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idReporte);
             return stmt.executeUpdate() > 0;
         }
@@ -168,27 +211,42 @@ public class ReporteDAO {
      */
     public void cargarParticipacionesDelReporte(Reporte reporte) throws SQLException {
         if (reporte == null) return;
+        cargarParticipacionesDeReportes(List.of(reporte));
+    }
 
-        List<Participacion> lista = new ArrayList<>();
+    /**
+     * Carga las participaciones de varios reportes con una sola consulta
+     * (id_reporte = ANY) y las reparte en memoria a cada Reporte.
+     */
+    public void cargarParticipacionesDeReportes(List<Reporte> reportes) throws SQLException {
+        if (reportes.isEmpty()) return;
+
+        Map<Integer, List<Participacion>> porReporte = new HashMap<>();
+        for (Reporte reporte : reportes) {
+            porReporte.put(reporte.getIdReporte(), new ArrayList<>());
+        }
 
         // JOIN TRIPLE: reporte_participacion -> participacion -> personaldeinvestigacion
-        String sql = "SELECT p.*, pi.cedula, pi.nombres, pi.apellidos, pi.correo, pi.tipo " +
+        String sql = "SELECT rp.id_reporte, p.*, pi.cedula, pi.nombres, pi.apellidos, pi.correo, pi.tipo " +
                 "FROM reporte_participacion rp " +
                 "JOIN participacion p ON rp.id_participacion = p.id_participacion " +
                 "JOIN personaldeinvestigacion pi ON p.cedula_personal = pi.cedula " +
-                "WHERE rp.id_reporte = ? " +
+                "WHERE rp.id_reporte = ANY(?) " +
                 "ORDER BY pi.apellidos, pi.nombres";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, reporte.getIdReporte());
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setArray(1, conn.createArrayOf("integer", porReporte.keySet().toArray()));
             ResultSet rs = stmt.executeQuery();
 
             while (rs.next()) {
-                lista.add(mapResultSetParticipacionCompleta(rs));
+                porReporte.get(rs.getInt("id_reporte")).add(mapResultSetParticipacionCompleta(rs));
             }
         }
 
-        reporte.setParticipacionesIncluidas(lista);
+        for (Reporte reporte : reportes) {
+            reporte.setParticipacionesIncluidas(porReporte.get(reporte.getIdReporte()));
+        }
     }
 
     /**
@@ -200,7 +258,8 @@ public class ReporteDAO {
         List<Reporte> reportes = new ArrayList<>();
         String sql = "SELECT * FROM reporte WHERE id_proyecto = ? AND periodo_academico = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idProyecto);
             stmt.setString(2, periodoAcademico);
             ResultSet rs = stmt.executeQuery();
@@ -213,9 +272,82 @@ public class ReporteDAO {
     }
 
     // ==========================================
-    // SECCIÓN 3: MAPEOS (MAPPERS)
+    // SECCIÓN 3: LISTADO PARA JEFATURA
     // ==========================================
 
+    /** Fecha de orden del listado: sin NULL, para que la comparación por clave no los pierda. */
+    private static final String FECHA_ORDEN = "COALESCE(r.fecha_inicio, '-infinity'::date)";
+
+    /**
+     * Página del listado de reportes con proyecto, director y número de participaciones,
+     * en una sola consulta. Orden: fecha_inicio DESC, id_reporte DESC; los reportes
+     * sin fecha_inicio van al final (se comparan como '-infinity').
+     * La paginación es por clave: se pasa la última fila de la página anterior
+     * (o null para la primera), así el costo no crece con la página.
+     *
+     * @param estado   null para no filtrar por estado
+     * @param despuesDe última fila ya mostrada, o null
+     */
+    public List<ResumenReporte> obtenerResumenes(EstadoReporte estado, ResumenReporte despuesDe,
+                                                 int limite) throws SQLException {
+        List<ResumenReporte> resumenes = new ArrayList<>();
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT r.*, pr.nombre AS nombre_proyecto, pr.codigo_proyecto, " +
+                "d.nombres AS dir_nombres, d.apellidos AS dir_apellidos, " +
+                "(SELECT COUNT(*) FROM reporte_participacion rp WHERE rp.id_reporte = r.id_reporte) AS num_participaciones " +
+                "FROM reporte r " +
+                "LEFT JOIN proyecto pr ON pr.id_proyecto = r.id_proyecto " +
+                "LEFT JOIN director d ON d.cedula = pr.cedula_director " +
+                "WHERE 1 = 1 ");
+        if (estado != null) {
+            sql.append("AND r.estado = ? ");
+        }
+        if (despuesDe != null) {
+            sql.append("AND (" + FECHA_ORDEN + ", r.id_reporte) < (COALESCE(?, '-infinity'::date), ?) ");
+        }
+        sql.append("ORDER BY " + FECHA_ORDEN + " DESC, r.id_reporte DESC LIMIT ?");
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            int i = 1;
+            if (estado != null) {
+                stmt.setString(i++, estado.name());
+            }
+            if (despuesDe != null) {
+                LocalDate fechaInicio = despuesDe.getReporte().getFechaInicio();
+                if (fechaInicio != null) {
+                    stmt.setDate(i++, Date.valueOf(fechaInicio));
+                } else {
+                    stmt.setNull(i++, Types.DATE);
+                }
+                stmt.setInt(i++, despuesDe.getReporte().getIdReporte());
+            }
+            stmt.setInt(i, limite);
+
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                resumenes.add(mapResultSetResumen(rs));
+            }
+        }
+        return resumenes;
+    }
+
+    // ==========================================
+    // SECCIÓN 4: MAPEOS (MAPPERS)
+    // ==========================================
+
+    private ResumenReporte mapResultSetResumen(ResultSet rs) throws SQLException {
+        ResumenReporte resumen = new ResumenReporte();
+        resumen.setReporte(mapResultSetReporte(rs));
+        resumen.setNombreProyecto(rs.getString("nombre_proyecto"));
+        resumen.setCodigoProyecto(rs.getString("codigo_proyecto"));
+        resumen.setNombresDirector(rs.getString("dir_nombres"));
+        resumen.setApellidosDirector(rs.getString("dir_apellidos"));
+        resumen.setNumeroParticipaciones(rs.getInt("num_participaciones"));
+        return resumen;
+    }
+
     private Reporte mapResultSetReporte(ResultSet rs) throws SQLException {
         Reporte reporte = new Reporte();
         reporte.setIdReporte(rs.getInt("id_reporte"));
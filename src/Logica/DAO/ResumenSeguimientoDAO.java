@@ -2,117 +2,179 @@ package Logica.DAO;
 
 import Logica.Conexiones.ConexionBD;
 import Logica.Entidades.ResumenSeguimiento;
+import Logica.Enumeraciones.EstadoProyecto;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resúmenes de seguimiento por proyecto. Los conteos se leen de resumen_contadores,
+ * que mantienen los triggers de la migración 006 en cada escritura de participacion
+ * o personaldeinvestigacion; {@link #verificar()} los compara con el recálculo
+ * completo desde las tablas base.
+ */
 public class ResumenSeguimientoDAO {
 
-    private Connection connection;
-
-    public ResumenSeguimientoDAO() throws SQLException {
-        this.connection = ConexionBD.conectar();
-    }
+    /**
+     * Recálculo completo: planificado y conteos reales por proyecto y tipo de personal,
+     * agregando participaciones. Se usa para verificar los contadores.
+     * Hay una fila por (proyecto, tipo); un proyecto sin personal da una fila con tipo NULL.
+     *
+     * NOTA sobre "registrados": se cuenta cada personal que tiene al menos una participación,
+     * independiente de su estado actual. Un personal puede tener participaciones ACTIVO
+     * y RETIRADO simultáneamente (ej: retirado de un periodo, activo en otro), por lo que
+     * "registrados" = COUNT DISTINCT sobre cedula. Activos y retirados cuentan participaciones.
+     */
+    private static final String SQL_RESUMEN = "SELECT pr.id_proyecto, " +
+            "pr.num_asistentes_planificados, pr.num_ayudantes_planificados, pr.num_tecnico_planificados, " +
+            "p.tipo, " +
+            "COUNT(DISTINCT p.cedula) FILTER (WHERE par.cedula_personal IS NOT NULL) AS registrados, " +
+            "COUNT(par.cedula_personal) FILTER (WHERE UPPER(par.estado) = 'ACTIVO') AS activos, " +
+            "COUNT(par.cedula_personal) FILTER (WHERE UPPER(par.estado) = 'RETIRADO') AS retirados " +
+            "FROM proyecto pr " +
+            "LEFT JOIN personaldeinvestigacion p ON p.id_proyecto = pr.id_proyecto " +
+            "LEFT JOIN participacion par ON par.cedula_personal = p.cedula " +
+            "WHERE 1 = 1";
+
+    private static final String SQL_AGRUPAR = " GROUP BY pr.id_proyecto, pr.num_asistentes_planificados, " +
+            "pr.num_ayudantes_planificados, pr.num_tecnico_planificados, p.tipo";
+
+    /** Mismas columnas que {@link #SQL_RESUMEN}, leídas de los contadores por id_proyecto. */
+    private static final String SQL_CONTADORES = "SELECT pr.id_proyecto, " +
+            "pr.num_asistentes_planificados, pr.num_ayudantes_planificados, pr.num_tecnico_planificados, " +
+            "c.tipo, c.registrados, c.activos, c.retirados " +
+            "FROM proyecto pr " +
+            "LEFT JOIN resumen_contadores c ON c.id_proyecto = pr.id_proyecto " +
+            "WHERE 1 = 1";
 
     /**
-     * Genera un resumen de seguimiento completo para un proyecto.
-     * Usa consultas SQL eficientes en lugar de loops N+1 desde Java.
+     * Genera un resumen de seguimiento completo para un proyecto, desde los contadores.
+     * Si el proyecto no existe, el resumen queda en cero.
      */
     public ResumenSeguimiento generarResumen(int idProyecto) throws SQLException {
-        ResumenSeguimiento resumen = new ResumenSeguimiento();
-
-        // 1. Obtener datos planificados del proyecto
-        obtenerDatosPlanificados(idProyecto, resumen);
-
-        // 2. Obtener datos reales (registrados, activos, retirados) agrupados por tipo y estado
-        obtenerDatosReales(idProyecto, resumen);
-
-        // 3. Calcular totales y verificar cumplimiento
-        resumen.calcularTotales();
-
+        Map<Integer, ResumenSeguimiento> resumenes = generar(SQL_CONTADORES + " AND pr.id_proyecto = ?",
+                List.of(idProyecto));
+        ResumenSeguimiento resumen = resumenes.get(idProyecto);
+        if (resumen == null) {
+            resumen = new ResumenSeguimiento();
+            resumen.calcularTotales();
+        }
         return resumen;
     }
 
     /**
-     * Obtiene los conteos planificados directamente del proyecto
+     * Resúmenes de todos los proyectos en una sola consulta (desde los contadores), por id_proyecto.
+     *
+     * @param periodo código del periodo de inicio, o null para no filtrar
+     * @param estado  estado del proyecto, o null para no filtrar
      */
-    private void obtenerDatosPlanificados(int idProyecto, ResumenSeguimiento resumen) throws SQLException {
-        String sql = "SELECT num_asistentes_planificados, num_ayudantes_planificados, num_tecnico_planificados " +
-                "FROM proyecto WHERE id_proyecto = ?";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, idProyecto);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    resumen.setCantidadAsistentesPlanificados(rs.getInt("num_asistentes_planificados"));
-                    resumen.setCantidadAyudantesPlanificados(rs.getInt("num_ayudantes_planificados"));
-                    resumen.setCantidadTecnicosPlanificados(rs.getInt("num_tecnico_planificados"));
-                }
-            }
+    public Map<Integer, ResumenSeguimiento> generarResumenes(String periodo, EstadoProyecto estado) throws SQLException {
+        StringBuilder condicion = new StringBuilder();
+        List<Object> valores = new ArrayList<>();
+        if (periodo != null) {
+            condicion.append(" AND pr.periodo_inicio = ?");
+            valores.add(periodo);
         }
+        if (estado != null) {
+            condicion.append(" AND pr.estado = ?");
+            valores.add(estado.name());
+        }
+        return generar(SQL_CONTADORES + condicion, valores);
     }
 
+    // ─── Verificación de los contadores ───
+
     /**
-     * Obtiene datos reales agrupados por tipo de personal y estado de participación.
-     * Una sola consulta con GROUP BY reemplaza el loop N+1 anterior.
-     *
-     * NOTA sobre "registrados": se cuenta cada personal que tiene al menos una participación,
-     * independiente de su estado actual. Un personal puede tener participaciones ACTIVO
-     * y RETIRADO simultáneamente (ej: retirado de un periodo, activo en otro), por lo que
-     * "registrados" = COUNT DISTINCT sobre cedula.
+     * Compara los contadores con el recálculo completo de {@link #SQL_RESUMEN}.
+     * @return una descripción por cada proyecto que no coincide; vacía si están al día
      */
-    private void obtenerDatosReales(int idProyecto, ResumenSeguimiento resumen) throws SQLException {
-        // Contar registrados por tipo (personas únicas con participación, sin importar estado)
-        String sqlRegistrados = "SELECT p.tipo, COUNT(DISTINCT p.cedula) as total " +
-                "FROM personaldeinvestigacion p " +
-                "JOIN participacion par ON p.cedula = par.cedula_personal " +
-                "WHERE p.id_proyecto = ? " +
-                "GROUP BY p.tipo";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sqlRegistrados)) {
-            stmt.setInt(1, idProyecto);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String tipo = rs.getString("tipo");
-                    int cantidad = rs.getInt("total");
-                    if ("Asistente".equalsIgnoreCase(tipo)) {
-                        resumen.setCantidadAsistentesRegistrados(cantidad);
-                    } else if ("Ayudante".equalsIgnoreCase(tipo)) {
-                        resumen.setCantidadAyudantesRegistrados(cantidad);
-                    } else if ("Tecnico".equalsIgnoreCase(tipo)) {
-                        resumen.setCantidadTecnicosRegistrados(cantidad);
-                    }
-                }
+    public List<String> verificar() throws SQLException {
+        Map<Integer, ResumenSeguimiento> contadores = generar(SQL_CONTADORES, List.of());
+        Map<Integer, ResumenSeguimiento> recalculo = generar(SQL_RESUMEN + SQL_AGRUPAR, List.of());
+
+        List<String> diferencias = new ArrayList<>();
+        for (Map.Entry<Integer, ResumenSeguimiento> e : recalculo.entrySet()) {
+            String esperado = conteos(e.getValue());
+            ResumenSeguimiento leido = contadores.get(e.getKey());
+            String actual = leido != null ? conteos(leido) : "sin fila";
+            if (!esperado.equals(actual)) {
+                diferencias.add("proyecto " + e.getKey() + ": contadores [" + actual +
+                        "], recálculo [" + esperado + "]");
             }
         }
+        return diferencias;
+    }
 
-        // Contar activos y retirados por tipo y estado
-        String sqlPorEstado = "SELECT p.tipo, par.estado, COUNT(*) as total " +
-                "FROM personaldeinvestigacion p " +
-                "JOIN participacion par ON p.cedula = par.cedula_personal " +
-                "WHERE p.id_proyecto = ? " +
-                "GROUP BY p.tipo, par.estado";
+    /** Vuelve a llenar los contadores desde las tablas base (función de la migración 006). */
+    public void reconstruir() throws SQLException {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement("SELECT reconstruir_resumen_contadores()")) {
+            stmt.executeQuery();
+        }
+    }
 
-        try (PreparedStatement stmt = connection.prepareStatement(sqlPorEstado)) {
-            stmt.setInt(1, idProyecto);
+    /** Conteos reales (registrados/activos/retirados por tipo), para comparar dos resúmenes. */
+    private static String conteos(ResumenSeguimiento r) {
+        return String.format("asistentes %d/%d/%d, ayudantes %d/%d/%d, técnicos %d/%d/%d",
+                r.getCantidadAsistentesRegistrados(), r.getCantidadAsistentesActivos(), r.getCantidadAsistentesRetirados(),
+                r.getCantidadAyudantesRegistrados(), r.getCantidadAyudantesActivos(), r.getCantidadAyudantesRetirados(),
+                r.getCantidadTecnicosRegistrados(), r.getCantidadTecnicosActivos(), r.getCantidadTecnicosRetirados());
+    }
+
+    // ─── Lectura ───
+
+    /** Ejecuta {@code sql} (SQL_CONTADORES o SQL_RESUMEN con su condición) y arma un resumen por proyecto. */
+    private Map<Integer, ResumenSeguimiento> generar(String sql, List<Object> valores) throws SQLException {
+        Map<Integer, ResumenSeguimiento> resumenes = new LinkedHashMap<>();
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < valores.size(); i++) {
+                stmt.setObject(i + 1, valores.get(i));
+            }
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    String tipo = rs.getString("tipo");
-                    String estado = rs.getString("estado");
-                    int cantidad = rs.getInt("total");
-
-                    if ("Asistente".equalsIgnoreCase(tipo)) {
-                        acumularAsistente(resumen, estado, cantidad);
-                    } else if ("Ayudante".equalsIgnoreCase(tipo)) {
-                        acumularAyudante(resumen, estado, cantidad);
-                    } else if ("Tecnico".equalsIgnoreCase(tipo)) {
-                        acumularTecnico(resumen, estado, cantidad);
+                    ResumenSeguimiento resumen = resumenes.get(rs.getInt("id_proyecto"));
+                    if (resumen == null) {
+                        resumen = new ResumenSeguimiento();
+                        // Datos planificados: se repiten en cada fila del proyecto
+                        resumen.setCantidadAsistentesPlanificados(rs.getInt("num_asistentes_planificados"));
+                        resumen.setCantidadAyudantesPlanificados(rs.getInt("num_ayudantes_planificados"));
+                        resumen.setCantidadTecnicosPlanificados(rs.getInt("num_tecnico_planificados"));
+                        resumenes.put(rs.getInt("id_proyecto"), resumen);
                     }
+                    acumular(resumen, rs.getString("tipo"),
+                            rs.getInt("registrados"), rs.getInt("activos"), rs.getInt("retirados"));
                 }
             }
         }
+
+        for (ResumenSeguimiento resumen : resumenes.values()) {
+            resumen.calcularTotales();
+        }
+        return resumenes;
+    }
+
+    private void acumular(ResumenSeguimiento resumen, String tipo, int registrados, int activos, int retirados) {
+        if ("Asistente".equalsIgnoreCase(tipo)) {
+            resumen.setCantidadAsistentesRegistrados(resumen.getCantidadAsistentesRegistrados() + registrados);
+            acumularAsistente(resumen, "ACTIVO", activos);
+            acumularAsistente(resumen, "RETIRADO", retirados);
+        } else if ("Ayudante".equalsIgnoreCase(tipo)) {
+            resumen.setCantidadAyudantesRegistrados(resumen.getCantidadAyudantesRegistrados() + registrados);
+            acumularAyudante(resumen, "ACTIVO", activos);
+            acumularAyudante(resumen, "RETIRADO", retirados);
+        } else if ("Tecnico".equalsIgnoreCase(tipo)) {
+            resumen.setCantidadTecnicosRegistrados(resumen.getCantidadTecnicosRegistrados() + registrados);
+            acumularTecnico(resumen, "ACTIVO", activos);
+            acumularTecnico(resumen, "RETIRADO", retirados);
+        }
     }
 
     // --- Métodos auxiliares para clasificar conteos por estado ---
@@ -0,0 +1,162 @@
+package Logica.DAO;
+
+import Logica.Conexiones.ConexionBD;
+import Logica.Entidades.*;
+import Logica.Enumeraciones.RolSistema;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Arranque de sesión en una sola consulta: usuario, entidad del rol y proyectos.
+ * Las tablas de rol se unen por id_usuario, así el login no depende de cuánto
+ * personal haya registrado.
+ */
+public class SesionDAO {
+
+    private static final String SQL_SESION = "SELECT " +
+            "u.id_usuario AS u_id_usuario, u.username AS u_username, u.contrasena AS u_contrasena, " +
+            "u.rol AS u_rol, u.activo AS u_activo, u.debe_cambiar_contrasena AS u_debe_cambiar, " +
+            "j.cedula AS jef_cedula, j.nombres AS jef_nombres, j.apellidos AS jef_apellidos, j.correo AS jef_correo, " +
+            "sd.cedula AS sd_cedula, sd.nombres AS sd_nombres, sd.apellidos AS sd_apellidos, sd.correo AS sd_correo, " +
+            "pi.cedula AS pi_cedula, pi.nombres AS pi_nombres, pi.apellidos AS pi_apellidos, " +
+            "pi.correo AS pi_correo, pi.tipo AS pi_tipo, pi.id_proyecto AS pi_id_proyecto, " +
+            "proy.* " +
+            "FROM usuario u " +
+            "LEFT JOIN jefatura j ON j.id_usuario = u.id_usuario " +
+            "LEFT JOIN director sd ON sd.id_usuario = u.id_usuario " +
+            "LEFT JOIN personaldeinvestigacion pi ON pi.id_usuario = u.id_usuario " +
+            "LEFT JOIN (" + ProyectoDAO.SQL_PROYECTO + ") proy " +
+            "ON proy.cedula_director = sd.cedula OR proy.id_proyecto = pi.id_proyecto " +
+            "WHERE u.username = ? AND u.activo = true " +
+            "ORDER BY proy.nombre";
+
+    /**
+     * Autentica y carga la sesión completa.
+     * @return la sesión, o null si el usuario no existe, está inactivo o la contraseña no coincide
+     */
+    public SesionUsuario iniciarSesion(String username, String passwordPlana) throws SQLException {
+        SesionUsuario sesion = null;
+        Boolean debeCambiarGuardado = null;
+        ProyectoDAO proyectoDAO = new ProyectoDAO();
+        Map<String, Director> directores = new HashMap<>();
+        Map<String, PeriodoAcademico> periodos = new HashMap<>();
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(SQL_SESION)) {
+            stmt.setString(1, username);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (sesion == null) {
+                        if (!BCrypt.checkpw(passwordPlana, rs.getString("u_contrasena"))) {
+                            return null;
+                        }
+                        sesion = mapResultSetSesion(rs);
+                        boolean debeCambiar = rs.getBoolean("u_debe_cambiar");
+                        debeCambiarGuardado = rs.wasNull() ? null : debeCambiar;
+                        if (sesion.getDirector() != null) {
+                            // Los proyectos del director comparten la instancia de la sesión
+                            directores.put(sesion.getDirector().getCedula(), sesion.getDirector());
+                        }
+                    }
+                    if (rs.getObject("id_proyecto") != null) {
+                        sesion.getProyectos().add(proyectoDAO.mapResultSet(rs, directores, periodos));
+                    }
+                }
+            }
+        }
+
+        if (sesion == null) return null;
+
+        UsuarioDAO usuarioDAO = new UsuarioDAO();
+        Usuario usuario = sesion.getUsuario();
+        if (debeCambiarGuardado != null) {
+            sesion.setDebeCambiarContrasena(debeCambiarGuardado);
+        } else {
+            // Cuenta anterior a la columna: se resuelve una vez y queda guardado
+            sesion.setDebeCambiarContrasena(tieneContrasenaDefecto(sesion, passwordPlana));
+            usuarioDAO.marcarCambioContrasena(usuario.getIdUsuario(), sesion.isDebeCambiarContrasena());
+        }
+        usuario.setDebeCambiarContrasena(sesion.isDebeCambiarContrasena());
+
+        if (UsuarioDAO.requiereRehash(usuario.getContrasena())) {
+            usuarioDAO.rehashear(usuario.getIdUsuario(), passwordPlana);
+        }
+        return sesion;
+    }
+
+    /**
+     * Director y personal deben cambiar la contraseña mientras usen la generada por defecto.
+     * Se compara con la contraseña ya verificada, sin un segundo BCrypt.
+     */
+    private boolean tieneContrasenaDefecto(SesionUsuario sesion, String passwordPlana) {
+        String cedula;
+        if (sesion.getDirector() != null) {
+            cedula = sesion.getDirector().getCedula();
+        } else if (sesion.getPersonal() != null) {
+            cedula = sesion.getPersonal().getCedula();
+        } else {
+            return false;
+        }
+        return UsuarioDAO.generarContrasenaDefecto(cedula).equals(passwordPlana);
+    }
+
+    private SesionUsuario mapResultSetSesion(ResultSet rs) throws SQLException {
+        SesionUsuario sesion = new SesionUsuario();
+
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(rs.getInt("u_id_usuario"));
+        usuario.setUsername(rs.getString("u_username"));
+        usuario.setContrasena(rs.getString("u_contrasena")); // Es el hash
+        usuario.setRol(rs.getString("u_rol"));
+        usuario.setActivo(rs.getBoolean("u_activo"));
+        sesion.setUsuario(usuario);
+        sesion.setRol(RolSistema.fromString(usuario.getRol()));
+
+        switch (sesion.getRol()) {
+            case JEFATURA:
+                if (rs.getString("jef_cedula") != null) {
+                    Jefatura jefatura = new Jefatura();
+                    jefatura.setCedula(rs.getString("jef_cedula"));
+                    jefatura.setNombres(rs.getString("jef_nombres"));
+                    jefatura.setApellidos(rs.getString("jef_apellidos"));
+                    jefatura.setCorreo(rs.getString("jef_correo"));
+                    jefatura.setIdUsuario(usuario.getIdUsuario());
+                    sesion.setJefatura(jefatura);
+                }
+                break;
+            case DIRECTOR:
+                if (rs.getString("sd_cedula") != null) {
+                    Director director = new Director();
+                    director.setCedula(rs.getString("sd_cedula"));
+                    director.setNombres(rs.getString("sd_nombres"));
+                    director.setApellidos(rs.getString("sd_apellidos"));
+                    director.setCorreo(rs.getString("sd_correo"));
+                    director.setIdUsuario(usuario.getIdUsuario());
+                    sesion.setDirector(director);
+                }
+                break;
+            case PERSONAL:
+                if (rs.getString("pi_cedula") != null) {
+                    PersonalDeInvestigacion personal = crearPersonalPorTipo(rs.getString("pi_tipo"));
+                    personal.setCedula(rs.getString("pi_cedula"));
+                    personal.setNombres(rs.getString("pi_nombres"));
+                    personal.setApellidos(rs.getString("pi_apellidos"));
+                    personal.setCorreo(rs.getString("pi_correo"));
+                    personal.setIdProyecto(rs.getInt("pi_id_proyecto"));
+                    personal.setIdUsuario(usuario.getIdUsuario());
+                    sesion.setPersonal(personal);
+                }
+                break;
+        }
+        return sesion;
+    }
+
+    private PersonalDeInvestigacion crearPersonalPorTipo(String tipo) {
+        if ("Asistente".equalsIgnoreCase(tipo)) return new Asistente();
+        if ("Tecnico".equalsIgnoreCase(tipo) || "Técnico".equalsIgnoreCase(tipo)) return new Tecnico();
+        return new Ayudante();
+    }
+}
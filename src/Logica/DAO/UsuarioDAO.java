@@ -10,6 +10,9 @@ import java.util.List;
 
 public class UsuarioDAO {
 
+    /** Factor de trabajo de BCrypt; los hashes con otro costo se regeneran en el login. */
+    public static final int COSTO_BCRYPT = Integer.getInteger("seguridad.bcrypt.costo", 10);
+
     /**
      * Genera una contraseña por defecto basada en la cédula.
      * Formato: "Temporal@" + últimos 4 dígitos de cédula
@@ -23,15 +26,71 @@ public class UsuarioDAO {
     }
 
     /**
-     * Verifica si la contraseña actual del usuario es la por defecto.
-     * Útil para forzar cambio en primer login.
+     * Verifica si el usuario aún debe cambiar la contraseña por defecto.
+     * Lee el estado guardado en usuario.debe_cambiar_contrasena (la crea la
+     * migración sql/migraciones/002_debe_cambiar_contrasena.sql); solo las cuentas
+     * anteriores a esa columna (NULL) se comprueban con BCrypt, una única vez.
      */
     public boolean tieneContrasenaDefecto(int idUsuario, String cedula) throws SQLException {
-        Usuario usuario = obtenerPorId(idUsuario);
-        if (usuario == null) return false;
+        String sql = "SELECT contrasena, debe_cambiar_contrasena FROM usuario WHERE id_usuario = ?";
+
+        String hash;
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, idUsuario);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) return false;
+                boolean debeCambiar = rs.getBoolean("debe_cambiar_contrasena");
+                if (!rs.wasNull()) return debeCambiar;
+                hash = rs.getString("contrasena");
+            }
+        }
+
+        boolean debeCambiar = BCrypt.checkpw(generarContrasenaDefecto(cedula), hash);
+        marcarCambioContrasena(idUsuario, debeCambiar);
+        return debeCambiar;
+    }
+
+    /**
+     * Guarda el estado de "debe cambiar la contraseña" de un usuario.
+     */
+    public boolean marcarCambioContrasena(int idUsuario, boolean debeCambiar) throws SQLException {
+        String sql = "UPDATE usuario SET debe_cambiar_contrasena = ? WHERE id_usuario = ?";
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setBoolean(1, debeCambiar);
+            stmt.setInt(2, idUsuario);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Indica si el hash se generó con un costo distinto de COSTO_BCRYPT.
+     */
+    public static boolean requiereRehash(String hash) {
+        // Formato: $2a$NN$... donde NN es el costo
+        if (hash == null || hash.length() < 7) return false;
+        try {
+            return Integer.parseInt(hash.substring(4, 6)) != COSTO_BCRYPT;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 
-        String contrasenaDefecto = generarContrasenaDefecto(cedula);
-        return BCrypt.checkpw(contrasenaDefecto, usuario.getContrasena());
+    /**
+     * Regenera el hash con COSTO_BCRYPT a partir de la contraseña recién verificada.
+     * No cambia el estado de "debe cambiar la contraseña".
+     */
+    public void rehashear(int idUsuario, String passwordPlana) throws SQLException {
+        String sql = "UPDATE usuario SET contrasena = ? WHERE id_usuario = ?";
+
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, BCrypt.hashpw(passwordPlana, BCrypt.gensalt(COSTO_BCRYPT)));
+            stmt.setInt(2, idUsuario);
+            stmt.executeUpdate();
+        }
     }
 
     /**
@@ -41,13 +100,18 @@ public class UsuarioDAO {
     public Usuario autenticar(String username, String passwordPlana) throws SQLException {
         String sql = "SELECT * FROM usuario WHERE username = ? AND activo = true";
 
-        try (PreparedStatement stmt = ConexionBD.conectar().prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, username);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     String hashGuardado = rs.getString("contrasena");
                     if (BCrypt.checkpw(passwordPlana, hashGuardado)) {
-                        return mapResultSetToUsuario(rs);
+                        Usuario usuario = mapResultSetToUsuario(rs);
+                        if (requiereRehash(hashGuardado)) {
+                            rehashear(usuario.getIdUsuario(), passwordPlana);
+                        }
+                        return usuario;
                     }
                 }
             }
@@ -61,16 +125,18 @@ public class UsuarioDAO {
      * @return ID del usuario generado, o -1 si falla
      */
     public int guardar(Usuario usuario) throws SQLException {
-        String sql = "INSERT INTO usuario (username, contrasena, rol, activo) " +
-                "VALUES (?, ?, ?, ?) RETURNING id_usuario";
+        String sql = "INSERT INTO usuario (username, contrasena, rol, activo, debe_cambiar_contrasena) " +
+                "VALUES (?, ?, ?, ?, ?) RETURNING id_usuario";
 
-        String hashPassword = BCrypt.hashpw(usuario.getContrasena(), BCrypt.gensalt());
+        String hashPassword = BCrypt.hashpw(usuario.getContrasena(), BCrypt.gensalt(COSTO_BCRYPT));
 
-        try (PreparedStatement stmt = ConexionBD.conectar().prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, usuario.getUsername());
             stmt.setString(2, hashPassword);
             stmt.setString(3, usuario.getRol());
             stmt.setBoolean(4, usuario.isActivo());
+            stmt.setBoolean(5, usuario.isDebeCambiarContrasena());
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
@@ -86,13 +152,14 @@ public class UsuarioDAO {
 
     /**
      * Cambia la contraseña de un usuario.
-     * La nueva contraseña se hashea automáticamente.
+     * La nueva contraseña se hashea automáticamente y deja de exigirse el cambio.
      */
     public boolean cambiarContrasena(int idUsuario, String nuevaContrasena) throws SQLException {
-        String nuevoHash = BCrypt.hashpw(nuevaContrasena, BCrypt.gensalt());
-        String sql = "UPDATE usuario SET contrasena = ? WHERE id_usuario = ?";
+        String nuevoHash = BCrypt.hashpw(nuevaContrasena, BCrypt.gensalt(COSTO_BCRYPT));
+        String sql = "UPDATE usuario SET contrasena = ?, debe_cambiar_contrasena = FALSE WHERE id_usuario = ?";
 
-        try (PreparedStatement stmt = ConexionBD.conectar().prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, nuevoHash);
             stmt.setInt(2, idUsuario);
             return stmt.executeUpdate() > 0;
@@ -105,7 +172,8 @@ public class UsuarioDAO {
     public Usuario obtenerPorId(int idUsuario) throws SQLException {
         String sql = "SELECT * FROM usuario WHERE id_usuario = ?";
 
-        try (PreparedStatement stmt = ConexionBD.conectar().prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idUsuario);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) return mapResultSetToUsuario(rs);
@@ -120,7 +188,8 @@ public class UsuarioDAO {
     public Usuario obtenerPorUsername(String username) throws SQLException {
         String sql = "SELECT * FROM usuario WHERE username = ?";
 
-        try (PreparedStatement stmt = ConexionBD.conectar().prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, username);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) return mapResultSetToUsuario(rs);
@@ -136,8 +205,9 @@ public class UsuarioDAO {
         List<Usuario> usuarios = new ArrayList<>();
         String sql = "SELECT * FROM usuario ORDER BY username";
 
-        try (Statement stmt = ConexionBD.conectar().createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) usuarios.add(mapResultSetToUsuario(rs));
         }
         return usuarios;
@@ -150,7 +220,8 @@ public class UsuarioDAO {
         List<Usuario> usuarios = new ArrayList<>();
         String sql = "SELECT * FROM usuario WHERE rol = ? AND activo = true";
 
-        try (PreparedStatement stmt = ConexionBD.conectar().prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, rol);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) usuarios.add(mapResultSetToUsuario(rs));
@@ -166,7 +237,8 @@ public class UsuarioDAO {
     public boolean actualizar(Usuario usuario) throws SQLException {
         String sql = "UPDATE usuario SET username = ?, rol = ?, activo = ? WHERE id_usuario = ?";
 
-        try (PreparedStatement stmt = ConexionBD.conectar().prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, usuario.getUsername());
             stmt.setString(2, usuario.getRol());
             stmt.setBoolean(3, usuario.isActivo());
@@ -181,7 +253,8 @@ public class UsuarioDAO {
     public boolean eliminar(int idUsuario) throws SQLException {
         String sql = "UPDATE usuario SET activo = false WHERE id_usuario = ?";
 
-        try (PreparedStatement stmt = ConexionBD.conectar().prepareStatement(sql)) {
+        try (Connection conn = ConexionBD.conectar();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, idUsuario);
             return stmt.executeUpdate() > 0;
         }
@@ -194,6 +267,8 @@ public class UsuarioDAO {
         usuario.setContrasena(rs.getString("contrasena")); // Es el hash
         usuario.setRol(rs.getString("rol"));
         usuario.setActivo(rs.getBoolean("activo"));
+        // NULL (cuenta anterior a la columna) se trata como "no exigir" hasta su próximo login
+        usuario.setDebeCambiarContrasena(rs.getBoolean("debe_cambiar_contrasena"));
         return usuario;
     }
 }
@@ -1,6 +1,8 @@
 package Logica.Entidades;
 
+import Logica.Conexiones.GestorTransacciones;
 import Logica.DAO.*;
+import Logica.Enumeraciones.EstadoInforme;
 import Logica.Enumeraciones.EstadoParticipacion;
 import Logica.Enumeraciones.EstadoReporte;
 
@@ -40,42 +42,51 @@ public class Director {
     public void registrarPersonalDeInvestigacion(PersonalDeInvestigacion personal,
                                                  int idProyecto,
                                                  LocalDate fechaInicioParticipacion) throws SQLException {
-        // Paso 1: Crear Usuario
-        UsuarioDAO usuarioDAO = new UsuarioDAO();
-        String username = generarUsernamePersonal(personal);
-        String contrasenaDefecto = UsuarioDAO.generarContrasenaDefecto(personal.getCedula());
-
-        Usuario usuarioPersonal = new Usuario(username, contrasenaDefecto, "PERSONAL");
-        int idUsuarioGenerado = usuarioDAO.guardar(usuarioPersonal);
-
-        if (idUsuarioGenerado == -1) {
-            throw new SQLException("Error al crear usuario para el personal");
-        }
-
-        // Paso 2: Vincular usuario y proyecto al personal
-        personal.setIdUsuario(idUsuarioGenerado);
-        personal.setIdProyecto(idProyecto);
-
-        // Paso 3: Guardar Personal
-        PersonalDeInvestigacionDAO personalDAO = new PersonalDeInvestigacionDAO();
-        personalDAO.guardar(personal);
-
-        // Paso 4: Crear Participacion inicial
-        ParticipacionDAO participacionDAO = new ParticipacionDAO();
-        Participacion participacion = new Participacion();
-        participacion.setPersonal(personal);
-        participacion.setFechaInicio(fechaInicioParticipacion);
-        participacion.setEstado(EstadoParticipacion.ACTIVO);
-        participacionDAO.guardar(participacion);
-
-        // Paso 5: Notificar al personal
-        NotificacionDAO notifDAO = new NotificacionDAO();
-        Notificacion notif = new Notificacion();
-        notif.setFecha(LocalDateTime.now());
-        notif.setIdUsuario(idUsuarioGenerado);
-        notif.setContenido("Ha sido registrado en el proyecto. Usuario: " + username +
-                ". Por favor, ingrese y cambie su contraseña.");
-        notifDAO.guardar(notif);
+        // Usuario, personal, participación y notificación se confirman juntos
+        GestorTransacciones.ejecutar(() -> {
+            // Paso 1: Crear Usuario
+            UsuarioDAO usuarioDAO = new UsuarioDAO();
+            String username = generarUsernamePersonal(personal);
+            String contrasenaDefecto = UsuarioDAO.generarContrasenaDefecto(personal.getCedula());
+
+            Usuario usuarioPersonal = new Usuario(username, contrasenaDefecto, "PERSONAL");
+            int idUsuarioGenerado = usuarioDAO.guardar(usuarioPersonal);
+
+            if (idUsuarioGenerado == -1) {
+                throw new SQLException("Error al crear usuario para el personal");
+            }
+
+            // Paso 2: Vincular usuario y proyecto al personal (se restauran si se revierte)
+            int idUsuarioAnterior = personal.getIdUsuario();
+            int idProyectoAnterior = personal.getIdProyecto();
+            GestorTransacciones.alRevertir(() -> {
+                personal.setIdUsuario(idUsuarioAnterior);
+                personal.setIdProyecto(idProyectoAnterior);
+            });
+            personal.setIdUsuario(idUsuarioGenerado);
+            personal.setIdProyecto(idProyecto);
+
+            // Paso 3: Guardar Personal
+            PersonalDeInvestigacionDAO personalDAO = new PersonalDeInvestigacionDAO();
+            personalDAO.guardar(personal);
+
+            // Paso 4: Crear Participacion inicial
+            ParticipacionDAO participacionDAO = new ParticipacionDAO();
+            Participacion participacion = new Participacion();
+            participacion.setPersonal(personal);
+            participacion.setFechaInicio(fechaInicioParticipacion);
+            participacion.setEstado(EstadoParticipacion.ACTIVO);
+            participacionDAO.guardar(participacion);
+
+            // Paso 5: Notificar al personal
+            NotificacionDAO notifDAO = new NotificacionDAO();
+            Notificacion notif = new Notificacion();
+            notif.setFecha(LocalDateTime.now());
+            notif.setIdUsuario(idUsuarioGenerado);
+            notif.setContenido("Ha sido registrado en el proyecto. Usuario: " + username +
+                    ". Por favor, ingrese y cambie su contraseña.");
+            notifDAO.guardar(notif);
+        });
     }
 
     /**
@@ -127,25 +138,32 @@ public class Director {
     }
 
     /**
-     * Cierra y envía el reporte a jefatura
+     * Cierra y envía el reporte a jefatura. El reporte recibido solo pasa a
+     * CERRADO cuando la transacción se confirma.
      */
     public void enviarReporte(Reporte reporte) throws SQLException {
-        ReporteDAO reporteDAO = new ReporteDAO();
-        reporte.cerrarYEnviar();
-        reporteDAO.actualizar(reporte);
-
-        // Notificar a jefatura
-        NotificacionDAO notifDAO = new NotificacionDAO();
-        // Aquí deberías obtener el id_usuario de jefatura
-        // Por ahora, asumimos que hay un método para obtenerlo
-        int idUsuarioJefatura = obtenerIdUsuarioJefatura();
-
-        Notificacion notif = new Notificacion();
-        notif.setIdUsuario(idUsuarioJefatura);
-        notif.setFecha(LocalDateTime.now());
-        notif.setContenido("El director " + this.getNombresCompletos() +
-                " ha enviado un reporte para revisión.");
-        notifDAO.guardar(notif);
+        GestorTransacciones.ejecutar(() -> {
+            // cerrarYEnviar valida, cambia el estado y lo persiste: se hace sobre una copia
+            Reporte cerrado = reporte.copia();
+            cerrado.cerrarYEnviar();
+            GestorTransacciones.alConfirmar(() -> {
+                reporte.setEstado(cerrado.getEstado());
+                reporte.setFechaCierre(cerrado.getFechaCierre());
+            });
+
+            // Notificar a jefatura
+            NotificacionDAO notifDAO = new NotificacionDAO();
+            // Aquí deberías obtener el id_usuario de jefatura
+            // Por ahora, asumimos que hay un método para obtenerlo
+            int idUsuarioJefatura = obtenerIdUsuarioJefatura();
+
+            Notificacion notif = new Notificacion();
+            notif.setIdUsuario(idUsuarioJefatura);
+            notif.setFecha(LocalDateTime.now());
+            notif.setContenido("El director " + this.getNombresCompletos() +
+                    " ha enviado un reporte para revisión.");
+            notifDAO.guardar(notif);
+        });
     }
 
     /**
@@ -190,24 +208,36 @@ public class Director {
     }
 
     public void aprobarInformeDeActividades(InformeActividades informe) throws SQLException {
-        // aprobar() ya valida que el estado sea ENVIADO y envía notificación al personal
-        informe.aprobar();
-
-        // Persistir el cambio de estado en la BD
-        InformeActividadesDAO dao = new InformeActividadesDAO();
-        dao.actualizar(informe);
+        GestorTransacciones.ejecutar(() -> {
+            // aprobar() ya valida que el estado sea ENVIADO y envía notificación al personal
+            restaurarEstadoSiSeRevierte(informe);
+            informe.aprobar();
+
+            // Persistir el cambio de estado en la BD
+            InformeActividadesDAO dao = new InformeActividadesDAO();
+            dao.actualizar(informe);
+        });
     }
 
     /**
      * Rechaza un informe de actividades con un motivo
      */
     public void rechazarInformeDeActividades(InformeActividades informe, String motivo) throws SQLException {
-        // rechazar() valida estado y notifica al personal
-        informe.rechazar(motivo);
+        GestorTransacciones.ejecutar(() -> {
+            // rechazar() valida estado y notifica al personal
+            restaurarEstadoSiSeRevierte(informe);
+            informe.rechazar(motivo);
+
+            // Persistir
+            InformeActividadesDAO dao = new InformeActividadesDAO();
+            dao.actualizar(informe);
+        });
+    }
 
-        // Persistir
-        InformeActividadesDAO dao = new InformeActividadesDAO();
-        dao.actualizar(informe);
+    /** El informe en pantalla vuelve a su estado anterior si la transacción se revierte. */
+    private static void restaurarEstadoSiSeRevierte(InformeActividades informe) {
+        EstadoInforme anterior = informe.getEstado();
+        GestorTransacciones.alRevertir(() -> informe.setEstado(anterior));
     }
 
     // Gestión de Cuenta y Notificaciones
@@ -221,8 +251,8 @@ public class Director {
 
     public void cargarNotificaciones() throws SQLException {
         NotificacionDAO notificacionDAO = new NotificacionDAO();
-        // Carga usando el ID de usuario, no la cédula
-        this.notificaciones = notificacionDAO.obtenerPorUsuario(this.idUsuario);
+        // Solo las más recientes; las anteriores se piden por página desde la barra
+        this.notificaciones = notificacionDAO.obtenerRecientes(this.idUsuario);
     }
 
     public void agregarNotificacion(Notificacion notificacion) {
@@ -0,0 +1,51 @@
+package Logica.Entidades;
+
+import Logica.Enumeraciones.EstadoInforme;
+
+import java.time.LocalDate;
+
+/**
+ * Criterios del listado paginado de informes.
+ * Los campos en null (o 0 en idProyecto) no filtran.
+ */
+public class FiltroInformes {
+    private int idProyecto;
+    private EstadoInforme estado;
+    private LocalDate desde;
+    private LocalDate hasta;
+    private String cedulaPersonal;
+
+    private int limite = 50;
+    private int desplazamiento = 0;
+
+    public FiltroInformes() {
+    }
+
+    /** Avanza a la página siguiente manteniendo los criterios. */
+    public void siguientePagina() {
+        this.desplazamiento += limite;
+    }
+
+    // Getters y Setters
+
+    public int getIdProyecto() { return idProyecto; }
+    public void setIdProyecto(int idProyecto) { this.idProyecto = idProyecto; }
+
+    public EstadoInforme getEstado() { return estado; }
+    public void setEstado(EstadoInforme estado) { this.estado = estado; }
+
+    public LocalDate getDesde() { return desde; }
+    public void setDesde(LocalDate desde) { this.desde = desde; }
+
+    public LocalDate getHasta() { return hasta; }
+    public void setHasta(LocalDate hasta) { this.hasta = hasta; }
+
+    public String getCedulaPersonal() { return cedulaPersonal; }
+    public void setCedulaPersonal(String cedulaPersonal) { this.cedulaPersonal = cedulaPersonal; }
+
+    public int getLimite() { return limite; }
+    public void setLimite(int limite) { this.limite = limite; }
+
+    public int getDesplazamiento() { return desplazamiento; }
+    public void setDesplazamiento(int desplazamiento) { this.desplazamiento = desplazamiento; }
+}
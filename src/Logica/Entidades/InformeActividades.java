@@ -17,6 +17,9 @@ public class InformeActividades {
     private LocalDate fechaRegistro;
     private EstadoInforme estado;
 
+    /** Versión leída de la base; el DAO rechaza la escritura si otro la cambió antes */
+    private int version;
+
     // CAMBIO PRINCIPAL: Lista de semanas en lugar de arrays
     private List<SemanaActividades> semanas;
 
@@ -144,6 +147,9 @@ public class InformeActividades {
     public EstadoInforme getEstado() { return estado; }
     public void setEstado(EstadoInforme estado) { this.estado = estado; }
 
+    public int getVersion() { return version; }
+    public void setVersion(int version) { this.version = version; }
+
     public List<SemanaActividades> getSemanas() { return semanas; }
     public void setSemanas(List<SemanaActividades> semanas) {
         this.semanas = semanas;
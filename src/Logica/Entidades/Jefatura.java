@@ -1,5 +1,6 @@
 package Logica.Entidades;
 
+import Logica.Conexiones.GestorTransacciones;
 import Logica.DAO.*;
 import Logica.Enumeraciones.EstadoProyecto;
 import Logica.Enumeraciones.EstadoReporte;
@@ -8,6 +9,7 @@ import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class Jefatura {
 
@@ -74,51 +76,61 @@ public class Jefatura {
                 throw new SQLException("El proyecto no tiene datos del director candidato");
             }
 
-            // Paso 1: Crear Usuario del director
-            UsuarioDAO usuarioDAO = new UsuarioDAO();
-            String username = generarUsernameDirector(proyecto);
-            String contrasenaDefecto = UsuarioDAO.generarContrasenaDefecto(dirCandidato.getCedula());
-
-            Usuario usuarioDirector = new Usuario(username, contrasenaDefecto, "DIRECTOR");
-            int idUsuarioGenerado = usuarioDAO.guardar(usuarioDirector);
-
-            if (idUsuarioGenerado == -1) {
-                throw new SQLException("Error al crear usuario para el director");
-            }
-
-            // Paso 2: Crear entidad Director vinculada al usuario
-            DirectorDAO directorDAO = new DirectorDAO();
-            dirCandidato.setIdUsuario(idUsuarioGenerado);
-
-            boolean directorCreado = directorDAO.guardar(dirCandidato);
-            if (!directorCreado) {
-                throw new SQLException("Error al crear el director");
-            }
-
-            // Paso 3: Asignar cedula_director en el proyecto (ahora el director existe)
-            ProyectoDAO proyectoDAO = new ProyectoDAO();
-            proyectoDAO.actualizarDirector(proyecto.getIdProyecto(), dirCandidato.getCedula());
-
-            // Paso 4: Actualizar estado del proyecto
-            proyecto.setEstado(nuevoEstado);
-            proyectoDAO.actualizar(proyecto);
-
-            // Paso 5: Enviar notificación al director
-            NotificacionDAO notifDAO = new NotificacionDAO();
-            Notificacion notif = new Notificacion();
-            notif.setFecha(LocalDateTime.now());
-            notif.setIdUsuario(idUsuarioGenerado);
-            notif.setIdUsuario(idUsuarioGenerado);
-            notif.setContenido("Su proyecto '" + proyecto.getNombre() +
-                    "' ha sido aprobado. Usuario: " + username +
-                    ". Por favor, ingrese y cambie su contraseña.");
-            notifDAO.guardar(notif);
+            // Los cinco pasos se confirman juntos: si uno falla no quedan
+            // usuarios o directores huérfanos
+            GestorTransacciones.ejecutar(() -> {
+                // Paso 1: Crear Usuario del director
+                UsuarioDAO usuarioDAO = new UsuarioDAO();
+                String username = generarUsernameDirector(proyecto);
+                String contrasenaDefecto = UsuarioDAO.generarContrasenaDefecto(dirCandidato.getCedula());
+
+                Usuario usuarioDirector = new Usuario(username, contrasenaDefecto, "DIRECTOR");
+                int idUsuarioGenerado = usuarioDAO.guardar(usuarioDirector);
+
+                if (idUsuarioGenerado == -1) {
+                    throw new SQLException("Error al crear usuario para el director");
+                }
+
+                // Paso 2: Crear entidad Director vinculada al usuario (desde una
+                // copia: el candidato en memoria se actualiza solo al confirmar)
+                DirectorDAO directorDAO = new DirectorDAO();
+                Director director = new Director(dirCandidato.getCedula(), dirCandidato.getNombres(),
+                        dirCandidato.getApellidos(), dirCandidato.getCorreo());
+                director.setIdUsuario(idUsuarioGenerado);
+
+                boolean directorCreado = directorDAO.guardar(director);
+                if (!directorCreado) {
+                    throw new SQLException("Error al crear el director");
+                }
+
+                // Paso 3: Asignar cedula_director en el proyecto (ahora el director existe)
+                ProyectoDAO proyectoDAO = new ProyectoDAO();
+                proyectoDAO.actualizarDirector(proyecto.getIdProyecto(), dirCandidato.getCedula());
+
+                // Paso 4: Actualizar estado del proyecto
+                proyectoDAO.actualizarEstado(proyecto.getIdProyecto(), nuevoEstado);
+
+                // Paso 5: Enviar notificación al director
+                NotificacionDAO notifDAO = new NotificacionDAO();
+                Notificacion notif = new Notificacion();
+                notif.setFecha(LocalDateTime.now());
+                notif.setIdUsuario(idUsuarioGenerado);
+                notif.setIdUsuario(idUsuarioGenerado);
+                notif.setContenido("Su proyecto '" + proyecto.getNombre() +
+                        "' ha sido aprobado. Usuario: " + username +
+                        ". Por favor, ingrese y cambie su contraseña.");
+                notifDAO.guardar(notif);
 
+                GestorTransacciones.alConfirmar(() -> {
+                    dirCandidato.setIdUsuario(idUsuarioGenerado);
+                    proyecto.setEstado(nuevoEstado);
+                });
+            });
         } else {
             // Para otros cambios de estado, solo actualizar
-            proyecto.setEstado(nuevoEstado);
             ProyectoDAO proyectoDAO = new ProyectoDAO();
-            proyectoDAO.actualizarEstado(proyecto);
+            proyectoDAO.actualizarEstado(proyecto.getIdProyecto(), nuevoEstado);
+            GestorTransacciones.alConfirmar(() -> proyecto.setEstado(nuevoEstado));
         }
     }
 
@@ -140,6 +152,16 @@ public class Jefatura {
         return resumenDAO.generarResumen(idProyecto);
     }
 
+    /**
+     * Resúmenes de seguimiento de todos los proyectos (por id_proyecto) en una sola consulta.
+     * periodo y estado en null no filtran.
+     */
+    public Map<Integer, ResumenSeguimiento> generarResumenesSeguimiento(String periodo, EstadoProyecto estado)
+            throws SQLException {
+        ResumenSeguimientoDAO resumenDAO = new ResumenSeguimientoDAO();
+        return resumenDAO.generarResumenes(periodo, estado);
+    }
+
     public List<Reporte> revisarReportes() throws SQLException {
         ReporteDAO reporteDAO = new ReporteDAO();
         return reporteDAO.obtenerTodos();
@@ -148,21 +170,26 @@ public class Jefatura {
     public void aprobarReporte(Reporte reporte) throws SQLException {
         ReporteDAO reporteDAO = new ReporteDAO();
         if (reporte.getEstado() == EstadoReporte.CERRADO) {
-            reporte.setEstado(EstadoReporte.APROBADO);
-            reporteDAO.actualizar(reporte);
-
-            // Notificar al director: el flujo exige que le llegue notificación
-            ProyectoDAO proyectoDAO = new ProyectoDAO();
-            Proyecto proyecto = proyectoDAO.obtenerPorId(reporte.getIdProyecto());
-            if (proyecto != null && proyecto.getDirector() != null) {
-                NotificacionDAO notifDAO = new NotificacionDAO();
-                Notificacion notif = new Notificacion();
-                notif.setIdUsuario(proyecto.getDirector().getIdUsuario());
-                notif.setFecha(LocalDateTime.now());
-                notif.setContenido("Su reporte del proyecto '" + proyecto.getNombre() +
-                        "' ha sido aprobado por jefatura.");
-                notifDAO.guardar(notif);
-            }
+            // Se escribe una copia; el reporte en pantalla cambia solo al confirmar
+            Reporte aprobado = reporte.copia();
+            aprobado.setEstado(EstadoReporte.APROBADO);
+            GestorTransacciones.ejecutar(() -> {
+                reporteDAO.actualizar(aprobado);
+                GestorTransacciones.alConfirmar(() -> reporte.setEstado(EstadoReporte.APROBADO));
+
+                // Notificar al director: el flujo exige que le llegue notificación
+                ProyectoDAO proyectoDAO = new ProyectoDAO();
+                Proyecto proyecto = proyectoDAO.obtenerPorId(reporte.getIdProyecto());
+                if (proyecto != null && proyecto.getDirector() != null) {
+                    NotificacionDAO notifDAO = new NotificacionDAO();
+                    Notificacion notif = new Notificacion();
+                    notif.setIdUsuario(proyecto.getDirector().getIdUsuario());
+                    notif.setFecha(LocalDateTime.now());
+                    notif.setContenido("Su reporte del proyecto '" + proyecto.getNombre() +
+                            "' ha sido aprobado por jefatura.");
+                    notifDAO.guardar(notif);
+                }
+            });
         } else {
             throw new SQLException("Solo se pueden aprobar reportes cerrados.");
         }
@@ -174,20 +201,24 @@ public class Jefatura {
     public void rechazarReporte(Reporte reporte, String motivo) throws SQLException {
         ReporteDAO reporteDAO = new ReporteDAO();
         if (reporte.getEstado() == EstadoReporte.CERRADO) {
-            reporte.setEstado(EstadoReporte.RECHAZADO);
-            reporteDAO.actualizar(reporte);
-
-            ProyectoDAO proyectoDAO = new ProyectoDAO();
-            Proyecto proyecto = proyectoDAO.obtenerPorId(reporte.getIdProyecto());
-            if (proyecto != null && proyecto.getDirector() != null) {
-                NotificacionDAO notifDAO = new NotificacionDAO();
-                Notificacion notif = new Notificacion();
-                notif.setIdUsuario(proyecto.getDirector().getIdUsuario());
-                notif.setFecha(LocalDateTime.now());
-                notif.setContenido("Su reporte del proyecto '" + proyecto.getNombre() +
-                        "' ha sido rechazado por jefatura. Motivo: " + motivo);
-                notifDAO.guardar(notif);
-            }
+            Reporte rechazado = reporte.copia();
+            rechazado.setEstado(EstadoReporte.RECHAZADO);
+            GestorTransacciones.ejecutar(() -> {
+                reporteDAO.actualizar(rechazado);
+                GestorTransacciones.alConfirmar(() -> reporte.setEstado(EstadoReporte.RECHAZADO));
+
+                ProyectoDAO proyectoDAO = new ProyectoDAO();
+                Proyecto proyecto = proyectoDAO.obtenerPorId(reporte.getIdProyecto());
+                if (proyecto != null && proyecto.getDirector() != null) {
+                    NotificacionDAO notifDAO = new NotificacionDAO();
+                    Notificacion notif = new Notificacion();
+                    notif.setIdUsuario(proyecto.getDirector().getIdUsuario());
+                    notif.setFecha(LocalDateTime.now());
+                    notif.setContenido("Su reporte del proyecto '" + proyecto.getNombre() +
+                            "' ha sido rechazado por jefatura. Motivo: " + motivo);
+                    notifDAO.guardar(notif);
+                }
+            });
         } else {
             throw new SQLException("Solo se pueden rechazar reportes cerrados.");
         }
@@ -200,8 +231,8 @@ public class Jefatura {
 
     public void cargarNotificaciones() throws SQLException {
         NotificacionDAO notificacionDAO = new NotificacionDAO();
-        // Usa idUsuario
-        this.notificaciones = notificacionDAO.obtenerPorUsuario(this.idUsuario);
+        // Solo las más recientes; las anteriores se piden por página desde la barra
+        this.notificaciones = notificacionDAO.obtenerRecientes(this.idUsuario);
     }
 
     public void agregarNotificacion(Notificacion notificacion) {
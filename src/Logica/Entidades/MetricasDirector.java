@@ -0,0 +1,31 @@
+package Logica.Entidades;
+
+/**
+ * Contadores del dashboard del Director para un proyecto, calculados en SQL
+ * (MetricasDashboardDAO) sin traer el personal ni sus participaciones.
+ */
+public class MetricasDirector {
+    private int totalPersonal;
+    private int personalActivo;
+    private int reportesEnEdicion;
+    private int informesPendientes;
+
+    public MetricasDirector() {
+    }
+
+    // Getters y Setters
+
+    public int getTotalPersonal() { return totalPersonal; }
+    public void setTotalPersonal(int totalPersonal) { this.totalPersonal = totalPersonal; }
+
+    /** Personal cuya participación más reciente está ACTIVA. */
+    public int getPersonalActivo() { return personalActivo; }
+    public void setPersonalActivo(int personalActivo) { this.personalActivo = personalActivo; }
+
+    public int getReportesEnEdicion() { return reportesEnEdicion; }
+    public void setReportesEnEdicion(int reportesEnEdicion) { this.reportesEnEdicion = reportesEnEdicion; }
+
+    /** Informes enviados que esperan revisión del director. */
+    public int getInformesPendientes() { return informesPendientes; }
+    public void setInformesPendientes(int informesPendientes) { this.informesPendientes = informesPendientes; }
+}
@@ -0,0 +1,30 @@
+package Logica.Entidades;
+
+/**
+ * Contadores del dashboard de Jefatura, calculados en SQL
+ * (MetricasDashboardDAO) sin traer proyectos ni reportes.
+ */
+public class MetricasJefatura {
+    private int totalProyectos;
+    private int proyectosAprobados;
+    private int proyectosEnRevision;
+    private int reportesPendientes;
+
+    public MetricasJefatura() {
+    }
+
+    // Getters y Setters
+
+    public int getTotalProyectos() { return totalProyectos; }
+    public void setTotalProyectos(int totalProyectos) { this.totalProyectos = totalProyectos; }
+
+    public int getProyectosAprobados() { return proyectosAprobados; }
+    public void setProyectosAprobados(int proyectosAprobados) { this.proyectosAprobados = proyectosAprobados; }
+
+    public int getProyectosEnRevision() { return proyectosEnRevision; }
+    public void setProyectosEnRevision(int proyectosEnRevision) { this.proyectosEnRevision = proyectosEnRevision; }
+
+    /** Reportes cerrados por el director que esperan aprobación. */
+    public int getReportesPendientes() { return reportesPendientes; }
+    public void setReportesPendientes(int reportesPendientes) { this.reportesPendientes = reportesPendientes; }
+}
@@ -7,6 +7,7 @@ public class Notificacion {
     private int idUsuario; // Identificador universal del usuario (Director, Jefe o Personal)
     private String contenido;
     private LocalDateTime fecha;
+    private boolean leida;
 
     // Constructor vacío
     public Notificacion() {
@@ -59,6 +60,14 @@ public class Notificacion {
         this.fecha = fecha;
     }
 
+    public boolean isLeida() {
+        return leida;
+    }
+
+    public void setLeida(boolean leida) {
+        this.leida = leida;
+    }
+
     @Override
     public String toString() {
         return "Notificacion{" +
@@ -66,6 +75,7 @@ public class Notificacion {
                 ", idUsuario=" + idUsuario +
                 ", contenido='" + contenido + '\'' +
                 ", fecha=" + fecha +
+                ", leida=" + leida +
                 '}';
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package Logica.Entidades;
 
+import Logica.Conexiones.GestorTransacciones;
 import Logica.DAO.InformeActividadesDAO;
 import Logica.DAO.NotificacionDAO;
 import Logica.DAO.ProyectoDAO;
@@ -42,7 +43,8 @@ public abstract class PersonalDeInvestigacion {
 
     public void cargarNotificaciones() throws SQLException {
         NotificacionDAO notificacionDAO = new NotificacionDAO();
-        this.notificaciones = notificacionDAO.obtenerPorUsuario(this.idUsuario);
+        // Solo las más recientes; las anteriores se piden por página desde la barra
+        this.notificaciones = notificacionDAO.obtenerRecientes(this.idUsuario);
     }
 
     public void agregarInforme(InformeActividades informeActividades) {
@@ -86,10 +88,14 @@ public abstract class PersonalDeInvestigacion {
             throw new IllegalStateException("El informe ya fue enviado");
         }
 
-        informe.enviarParaRevision();
+        GestorTransacciones.ejecutar(() -> {
+            // Si no se confirma, el informe en pantalla sigue EN_EDICION
+            GestorTransacciones.alRevertir(() -> informe.setEstado(EstadoInforme.EN_EDICION));
+            informe.enviarParaRevision();
 
-        InformeActividadesDAO dao = new InformeActividadesDAO();
-        dao.actualizar(informe);
+            InformeActividadesDAO dao = new InformeActividadesDAO();
+            dao.actualizar(informe);
+        });
     }
 
     /**
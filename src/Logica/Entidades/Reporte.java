@@ -32,6 +32,22 @@ public class Reporte {
         this.fechaInicio = LocalDate.now();
     }
 
+    /**
+     * Copia de los datos del reporte, para escribir un cambio sin tocar el
+     * original hasta que se confirme. La lista de participaciones se comparte.
+     */
+    Reporte copia() {
+        Reporte copia = new Reporte();
+        copia.idReporte = idReporte;
+        copia.periodoAcademico = periodoAcademico;
+        copia.idProyecto = idProyecto;
+        copia.estado = estado;
+        copia.fechaInicio = fechaInicio;
+        copia.fechaCierre = fechaCierre;
+        copia.participacionesIncluidas = participacionesIncluidas;
+        return copia;
+    }
+
     // --- Getters y Setters ---
 
     public int getIdReporte() { return idReporte; }
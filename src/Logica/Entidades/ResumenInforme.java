@@ -0,0 +1,62 @@
+package Logica.Entidades;
+
+import Logica.Enumeraciones.EstadoInforme;
+
+import java.time.LocalDate;
+
+/**
+ * Fila del listado de informes de actividades.
+ * Trae solo lo necesario para la tabla; el informe completo (con semanas)
+ * se carga con InformeActividadesDAO.obtenerPorId al abrir la fila.
+ */
+public class ResumenInforme {
+    private int idInforme;
+    private String cedulaPersonal;
+    private String nombresPersonal;
+    private String apellidosPersonal;
+    private int idProyecto;
+    private String nombreProyecto;
+    private LocalDate fechaRegistro;
+    private EstadoInforme estado;
+    private int numeroSemanas;
+    private double horasTotales;
+
+    public ResumenInforme() {
+    }
+
+    public String getNombreCompletoPersonal() {
+        return nombresPersonal + " " + apellidosPersonal;
+    }
+
+    // Getters y Setters
+
+    public int getIdInforme() { return idInforme; }
+    public void setIdInforme(int idInforme) { this.idInforme = idInforme; }
+
+    public String getCedulaPersonal() { return cedulaPersonal; }
+    public void setCedulaPersonal(String cedulaPersonal) { this.cedulaPersonal = cedulaPersonal; }
+
+    public String getNombresPersonal() { return nombresPersonal; }
+    public void setNombresPersonal(String nombresPersonal) { this.nombresPersonal = nombresPersonal; }
+
+    public String getApellidosPersonal() { return apellidosPersonal; }
+    public void setApellidosPersonal(String apellidosPersonal) { this.apellidosPersonal = apellidosPersonal; }
+
+    public int getIdProyecto() { return idProyecto; }
+    public void setIdProyecto(int idProyecto) { this.idProyecto = idProyecto; }
+
+    public String getNombreProyecto() { return nombreProyecto; }
+    public void setNombreProyecto(String nombreProyecto) { this.nombreProyecto = nombreProyecto; }
+
+    public LocalDate getFechaRegistro() { return fechaRegistro; }
+    public void setFechaRegistro(LocalDate fechaRegistro) { this.fechaRegistro = fechaRegistro; }
+
+    public EstadoInforme getEstado() { return estado; }
+    public void setEstado(EstadoInforme estado) { this.estado = estado; }
+
+    public int getNumeroSemanas() { return numeroSemanas; }
+    public void setNumeroSemanas(int numeroSemanas) { this.numeroSemanas = numeroSemanas; }
+
+    public double getHorasTotales() { return horasTotales; }
+    public void setHorasTotales(double horasTotales) { this.horasTotales = horasTotales; }
+}
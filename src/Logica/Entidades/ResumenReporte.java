@@ -0,0 +1,44 @@
+package Logica.Entidades;
+
+/**
+ * Fila del listado de reportes de Jefatura.
+ * Lleva el reporte junto con los datos del proyecto y del director que la tabla
+ * muestra, para no consultar el proyecto de cada fila por separado.
+ */
+public class ResumenReporte {
+    private Reporte reporte;
+    private String nombreProyecto;
+    private String codigoProyecto;
+    private String nombresDirector;
+    private String apellidosDirector;
+    private int numeroParticipaciones;
+
+    public ResumenReporte() {
+    }
+
+    public String getNombreCompletoDirector() {
+        if (nombresDirector == null && apellidosDirector == null) return null;
+        return (nombresDirector != null ? nombresDirector : "") + " " +
+                (apellidosDirector != null ? apellidosDirector : "");
+    }
+
+    // Getters y Setters
+
+    public Reporte getReporte() { return reporte; }
+    public void setReporte(Reporte reporte) { this.reporte = reporte; }
+
+    public String getNombreProyecto() { return nombreProyecto; }
+    public void setNombreProyecto(String nombreProyecto) { this.nombreProyecto = nombreProyecto; }
+
+    public String getCodigoProyecto() { return codigoProyecto; }
+    public void setCodigoProyecto(String codigoProyecto) { this.codigoProyecto = codigoProyecto; }
+
+    public String getNombresDirector() { return nombresDirector; }
+    public void setNombresDirector(String nombresDirector) { this.nombresDirector = nombresDirector; }
+
+    public String getApellidosDirector() { return apellidosDirector; }
+    public void setApellidosDirector(String apellidosDirector) { this.apellidosDirector = apellidosDirector; }
+
+    public int getNumeroParticipaciones() { return numeroParticipaciones; }
+    public void setNumeroParticipaciones(int numeroParticipaciones) { this.numeroParticipaciones = numeroParticipaciones; }
+}
@@ -2,10 +2,15 @@ package Logica.Entidades;
 
 import java.sql.Time;
 import java.util.Date;
+import java.util.Objects;
 
 /**
  * Representa una semana de actividades dentro de un Informe de Actividades
  * Cada semana puede tener hasta 7 días de trabajo con sus respectivas horas
+ *
+ * La semana recuerda si cambió desde que se leyó o guardó en la base, para que
+ * al actualizar el informe solo se escriban las semanas modificadas. Los días se
+ * editan con {@link #setFecha}, {@link #setHoraInicio} y {@link #setHoraSalida}.
  */
 public class SemanaActividades {
     private int id;
@@ -26,6 +31,9 @@ public class SemanaActividades {
     /** Observaciones adicionales o comentarios de la semana */
     private String observaciones;
 
+    /** true si hay cambios que todavía no se escribieron en la base */
+    private boolean modificada = true;
+
     /**
      * Constructor por defecto
      * Inicializa arrays para 5 días laborables
@@ -90,6 +98,7 @@ public class SemanaActividades {
     }
 
     public void setNumeroSemana(int numeroSemana) {
+        if (this.numeroSemana != numeroSemana) modificada = true;
         this.numeroSemana = numeroSemana;
     }
 
@@ -99,6 +108,13 @@ public class SemanaActividades {
 
     public void setFechas(Date[] fechas) {
         this.fechas = fechas;
+        modificada = true;
+    }
+
+    /** Cambia la fecha de un día de la semana (índice desde 0). */
+    public void setFecha(int dia, Date fecha) {
+        if (!Objects.equals(fechas[dia], fecha)) modificada = true;
+        fechas[dia] = fecha;
     }
 
     public Time[] getHorasInicio() {
@@ -107,6 +123,13 @@ public class SemanaActividades {
 
     public void setHorasInicio(Time[] horasInicio) {
         this.horasInicio = horasInicio;
+        modificada = true;
+    }
+
+    /** Cambia la hora de entrada de un día de la semana (índice desde 0). */
+    public void setHoraInicio(int dia, Time hora) {
+        if (!Objects.equals(horasInicio[dia], hora)) modificada = true;
+        horasInicio[dia] = hora;
     }
 
     public Time[] getHorasSalida() {
@@ -115,6 +138,13 @@ public class SemanaActividades {
 
     public void setHorasSalida(Time[] horasSalida) {
         this.horasSalida = horasSalida;
+        modificada = true;
+    }
+
+    /** Cambia la hora de salida de un día de la semana (índice desde 0). */
+    public void setHoraSalida(int dia, Time hora) {
+        if (!Objects.equals(horasSalida[dia], hora)) modificada = true;
+        horasSalida[dia] = hora;
     }
 
     public String getActividadSemanal() {
@@ -122,6 +152,7 @@ public class SemanaActividades {
     }
 
     public void setActividadSemanal(String actividadSemanal) {
+        if (!Objects.equals(this.actividadSemanal, actividadSemanal)) modificada = true;
         this.actividadSemanal = actividadSemanal;
     }
 
@@ -130,9 +161,20 @@ public class SemanaActividades {
     }
 
     public void setObservaciones(String observaciones) {
+        if (!Objects.equals(this.observaciones, observaciones)) modificada = true;
         this.observaciones = observaciones;
     }
 
+    /** Indica si la semana cambió desde la última lectura o escritura en la base. */
+    public boolean isModificada() {
+        return modificada;
+    }
+
+    /** La deja como sincronizada con la base (la llama el DAO tras leer o guardar). */
+    public void marcarGuardada() {
+        modificada = false;
+    }
+
     @Override
     public String toString() {
         return "Semana " + numeroSemana +
@@ -0,0 +1,53 @@
+package Logica.Entidades;
+
+import Logica.Enumeraciones.RolSistema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos con los que arranca una sesión: el usuario autenticado, la entidad de su rol
+ * (solo una de jefatura/director/personal viene cargada), sus proyectos y si debe
+ * cambiar la contraseña antes de entrar.
+ */
+public class SesionUsuario {
+    private Usuario usuario;
+    private RolSistema rol;
+    private Jefatura jefatura;
+    private Director director;
+    private PersonalDeInvestigacion personal;
+    private List<Proyecto> proyectos;
+    private boolean debeCambiarContrasena;
+
+    public SesionUsuario() {
+        this.proyectos = new ArrayList<>();
+    }
+
+    /** Primer proyecto de la sesión (el del personal, o el primero del director), o null. */
+    public Proyecto getProyectoPrincipal() {
+        return proyectos.isEmpty() ? null : proyectos.get(0);
+    }
+
+    // Getters y Setters
+
+    public Usuario getUsuario() { return usuario; }
+    public void setUsuario(Usuario usuario) { this.usuario = usuario; }
+
+    public RolSistema getRol() { return rol; }
+    public void setRol(RolSistema rol) { this.rol = rol; }
+
+    public Jefatura getJefatura() { return jefatura; }
+    public void setJefatura(Jefatura jefatura) { this.jefatura = jefatura; }
+
+    public Director getDirector() { return director; }
+    public void setDirector(Director director) { this.director = director; }
+
+    public PersonalDeInvestigacion getPersonal() { return personal; }
+    public void setPersonal(PersonalDeInvestigacion personal) { this.personal = personal; }
+
+    public List<Proyecto> getProyectos() { return proyectos; }
+    public void setProyectos(List<Proyecto> proyectos) { this.proyectos = proyectos; }
+
+    public boolean isDebeCambiarContrasena() { return debeCambiarContrasena; }
+    public void setDebeCambiarContrasena(boolean debeCambiarContrasena) { this.debeCambiarContrasena = debeCambiarContrasena; }
+}
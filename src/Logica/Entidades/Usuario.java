@@ -9,9 +9,12 @@ public class Usuario {
     private String contrasena; // En BD es contrasena
     private String rol; // En BD es VARCHAR(30)
     private boolean activo;
+    // Las cuentas nuevas se crean con la contraseña por defecto y deben cambiarla
+    private boolean debeCambiarContrasena;
 
     public Usuario() {
         this.activo = true;
+        this.debeCambiarContrasena = true;
     }
 
     public Usuario(String username, String contrasena, String rol) {
@@ -62,6 +65,14 @@ public class Usuario {
         this.activo = activo;
     }
 
+    public boolean isDebeCambiarContrasena() {
+        return debeCambiarContrasena;
+    }
+
+    public void setDebeCambiarContrasena(boolean debeCambiarContrasena) {
+        this.debeCambiarContrasena = debeCambiarContrasena;
+    }
+
     @Override
     public String toString() {
         return username + " (" + rol + ")";
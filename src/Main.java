@@ -3,9 +3,19 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 import interfaz.comun.Navigador;
 import interfaz.comun.PantallaLogin;
+import Logica.Conexiones.ConexionBD;
+import Logica.DAO.CachePeriodos;
+import Logica.DAO.PeriodoAcademicoDAO;
+import Logica.DAO.ResumenSeguimientoDAO;
+
+import java.lang.System.Logger.Level;
+import java.sql.SQLException;
+import java.util.List;
 
 public class Main extends Application {
 
+    private static final System.Logger LOG = System.getLogger(Main.class.getName());
+
     private static Stage primaryStage;
 
     public static void main(String[] args) {
@@ -20,6 +30,42 @@ public class Main extends Application {
         } catch (ClassNotFoundException e) {
             System.err.println("Driver PostgreSQL no encontrado: " + e.getMessage());
         }
+
+        // Periodos académicos: se leen una vez y se sirven desde CachePeriodos
+        try {
+            new PeriodoAcademicoDAO().obtenerTodos();
+        } catch (SQLException e) {
+            System.err.println("No se pudieron cargar los periodos académicos: " + e.getMessage());
+        }
+
+        // Con -Dseguimiento.verificarContadores=true se comparan los contadores de
+        // seguimiento con un recálculo completo y, si difieren, se reconstruyen
+        if (Boolean.getBoolean("seguimiento.verificarContadores")) {
+            verificarContadoresSeguimiento();
+        }
+    }
+
+    private void verificarContadoresSeguimiento() {
+        ResumenSeguimientoDAO dao = new ResumenSeguimientoDAO();
+        try {
+            List<String> diferencias = dao.verificar();
+            if (diferencias.isEmpty()) {
+                LOG.log(Level.INFO, "Contadores de seguimiento verificados: sin diferencias");
+                return;
+            }
+            diferencias.forEach(d -> LOG.log(Level.WARNING, "Contador de seguimiento desfasado: " + d));
+            dao.reconstruir();
+            LOG.log(Level.WARNING, "Contadores de seguimiento reconstruidos (" + diferencias.size() + " proyectos)");
+        } catch (SQLException e) {
+            LOG.log(Level.WARNING, "No se pudieron verificar los contadores de seguimiento: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        LOG.log(Level.DEBUG, CachePeriodos::resumen);
+        // Devolver y cerrar las conexiones del pool
+        ConexionBD.cerrar();
     }
 
     @Override
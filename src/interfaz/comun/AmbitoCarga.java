@@ -0,0 +1,65 @@
+package interfaz.comun;
+
+import Logica.Conexiones.Cancelacion;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Ámbito de las cargas de la vista que está en pantalla.
+ * Cada PantallaPrincipal abre uno nuevo al cambiar de pestaña: eso cancela las
+ * lecturas que la vista anterior dejó en curso (sus consultas se abortan en el
+ * servidor y sus resultados ya no se pintan), de modo que el pool queda libre
+ * para la vista actual.
+ *
+ * Solo se usa desde el hilo JavaFX.
+ */
+public final class AmbitoCarga {
+
+    private static AmbitoCarga actual;
+
+    private final Set<Cancelacion> enCurso = new HashSet<>();
+
+    private AmbitoCarga() {
+    }
+
+    /**
+     * Cancela las cargas de la vista anterior y abre el ámbito de la siguiente.
+     * @return true si la vista anterior tenía cargas sin terminar
+     */
+    public static boolean abrir() {
+        boolean habiaPendientes = cerrarActual();
+        actual = new AmbitoCarga();
+        return habiaPendientes;
+    }
+
+    /**
+     * Cancela las cargas pendientes sin abrir otro ámbito (p. ej. al cerrar sesión).
+     * @return true si había alguna
+     */
+    public static boolean cerrarActual() {
+        if (actual == null) return false;
+        boolean habiaPendientes = !actual.enCurso.isEmpty();
+        for (Cancelacion cancelacion : actual.enCurso) {
+            cancelacion.cancelar();
+        }
+        actual = null;
+        return habiaPendientes;
+    }
+
+    /** Nueva cancelación asociada al ámbito actual (si hay uno abierto). */
+    static Cancelacion registrar() {
+        Cancelacion cancelacion = new Cancelacion();
+        if (actual != null) {
+            actual.enCurso.add(cancelacion);
+        }
+        return cancelacion;
+    }
+
+    /** Quita una carga ya terminada del ámbito actual. */
+    static void terminar(Cancelacion cancelacion) {
+        if (actual != null) {
+            actual.enCurso.remove(cancelacion);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
+import Logica.DAO.NotificacionDAO;
 import Logica.Entidades.Notificacion;
 
 import java.util.List;
@@ -20,15 +21,21 @@ import java.util.List;
  *   barra.agregarTab("Dashboard",   () -> mostrarDashboard());
  *   barra.agregarTab("Proyectos",   () -> mostrarProyectos());
  *   ...
- *   barra.setNotificaciones(listNotificaciones);
+ *   barra.setNotificaciones(idUsuario, notificacionesRecientes);
  */
 public class BarraNavegacion extends HBox {
 
     private final HBox tabsContainer;
     private final Label lblNotifCount;
     private final VBox panelNotificaciones;
-    private final ScrollPane scrollNotif;
+    private final ListView<Notificacion> listaNotif;
     private int tabIndex = 0;
+
+    // Notificaciones del usuario: páginas ya cargadas y no leídas pendientes
+    private int idUsuario;
+    private int noLeidas;
+    private boolean hayMasNotificaciones;
+    private boolean cargandoNotificaciones;
     private Button tabActual = null;
 
     // Callback para cada tab
@@ -107,11 +114,17 @@ public class BarraNavegacion extends HBox {
         panelNotificaciones.setMaxWidth(340);
         panelNotificaciones.setVisible(false);
 
-        scrollNotif = new ScrollPane(new VBox());
-        scrollNotif.setFitToWidth(true);
-        scrollNotif.setPrefHeight(280);
-        scrollNotif.setMaxHeight(340);
-        scrollNotif.setStyle("-fx-background-color: white; -fx-background: white;");
+        // Lista virtualizada: solo existen las celdas visibles y las páginas
+        // anteriores se piden al acercarse al final
+        listaNotif = new ListView<>();
+        listaNotif.setCellFactory(l -> new CeldaNotificacion());
+        listaNotif.setPrefHeight(280);
+        listaNotif.setMaxHeight(340);
+        listaNotif.setFocusTraversable(false);
+        listaNotif.setStyle("-fx-background-color: white; -fx-background-insets: 0; -fx-padding: 0;");
+        Label sinNotificaciones = new Label("No hay notificaciones.");
+        sinNotificaciones.setStyle("-fx-font-size: 12px; -fx-text-fill: " + EstiloUI.C_GRAY_MID + "; -fx-padding: 14 12;");
+        listaNotif.setPlaceholder(sinNotificaciones);
 
         Label notifTitulo = new Label("  Notificaciones");
         notifTitulo.setStyle(
@@ -123,9 +136,14 @@ public class BarraNavegacion extends HBox {
                         "-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + ";" +
                         "-fx-border-width: 0 0 1 0;"
         );
-        panelNotificaciones.getChildren().addAll(notifTitulo, scrollNotif);
+        panelNotificaciones.getChildren().addAll(notifTitulo, listaNotif);
 
         btnNotif.setOnAction(e -> panelNotificaciones.setVisible(!panelNotificaciones.isVisible()));
+        // Abrir el panel marca todo como leído; al cerrarlo se repintan sin resaltar
+        panelNotificaciones.visibleProperty().addListener((obs, antes, visible) -> {
+            if (visible) marcarLeidas();
+            else listaNotif.refresh();
+        });
 
         // ── Info usuario ──────────────────────────────────────
         String rolTexto = formatearRol(rol);
@@ -150,7 +168,10 @@ public class BarraNavegacion extends HBox {
                         "-fx-padding: 4 10;" +
                         "-fx-cursor: hand;"
         );
-        btnCerrar.setOnAction(e -> Navigador.cambiarPantalla(new PantallaLogin()));
+        btnCerrar.setOnAction(e -> {
+            AmbitoCarga.cerrarActual();   // las cargas de la sesión ya no interesan
+            Navigador.cambiarPantalla(new PantallaLogin());
+        });
 
         HBox zonaDerecha = new HBox(16);
         zonaDerecha.setAlignment(Pos.CENTER);
@@ -247,25 +268,19 @@ public class BarraNavegacion extends HBox {
         );
     }
 
-    /** Actualiza el listado de notificaciones mostradas */
-    public void setNotificaciones(List<Notificacion> notificaciones) {
-        VBox lista = new VBox(0);
-        lista.setStyle("-fx-background-color: white;");
-
-        if (notificaciones == null || notificaciones.isEmpty()) {
-            Label empty = new Label("No hay notificaciones.");
-            empty.setStyle("-fx-font-size: 12px; -fx-text-fill: " + EstiloUI.C_GRAY_MID + "; -fx-padding: 14 12;");
-            lista.getChildren().add(empty);
-        } else {
-            for (int i = 0; i < notificaciones.size(); i++) {
-                Notificacion n = notificaciones.get(i);
-                lista.getChildren().add(crearItemNotificacion(n, i == 0));
-            }
-        }
-
-        scrollNotif.setContent(lista);
-        lblNotifCount.setText(String.valueOf(notificaciones != null ? notificaciones.size() : 0));
-        lblNotifCount.setVisible(notificaciones != null && !notificaciones.isEmpty());
+    /**
+     * Muestra las notificaciones más recientes de {@code idUsuario}; las anteriores
+     * se piden por página al desplazarse. El contador muestra las no leídas.
+     */
+    public void setNotificaciones(int idUsuario, List<Notificacion> recientes) {
+        this.idUsuario = idUsuario;
+        hayMasNotificaciones = recientes.size() >= NotificacionDAO.TAMANO_PAGINA;
+        cargandoNotificaciones = false;
+        listaNotif.getItems().setAll(recientes);
+
+        CargaAsincrona.enSegundoPlano(() -> new NotificacionDAO().contarNoLeidas(idUsuario),
+                this::actualizarNoLeidas,
+                e -> System.err.println("Error contando notificaciones: " + e.getMessage()));
     }
 
     /** Retorna el panel de notificaciones para overlay */
@@ -275,28 +290,74 @@ public class BarraNavegacion extends HBox {
 
     // ─── PRIVADOS ─────────────────────────────────────────────────────────
 
-    private VBox crearItemNotificacion(Notificacion n, boolean primera) {
-        VBox item = new VBox(4);
-        item.setPadding(new Insets(10, 12, 10, 12));
-        String borderBottom = primera ? "" : "-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 1 0 0 0;";
-        item.setStyle(
-                "-fx-background-color: white;" +
-                        borderBottom
-        );
-        item.setOnMouseEntered(e -> item.setStyle(item.getStyle() + "-fx-background-color: " + EstiloUI.C_OFF_WHITE + ";"));
-        item.setOnMouseExited(e  -> item.setStyle(item.getStyle().replaceAll("-fx-background-color:[^;]+;$", "-fx-background-color: white;")));
+    private void actualizarNoLeidas(int cantidad) {
+        noLeidas = cantidad;
+        lblNotifCount.setText(cantidad > 99 ? "99+" : String.valueOf(cantidad));
+        lblNotifCount.setVisible(cantidad > 0);
+    }
+
+    private void marcarLeidas() {
+        if (noLeidas == 0) return;
+        int usuario = idUsuario;
+        CargaAsincrona.enSegundoPlano(() -> new NotificacionDAO().marcarLeidas(usuario), marcadas -> {
+            actualizarNoLeidas(0);
+            listaNotif.getItems().forEach(n -> n.setLeida(true));
+        }, e -> System.err.println("Error marcando notificaciones: " + e.getMessage()));
+    }
 
-        Label contenido = new Label(n.getContenido());
-        contenido.setStyle("-fx-font-size: 12px; -fx-text-fill: " + EstiloUI.C_TEXT_MAIN + ";");
-        contenido.setWrapText(true);
-        contenido.setMaxWidth(316);
+    private void cargarMasNotificaciones() {
+        if (!hayMasNotificaciones || cargandoNotificaciones) return;
+        List<Notificacion> items = listaNotif.getItems();
+        Notificacion ultima = items.get(items.size() - 1);
+        int usuario = idUsuario;
+
+        cargandoNotificaciones = true;
+        CargaAsincrona.enSegundoPlano(
+                () -> new NotificacionDAO().obtenerPagina(usuario, ultima, NotificacionDAO.TAMANO_PAGINA),
+                pagina -> {
+                    cargandoNotificaciones = false;
+                    hayMasNotificaciones = pagina.size() >= NotificacionDAO.TAMANO_PAGINA;
+                    items.addAll(pagina);
+                }, e -> {
+                    cargandoNotificaciones = false;
+                    hayMasNotificaciones = false;
+                    System.err.println("Error cargando notificaciones: " + e.getMessage());
+                });
+    }
 
-        String fechaStr = n.getFecha() != null ? n.getFecha().toLocalDate().toString() : "";
-        Label fecha = new Label(fechaStr);
-        fecha.setStyle("-fx-font-size: 10px; -fx-text-fill: " + EstiloUI.C_GRAY_MID + ";");
+    /** Celda reutilizable; las no leídas se resaltan con un borde y texto en negrita. */
+    private final class CeldaNotificacion extends ListCell<Notificacion> {
+        private final VBox item = new VBox(4);
+        private final Label contenido = new Label();
+        private final Label fecha = new Label();
+
+        CeldaNotificacion() {
+            item.setPadding(new Insets(10, 12, 10, 12));
+            contenido.setWrapText(true);
+            contenido.setMaxWidth(300);
+            fecha.setStyle("-fx-font-size: 10px; -fx-text-fill: " + EstiloUI.C_GRAY_MID + ";");
+            item.getChildren().addAll(contenido, fecha);
+            setStyle("-fx-padding: 0; -fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
+        }
 
-        item.getChildren().addAll(contenido, fecha);
-        return item;
+        @Override
+        protected void updateItem(Notificacion n, boolean vacia) {
+            super.updateItem(n, vacia);
+            if (vacia || n == null) {
+                setGraphic(null);
+                return;
+            }
+            contenido.setText(n.getContenido());
+            contenido.setStyle("-fx-font-size: 12px; -fx-text-fill: " + EstiloUI.C_TEXT_MAIN + ";" +
+                    (n.isLeida() ? "" : "-fx-font-weight: bold;"));
+            item.setStyle(n.isLeida() ? "" : "-fx-border-color: " + EstiloUI.C_MEDIUM + "; -fx-border-width: 0 0 0 3;");
+            fecha.setText(n.getFecha() != null ? n.getFecha().toLocalDate().toString() : "");
+            setGraphic(item);
+
+            if (getIndex() >= getListView().getItems().size() - 5) {
+                cargarMasNotificaciones();
+            }
+        }
     }
 
     private String formatearRol(String rol) {
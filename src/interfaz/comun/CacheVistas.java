@@ -0,0 +1,109 @@
+package interfaz.comun;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.Pane;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Vistas ya construidas de una sesión, por pestaña (cada PantallaPrincipal tiene la suya).
+ * Volver a una pestaña reutiliza su nodo (con filtros y desplazamiento) mientras
+ * no haya vencido. Una vista vencida se refresca en segundo plano si es
+ * {@link VistaRecargable}; si no, se reconstruye.
+ *
+ * Una vista vence cuando:
+ *  – pasaron más de {@code ui.vistas.vigenciaSegundos} (60 por defecto) desde su carga,
+ *  – otra vista registró una escritura ({@link EventoDatosModificados}), o
+ *  – se salió de ella con cargas a medias, que AmbitoCarga canceló.
+ */
+public class CacheVistas {
+
+    private static final long VIGENCIA_MS =
+            Long.getLong("ui.vistas.vigenciaSegundos", 60) * 1000;
+
+    private final Map<String, Entrada> vistas = new HashMap<>();
+    private String visible;
+
+    private static class Entrada {
+        private final ScrollPane contenedor;
+        private final Pane modulo;
+        private long cargadaEn = System.currentTimeMillis();
+        private boolean invalidada;
+
+        Entrada(ScrollPane contenedor, Pane modulo) {
+            this.contenedor = contenedor;
+            this.modulo = modulo;
+        }
+
+        boolean vencida() {
+            return invalidada || System.currentTimeMillis() - cargadaEn > VIGENCIA_MS;
+        }
+    }
+
+    /**
+     * Devuelve el contenedor de la pestaña {@code clave}, creándolo con {@code fabrica}
+     * o refrescándolo según corresponda. Abre el ámbito de carga de la vista.
+     */
+    public ScrollPane mostrar(String clave, Supplier<Pane> fabrica) {
+        if (AmbitoCarga.abrir() && visible != null) {
+            invalidar(visible);   // su carga se canceló a medias
+        }
+        visible = clave;
+
+        Entrada entrada = vistas.get(clave);
+        if (entrada == null || (entrada.vencida() && !(entrada.modulo instanceof VistaRecargable))) {
+            entrada = crear(clave, fabrica.get());
+            vistas.put(clave, entrada);
+        } else if (entrada.vencida()) {
+            double posicion = entrada.contenedor.getVvalue();
+            ((VistaRecargable) entrada.modulo).recargar();
+            entrada.cargadaEn = System.currentTimeMillis();
+            entrada.invalidada = false;
+            restaurarDesplazamiento(entrada, posicion);
+        }
+        return entrada.contenedor;
+    }
+
+    private Entrada crear(String clave, Pane modulo) {
+        ScrollPane scrollPane = new ScrollPane(modulo);
+        scrollPane.setFitToWidth(true);
+        scrollPane.setStyle("-fx-background-color: transparent; -fx-background: transparent;");
+
+        // Una escritura en esta vista deja desactualizadas a las demás
+        scrollPane.addEventHandler(EventoDatosModificados.DATOS_MODIFICADOS, e -> invalidarOtras(clave));
+        return new Entrada(scrollPane, modulo);
+    }
+
+    private void invalidar(String clave) {
+        Entrada entrada = vistas.get(clave);
+        if (entrada != null) entrada.invalidada = true;
+    }
+
+    private void invalidarOtras(String clave) {
+        for (Map.Entry<String, Entrada> e : vistas.entrySet()) {
+            if (!e.getKey().equals(clave)) e.getValue().invalidada = true;
+        }
+    }
+
+    /**
+     * El refresco vacía las listas y las vuelve a llenar de forma asíncrona; cuando
+     * el módulo recupera su alto se vuelve a la posición anterior.
+     */
+    private void restaurarDesplazamiento(Entrada entrada, double posicion) {
+        if (posicion <= 0) return;
+        double altoAnterior = entrada.modulo.getHeight();
+        entrada.modulo.heightProperty().addListener(new ChangeListener<>() {
+            @Override
+            public void changed(ObservableValue<? extends Number> obs, Number antes, Number ahora) {
+                if (ahora.doubleValue() >= altoAnterior) {
+                    entrada.contenedor.setVvalue(posicion);
+                    entrada.modulo.heightProperty().removeListener(this);
+                }
+            }
+        });
+    }
+}
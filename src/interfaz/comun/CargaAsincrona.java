@@ -0,0 +1,175 @@
+package interfaz.comun;
+
+import Logica.Conexiones.Cancelacion;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Ejecuta el acceso a datos fuera del hilo de JavaFX.
+ * El trabajo corre en un hilo virtual y solo debe usar DAO/entidades; el resultado
+ * se publica con Platform.runLater, que es el único hilo que toca los nodos.
+ *
+ * Uso:
+ * <pre>
+ * CargaAsincrona.cargar(contenido,
+ *         () -> new ProyectoDAO().obtenerTodos(),      // hilo de fondo
+ *         proyectos -> mostrarProyectos(proyectos));   // hilo JavaFX
+ * </pre>
+ * Los errores se muestran con EstiloUI.alertaError, igual que antes.
+ *
+ * Las cargas de {@link #cargar} pertenecen al {@link AmbitoCarga} de la vista
+ * actual y se cancelan al salir de ella. Además, una carga nueva sobre el mismo
+ * destino reemplaza a la anterior: solo la más reciente llega a pintar.
+ * Las escrituras ({@link #ejecutar}) no se cancelan.
+ */
+public final class CargaAsincrona {
+
+    private static final ExecutorService EJECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("carga-datos-", 0).factory());
+
+    /** Clave en las propiedades del destino con la carga que lo va a pintar. */
+    private static final String CARGA_EN_CURSO = "cargaAsincrona.enCurso";
+
+    /** Clave en las propiedades del destino con el mensaje de error de la última carga. */
+    private static final String ERROR_CARGA = "cargaAsincrona.error";
+
+    @FunctionalInterface
+    public interface Consulta<T> {
+        T ejecutar() throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface Accion {
+        void ejecutar() throws SQLException;
+    }
+
+    private CargaAsincrona() {
+    }
+
+    /**
+     * Carga datos para una vista. Mientras tanto agrega al final de {@code destino}
+     * un indicador de carga, que se quita al terminar. Si falla, deja el error en
+     * {@code destino} y lo muestra en una alerta; el error de una carga anterior
+     * se quita al empezar la siguiente.
+     */
+    public static <T> void cargar(Pane destino, Consulta<T> consulta, Consumer<T> alTerminar) {
+        cargar(destino, consulta, alTerminar, () -> { });
+    }
+
+    /**
+     * Igual que {@link #cargar(Pane, Consulta, Consumer)}; {@code siempre} corre al
+     * terminar la carga en el hilo JavaFX, también si falla, se cancela o la
+     * reemplaza otra carga sobre el mismo destino.
+     */
+    public static <T> void cargar(Pane destino, Consulta<T> consulta, Consumer<T> alTerminar, Runnable siempre) {
+        if (destino.getProperties().get(CARGA_EN_CURSO) instanceof Cancelacion anterior) {
+            anterior.cancelar();
+        }
+        if (destino.getProperties().remove(ERROR_CARGA) instanceof Node errorAnterior) {
+            destino.getChildren().remove(errorAnterior);
+        }
+        Cancelacion cancelacion = AmbitoCarga.registrar();
+        destino.getProperties().put(CARGA_EN_CURSO, cancelacion);
+
+        Node indicador = EstiloUI.indicadorCarga();
+        destino.getChildren().add(indicador);
+
+        ejecutarEnFondo(cancelacion, consulta, alTerminar, error -> {
+            Node lblError = EstiloUI.labelSmall("  Error: " + mensaje(error));
+            destino.getChildren().add(lblError);
+            destino.getProperties().put(ERROR_CARGA, lblError);
+            EstiloUI.alertaError("Error al cargar datos", mensaje(error)).showAndWait();
+        }, () -> {
+            // Se limpia aunque la carga se haya cancelado
+            destino.getChildren().remove(indicador);
+            destino.getProperties().remove(CARGA_EN_CURSO, cancelacion);
+            AmbitoCarga.terminar(cancelacion);
+            siempre.run();
+        });
+    }
+
+    /**
+     * Ejecuta una operación de escritura. {@code bloqueado} (puede ser null) se
+     * deshabilita mientras dura para evitar envíos dobles; al terminar bien se
+     * dispara desde él un {@link EventoDatosModificados}.
+     */
+    public static <T> void ejecutar(Node bloqueado, Consulta<T> trabajo, Consumer<T> alTerminar) {
+        consultar(bloqueado, trabajo, resultado -> {
+            if (bloqueado != null) notificarCambio(bloqueado);
+            alTerminar.accept(resultado);
+        });
+    }
+
+    /**
+     * Lectura puntual a pedido del usuario (abrir un detalle o un formulario).
+     * Igual que {@link #ejecutar(Node, Consulta, Consumer)} pero sin avisar cambios.
+     */
+    public static <T> void consultar(Node bloqueado, Consulta<T> consulta, Consumer<T> alTerminar) {
+        if (bloqueado != null) bloqueado.setDisable(true);
+
+        enSegundoPlano(consulta, resultado -> {
+            if (bloqueado != null) bloqueado.setDisable(false);
+            alTerminar.accept(resultado);
+        }, error -> {
+            if (bloqueado != null) bloqueado.setDisable(false);
+            EstiloUI.alertaError("Error", mensaje(error)).showAndWait();
+        });
+    }
+
+    /** Variante de {@link #ejecutar(Node, Consulta, Consumer)} sin resultado. */
+    public static void ejecutar(Node bloqueado, Accion accion, Runnable alTerminar) {
+        ejecutar(bloqueado, () -> {
+            accion.ejecutar();
+            return null;
+        }, resultado -> alTerminar.run());
+    }
+
+    /** Avisa a las vistas en caché que los datos cambiaron (para escrituras hechas sin {@link #ejecutar}). */
+    public static void notificarCambio(Node origen) {
+        origen.fireEvent(new EventoDatosModificados());
+    }
+
+    /**
+     * Forma básica: {@code exito} o {@code fallo} se llaman en el hilo JavaFX.
+     * Para cargas secundarias cuyo error no debe interrumpir al usuario.
+     */
+    public static <T> void enSegundoPlano(Consulta<T> trabajo, Consumer<T> exito, Consumer<Exception> fallo) {
+        ejecutarEnFondo(new Cancelacion(), trabajo, exito, fallo, () -> { });
+    }
+
+    /**
+     * {@code alFinal} corre siempre en el hilo JavaFX; {@code exito}/{@code fallo}
+     * solo si la cancelación no se activó entretanto.
+     */
+    private static <T> void ejecutarEnFondo(Cancelacion cancelacion, Consulta<T> trabajo,
+                                            Consumer<T> exito, Consumer<Exception> fallo, Runnable alFinal) {
+        EJECUTOR.execute(() -> {
+            // Si el trabajo lanza un Error solo se ejecuta alFinal, pero siempre se ejecuta
+            Runnable respuesta = alFinal;
+            try {
+                T resultado = cancelacion.ejecutar(trabajo::ejecutar);
+                respuesta = () -> {
+                    alFinal.run();
+                    if (!cancelacion.isCancelada()) exito.accept(resultado);
+                };
+            } catch (Exception e) {
+                respuesta = () -> {
+                    alFinal.run();
+                    if (!cancelacion.isCancelada()) fallo.accept(e);
+                };
+            } finally {
+                Platform.runLater(respuesta);
+            }
+        });
+    }
+
+    private static String mensaje(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+}
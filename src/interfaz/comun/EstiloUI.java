@@ -300,6 +300,28 @@ public class EstiloUI {
         return card;
     }
 
+    /** Marcador de carga: indicador de progreso y filas en gris a modo de esqueleto */
+    public static VBox indicadorCarga() {
+        VBox marcador = new VBox(8);
+        marcador.setPadding(new Insets(10, 0, 10, 0));
+
+        HBox cabecera = new HBox(8);
+        cabecera.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+        ProgressIndicator progreso = new ProgressIndicator();
+        progreso.setPrefSize(18, 18);
+        cabecera.getChildren().addAll(progreso, labelSmall("Cargando..."));
+        marcador.getChildren().add(cabecera);
+
+        for (double ancho : new double[]{420, 360, 300}) {
+            Region fila = new Region();
+            fila.setPrefSize(ancho, 12);
+            fila.setMaxWidth(ancho);
+            fila.setStyle("-fx-background-color: " + C_GRAY_LIGHT + "; -fx-background-radius: 4;");
+            marcador.getChildren().add(fila);
+        }
+        return marcador;
+    }
+
     /** Separador horizontal fino */
     public static Separator separador() {
         Separator sep = new Separator();
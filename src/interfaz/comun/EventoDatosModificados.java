@@ -0,0 +1,21 @@
+package interfaz.comun;
+
+import javafx.event.Event;
+import javafx.event.EventType;
+
+/**
+ * Se dispara (y burbujea) desde el nodo que completó una escritura.
+ * CacheVistas lo escucha para dar por vencidas las demás vistas guardadas,
+ * que podrían estar mostrando datos anteriores al cambio.
+ */
+public class EventoDatosModificados extends Event {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final EventType<EventoDatosModificados> DATOS_MODIFICADOS =
+            new EventType<>(Event.ANY, "DATOS_MODIFICADOS");
+
+    public EventoDatosModificados() {
+        super(DATOS_MODIFICADOS);
+    }
+}
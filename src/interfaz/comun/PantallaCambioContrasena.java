@@ -9,11 +9,9 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
 import Logica.Entidades.*;
-import Logica.DAO.*;
 import interfaz.director.PantallaPrincipalDirector;
 import interfaz.personal.PantallaPrincipalPersonal;
 
-import java.sql.SQLException;
 
 /**
  * Pantalla que se muestra cuando un director o personal tiene la contraseña
@@ -23,15 +21,18 @@ public class PantallaCambioContrasena extends VBox {
 
     private final Object entidad;   // Director o PersonalDeInvestigacion
     private final String tipoRol;   // "DIRECTOR" o "PERSONAL"
+    private final Proyecto proyecto; // Proyecto ya cargado en el login (puede ser null)
 
     private final PasswordField txtNueva;
     private final PasswordField txtConfirma;
     private final Label lblMensaje;
+    private final Button btnConfirmar;
 
-    public PantallaCambioContrasena(Object entidad, String tipoRol) {
+    public PantallaCambioContrasena(Object entidad, String tipoRol, Proyecto proyecto) {
         super();
         this.entidad  = entidad;
         this.tipoRol  = tipoRol;
+        this.proyecto = proyecto;
 
         setAlignment(Pos.CENTER);
         setSpacing(0);
@@ -110,7 +111,7 @@ public class PantallaCambioContrasena extends VBox {
         lblMensaje.setVisible(false);
 
         // Botón confirmar
-        Button btnConfirmar = EstiloUI.botonPrimario("Actualizar Contraseña");
+        btnConfirmar = EstiloUI.botonPrimario("Actualizar Contraseña");
         btnConfirmar.setPrefWidth(336);
         btnConfirmar.setPrefHeight(42);
         btnConfirmar.setOnAction(e -> cambiarContrasena());
@@ -151,33 +152,26 @@ public class PantallaCambioContrasena extends VBox {
             return;
         }
 
-        try {
+        // El hash BCrypt se calcula fuera del hilo JavaFX
+        btnConfirmar.setDisable(true);
+        CargaAsincrona.enSegundoPlano(() -> {
             if ("DIRECTOR".equals(tipoRol)) {
-                Director director = (Director) entidad;
-                director.actualizarContrasena(nueva);
-
-                // Redirigir al sistema
-                ProyectoDAO pDAO = new ProyectoDAO();
-                var proyectos = pDAO.obtenerPorDirector(director.getCedula());
-                PantallaPrincipalDirector pantalla = new PantallaPrincipalDirector(
-                        director, proyectos.isEmpty() ? null : proyectos.get(0));
-                Navigador.cambiarPantalla(pantalla);
-
+                ((Director) entidad).actualizarContrasena(nueva);
             } else if ("PERSONAL".equals(tipoRol)) {
-                PersonalDeInvestigacion personal = (PersonalDeInvestigacion) entidad;
-                personal.actualizarContrasena(nueva);
-
-                // Obtener proyecto del personal
-                ProyectoDAO proyDAO = new ProyectoDAO();
-                Proyecto proyecto = proyDAO.obtenerPorId(personal.getIdProyecto());
-
-                PantallaPrincipalPersonal pantalla = new PantallaPrincipalPersonal(personal, proyecto);
-                Navigador.cambiarPantalla(pantalla);
+                ((PersonalDeInvestigacion) entidad).actualizarContrasena(nueva);
             }
-
-        } catch (SQLException e) {
+            return tipoRol;
+        }, rol -> {
+            // Redirigir al sistema con el proyecto cargado en el login
+            if ("DIRECTOR".equals(rol)) {
+                Navigador.cambiarPantalla(new PantallaPrincipalDirector((Director) entidad, proyecto));
+            } else if ("PERSONAL".equals(rol)) {
+                Navigador.cambiarPantalla(new PantallaPrincipalPersonal((PersonalDeInvestigacion) entidad, proyecto));
+            }
+        }, e -> {
+            btnConfirmar.setDisable(false);
             mostrarMensaje("Error al actualizar contraseña: " + e.getMessage());
-        }
+        });
     }
 
     private boolean validarFortaleza(String pass) {
@@ -9,15 +9,13 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
 
+import Logica.Conexiones.EsquemaBD;
 import Logica.DAO.*;
 import Logica.Entidades.*;
-import Logica.Enumeraciones.RolSistema;
 import interfaz.director.PantallaPrincipalDirector;
 import interfaz.jefatura.PantallaPrincipalJefatura;
 import interfaz.personal.PantallaPrincipalPersonal;
 
-import java.sql.SQLException;
-
 /**
  * Pantalla de inicio de sesión.
  * Después del login exitoso detecta si se requiere cambio de contraseña
@@ -28,6 +26,7 @@ public class PantallaLogin extends VBox {
     private final TextField txtUsername;
     private final PasswordField txtContrasena;
     private final Label lblMensaje;
+    private final Button btnLogin;
 
     public PantallaLogin() {
         super();
@@ -106,7 +105,7 @@ public class PantallaLogin extends VBox {
         lblMensaje.setMinHeight(18);
 
         // Botón login
-        Button btnLogin = EstiloUI.botonPrimario("Iniciar Sesión");
+        btnLogin = EstiloUI.botonPrimario("Iniciar Sesión");
         btnLogin.setPrefWidth(308);
         btnLogin.setPrefHeight(42);
         btnLogin.setStyle(btnLogin.getStyle() + "-fx-font-size: 14px;");
@@ -150,40 +149,50 @@ public class PantallaLogin extends VBox {
             return;
         }
 
-        try {
-            UsuarioDAO usuarioDAO = new UsuarioDAO();
-            Usuario usuario = usuarioDAO.autenticar(username, contrasena);
-
-            if (usuario == null) {
-                mostrarMensaje("Usuario o contraseña incorrectos.");
-                return;
-            }
-
-            // Determinar rol y cargar entidad correspondiente
-            RolSistema rol = RolSistema.fromString(usuario.getRol());
-
-            switch (rol) {
-                case JEFATURA:
-                    cargarJefatura(usuario);
-                    break;
-                case DIRECTOR:
-                    cargarDirector(usuario);
-                    break;
-                case PERSONAL:
-                    cargarPersonal(usuario);
-                    break;
-                default:
-                    mostrarMensaje("Rol no reconocido.");
-            }
-
-        } catch (SQLException e) {
-            mostrarMensaje("Error de conexión: " + e.getMessage());
+        // BCrypt y la consulta de sesión corren fuera del hilo JavaFX. Antes se
+        // comprueba que la base tenga aplicadas las migraciones de esta versión.
+        btnLogin.setDisable(true);
+        lblMensaje.setVisible(false);
+        CargaAsincrona.enSegundoPlano(() -> {
+                    EsquemaBD.verificar();
+                    return new SesionDAO().iniciarSesion(username, contrasena);
+                },
+                sesion -> {
+                    btnLogin.setDisable(false);
+                    entrar(sesion);
+                },
+                e -> {
+                    // Base caída, VPN sin conexión o esquema desactualizado: se puede reintentar
+                    btnLogin.setDisable(false);
+                    mostrarMensaje("No se pudo conectar con la base de datos.");
+                    EstiloUI.alertaError("Error de conexión", e.getMessage()).showAndWait();
+                });
+    }
+
+    private void entrar(SesionUsuario sesion) {
+        if (sesion == null) {
+            mostrarMensaje("Usuario o contraseña incorrectos.");
+            return;
+        }
+
+        // Rol, entidad y proyectos ya vienen cargados en la sesión
+        switch (sesion.getRol()) {
+            case JEFATURA:
+                entrarJefatura(sesion);
+                break;
+            case DIRECTOR:
+                entrarDirector(sesion);
+                break;
+            case PERSONAL:
+                entrarPersonal(sesion);
+                break;
+            default:
+                mostrarMensaje("Rol no reconocido.");
         }
     }
 
-    private void cargarJefatura(Usuario usuario) throws SQLException {
-        JefaturaDAO jDAO = new JefaturaDAO();
-        Jefatura jefatura = jDAO.obtenerPorIdUsuario(usuario.getIdUsuario());
+    private void entrarJefatura(SesionUsuario sesion) {
+        Jefatura jefatura = sesion.getJefatura();
 
         if (jefatura == null) {
             mostrarMensaje("Datos de jefatura no encontrados.");
@@ -195,9 +204,8 @@ public class PantallaLogin extends VBox {
         Navigador.cambiarPantalla(pantalla);
     }
 
-    private void cargarDirector(Usuario usuario) throws SQLException {
-        DirectorDAO dDAO = new DirectorDAO();
-        Director director = dDAO.obtenerPorIdUsuario(usuario.getIdUsuario());
+    private void entrarDirector(SesionUsuario sesion) {
+        Director director = sesion.getDirector();
 
         if (director == null) {
             mostrarMensaje("Datos del director no encontrados.");
@@ -205,31 +213,18 @@ public class PantallaLogin extends VBox {
         }
 
         // Verificar si debe cambiar contraseña (primer login)
-        if (director.debeActualizarContrasena()) {
-            mostrarPantallaCambioContrasena(director, "DIRECTOR");
+        if (sesion.isDebeCambiarContrasena()) {
+            mostrarPantallaCambioContrasena(director, "DIRECTOR", sesion.getProyectoPrincipal());
             return;
         }
 
-        // Obtener proyecto del director
-        ProyectoDAO pDAO = new ProyectoDAO();
-        var proyectos = pDAO.obtenerPorDirector(director.getCedula());
-
         PantallaPrincipalDirector pantalla = new PantallaPrincipalDirector(
-                director, proyectos.isEmpty() ? null : proyectos.get(0));
+                director, sesion.getProyectoPrincipal());
         Navigador.cambiarPantalla(pantalla);
     }
 
-    private void cargarPersonal(Usuario usuario) throws SQLException {
-        PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
-        // Buscar personal por id_usuario
-        var todos = piDAO.obtenerTodos();
-        PersonalDeInvestigacion personal = null;
-        for (var p : todos) {
-            if (p.getIdUsuario() == usuario.getIdUsuario()) {
-                personal = p;
-                break;
-            }
-        }
+    private void entrarPersonal(SesionUsuario sesion) {
+        PersonalDeInvestigacion personal = sesion.getPersonal();
 
         if (personal == null) {
             mostrarMensaje("Datos del personal no encontrados.");
@@ -237,24 +232,21 @@ public class PantallaLogin extends VBox {
         }
 
         // Verificar si debe cambiar contraseña (primer login)
-        if (personal.debeActualizarContrasena()) {
-            mostrarPantallaCambioContrasena(personal, "PERSONAL");
+        if (sesion.isDebeCambiarContrasena()) {
+            mostrarPantallaCambioContrasena(personal, "PERSONAL", sesion.getProyectoPrincipal());
             return;
         }
 
-        // Obtener proyecto del personal
-        ProyectoDAO proyDAO = new ProyectoDAO();
-        Proyecto proyecto = proyDAO.obtenerPorId(personal.getIdProyecto());
-
-        PantallaPrincipalPersonal pantalla = new PantallaPrincipalPersonal(personal, proyecto);
+        PantallaPrincipalPersonal pantalla = new PantallaPrincipalPersonal(
+                personal, sesion.getProyectoPrincipal());
         Navigador.cambiarPantalla(pantalla);
     }
 
     /**
      * Muestra un diálogo modal para cambiar la contraseña en primer login.
      */
-    private void mostrarPantallaCambioContrasena(Object entidad, String tipo) {
-        PantallaCambioContrasena pantalla = new PantallaCambioContrasena(entidad, tipo);
+    private void mostrarPantallaCambioContrasena(Object entidad, String tipo, Proyecto proyecto) {
+        PantallaCambioContrasena pantalla = new PantallaCambioContrasena(entidad, tipo, proyecto);
         Navigador.cambiarPantalla(pantalla);
     }
 
@@ -0,0 +1,270 @@
+package interfaz.comun;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.Node;
+import javafx.scene.control.*;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Listado virtualizado sobre un TableView: solo existen las celdas visibles y se
+ * reciclan al desplazarse, así el costo de pintar no crece con el número de filas.
+ *
+ * Los datos pueden venir completos ({@link #mostrar}) o de una fuente paginada
+ * ({@link #cargar}): se pide la primera página y las siguientes a medida que el
+ * usuario se acerca al final. Ordenar por una columna trae antes las páginas que
+ * falten, para que el orden sea sobre todo el listado.
+ *
+ * Uso:
+ * <pre>
+ * TablaVirtual&lt;Proyecto&gt; tabla = new TablaVirtual&lt;&gt;("No hay proyectos.");
+ * tabla.columna("Proyecto", 260, Proyecto::getNombre)
+ *      .columnaNodo("Estado", 110, p -> EstiloUI.badgeEstadoProyecto(p.getEstado().name()), Proyecto::getEstado);
+ * tabla.cargar((desde, ultima, limite) -> dao.obtenerPagina(desde, limite));
+ * </pre>
+ */
+public class TablaVirtual<T> extends VBox {
+
+    /** Filas por página cuando se usa una fuente paginada. */
+    public static final int TAMANO_PAGINA = 50;
+
+    /** Se pide la página siguiente cuando se pinta una fila a esta distancia del final. */
+    private static final int UMBRAL_SIGUIENTE = 10;
+
+    private static final double ALTO_FILA = 42;
+
+    /**
+     * Fuente de datos por páginas. Recibe cuántas filas ya se cargaron y la última
+     * de ellas (null en la primera página), de modo que sirve tanto para
+     * paginación por desplazamiento como por clave.
+     * @return a lo sumo {@code limite} filas; menos indica que no hay más
+     */
+    @FunctionalInterface
+    public interface FuentePaginada<T> {
+        List<T> pagina(int desplazamiento, T ultima, int limite) throws SQLException;
+    }
+
+    private final TableView<T> tabla = new TableView<>();
+    private final ObservableList<T> filas = FXCollections.observableArrayList();
+    private final SortedList<T> ordenadas = new SortedList<>(filas);
+    private final Label lblEstado = EstiloUI.labelSmall("");
+
+    private FuentePaginada<T> fuente;
+    private boolean hayMas;
+    private boolean cargando;
+    /** Número de la última carga pedida; las respuestas de cargas anteriores se ignoran */
+    private int cargas;
+
+    public TablaVirtual(String mensajeVacio) {
+        super(6);
+        ordenadas.comparatorProperty().bind(tabla.comparatorProperty());
+        tabla.setItems(ordenadas);
+        tabla.setPlaceholder(EstiloUI.labelSmall(mensajeVacio));
+        tabla.setFixedCellSize(ALTO_FILA);
+        setFilasVisibles(12);
+        tabla.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+        tabla.setStyle("-fx-background-color: transparent; -fx-font-size: 13px; " +
+                "-fx-table-cell-border-color: " + EstiloUI.C_GRAY_LIGHT + ";");
+        VBox.setVgrow(tabla, Priority.ALWAYS);
+
+        // Las filas visibles cerca del final piden la página siguiente
+        tabla.setRowFactory(tv -> new TableRow<>() {
+            @Override
+            public void updateIndex(int indice) {
+                super.updateIndex(indice);
+                if (indice >= 0 && indice >= ordenadas.size() - UMBRAL_SIGUIENTE) {
+                    Platform.runLater(TablaVirtual.this::cargarSiguiente);
+                }
+            }
+        });
+
+        // Ordenar con páginas pendientes: primero se trae el resto
+        tabla.getSortOrder().addListener((ListChangeListener<TableColumn<T, ?>>) c -> {
+            if (!tabla.getSortOrder().isEmpty()) cargarResto();
+        });
+
+        getChildren().addAll(tabla, lblEstado);
+    }
+
+    // ─── Columnas ───
+
+    /** Columna de texto, ordenable alfabéticamente. */
+    public TablaVirtual<T> columna(String titulo, double ancho, Function<T, String> texto) {
+        return agregar(titulo, ancho, texto, null,
+                Comparator.comparing(f -> valorOVacio(texto.apply(f)), String.CASE_INSENSITIVE_ORDER));
+    }
+
+    /** Columna de texto que se ordena por otra clave (fechas, números). */
+    public <C extends Comparable<? super C>> TablaVirtual<T> columna(String titulo, double ancho,
+                                                                     Function<T, String> texto,
+                                                                     Function<T, C> clave) {
+        return agregar(titulo, ancho, texto, null,
+                Comparator.comparing(clave, Comparator.nullsLast(Comparator.naturalOrder())));
+    }
+
+    /** Columna con un nodo por fila (badges); ordenable por {@code clave} si no es null. */
+    public <C extends Comparable<? super C>> TablaVirtual<T> columnaNodo(String titulo, double ancho,
+                                                                         Function<T, Node> nodo,
+                                                                         Function<T, C> clave) {
+        return agregar(titulo, ancho, null, nodo, clave == null ? null
+                : Comparator.comparing(clave, Comparator.nullsLast(Comparator.naturalOrder())));
+    }
+
+    /** Columna no ordenable con los botones de acción de cada fila. */
+    public TablaVirtual<T> columnaAcciones(String titulo, double ancho, Function<T, List<? extends Node>> acciones) {
+        return agregar(titulo, ancho, null, fila -> {
+            HBox caja = new HBox(6);
+            caja.getChildren().addAll(acciones.apply(fila));
+            return caja;
+        }, null);
+    }
+
+    private TablaVirtual<T> agregar(String titulo, double ancho, Function<T, String> texto,
+                                    Function<T, Node> nodo, Comparator<T> orden) {
+        TableColumn<T, T> columna = new TableColumn<>(titulo);
+        columna.setPrefWidth(ancho);
+        columna.setMinWidth(Math.min(ancho, 50));
+        columna.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue()));
+        columna.setCellFactory(c -> new TableCell<>() {
+            @Override
+            protected void updateItem(T fila, boolean vacia) {
+                super.updateItem(fila, vacia);
+                if (vacia || fila == null) {
+                    setText(null);
+                    setGraphic(null);
+                } else if (texto != null) {
+                    setText(valorOVacio(texto.apply(fila)));
+                    setGraphic(null);
+                } else {
+                    setText(null);
+                    setGraphic(nodo.apply(fila));
+                }
+            }
+        });
+        if (orden != null) {
+            columna.setComparator(orden::compare);
+        } else {
+            columna.setSortable(false);
+        }
+        tabla.getColumns().add(columna);
+        return this;
+    }
+
+    private static String valorOVacio(String valor) {
+        return valor != null ? valor : "—";
+    }
+
+    // ─── Datos ───
+
+    /** Muestra un listado ya cargado por completo. */
+    public void mostrar(List<T> todas) {
+        fuente = null;
+        hayMas = false;
+        cargando = false;
+        cargas++;
+        filas.setAll(todas);
+        actualizarEstado();
+    }
+
+    /** Vacía la tabla y empieza a leer de {@code fuente} desde la primera página. */
+    public void cargar(FuentePaginada<T> fuente) {
+        this.fuente = fuente;
+        filas.clear();
+        hayMas = true;
+        cargando = false;
+        cargas++;
+        cargarSiguiente();
+    }
+
+    /** Vuelve a leer la fuente actual desde el principio (sin fuente, no hace nada). */
+    public void recargar() {
+        if (fuente != null) cargar(fuente);
+    }
+
+    /** Alto preferido de la tabla, en filas (listados cortos dentro de un formulario). */
+    public void setFilasVisibles(int filas) {
+        tabla.setPrefHeight(ALTO_FILA * filas + 30);
+    }
+
+    /** Cambia el texto que se muestra cuando no hay filas (p. ej. según el filtro). */
+    public void setMensajeVacio(String mensaje) {
+        tabla.setPlaceholder(EstiloUI.labelSmall(mensaje));
+    }
+
+    /** Filas cargadas, en el orden de la fuente. */
+    public ObservableList<T> getFilas() {
+        return filas;
+    }
+
+    public TableView<T> getTabla() {
+        return tabla;
+    }
+
+    private void cargarSiguiente() {
+        if (!hayMas || cargando || fuente == null) return;
+        FuentePaginada<T> actual = fuente;
+        int desplazamiento = filas.size();
+        T ultima = filas.isEmpty() ? null : filas.get(filas.size() - 1);
+
+        // Si la página falla o se cancela, cargando vuelve a false y el siguiente
+        // desplazamiento la pide otra vez
+        int carga = ++cargas;
+        cargando = true;
+        CargaAsincrona.cargar(this, () -> actual.pagina(desplazamiento, ultima, TAMANO_PAGINA), pagina -> {
+            if (carga != cargas) return;
+            filas.addAll(pagina);
+            hayMas = pagina.size() == TAMANO_PAGINA;
+            actualizarEstado();
+        }, () -> terminarCarga(carga));
+    }
+
+    /** Trae de una vez las páginas que falten (se usa al ordenar). */
+    private void cargarResto() {
+        if (!hayMas || fuente == null) return;
+        FuentePaginada<T> actual = fuente;
+        int cargadas = filas.size();
+        T ultimaCargada = filas.isEmpty() ? null : filas.get(filas.size() - 1);
+
+        int carga = ++cargas;
+        cargando = true;
+        CargaAsincrona.cargar(this, () -> {
+            List<T> resto = new ArrayList<>();
+            T ultima = ultimaCargada;
+            List<T> pagina;
+            do {
+                pagina = actual.pagina(cargadas + resto.size(), ultima, TAMANO_PAGINA);
+                resto.addAll(pagina);
+                if (!pagina.isEmpty()) ultima = pagina.get(pagina.size() - 1);
+            } while (pagina.size() == TAMANO_PAGINA);
+            return resto;
+        }, resto -> {
+            if (carga != cargas) return;
+            hayMas = false;
+            filas.addAll(resto);
+            actualizarEstado();
+        }, () -> terminarCarga(carga));
+    }
+
+    private void terminarCarga(int carga) {
+        if (carga == cargas) cargando = false;
+    }
+
+    private void actualizarEstado() {
+        int n = filas.size();
+        lblEstado.setText(n == 0 ? "" : hayMas
+                ? n + " filas cargadas · desplácese para ver más"
+                : n + (n == 1 ? " fila" : " filas"));
+    }
+}
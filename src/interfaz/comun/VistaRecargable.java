@@ -0,0 +1,12 @@
+package interfaz.comun;
+
+/**
+ * Módulo que sabe refrescar sus datos sin reconstruirse.
+ * CacheVistas lo usa al volver a una pestaña vencida: el nodo, los filtros y
+ * la posición de desplazamiento se conservan y solo se vuelve a consultar.
+ */
+public interface VistaRecargable {
+
+    /** Vuelve a cargar los datos respetando los filtros actuales. */
+    void recargar();
+}
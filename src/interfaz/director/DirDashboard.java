@@ -5,10 +5,14 @@ import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
+import Logica.Conexiones.ConsultasParalelas;
+import Logica.Conexiones.ConsultasParalelas.Pendiente;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.VistaRecargable;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -22,21 +26,34 @@ import java.util.List;
  *  – Informes pendientes de revisión
  *  – Notificaciones recientes
  */
-public class DirDashboard extends VBox {
+public class DirDashboard extends VBox implements VistaRecargable {
 
     private final Director director;
     private final Proyecto proyecto;
 
+    /** Consultas ya lanzadas para la primera carga (null si no hay). */
+    private Consultas precarga;
+
     public DirDashboard(Director director, Proyecto proyecto) {
+        this(director, proyecto, null);
+    }
+
+    DirDashboard(Director director, Proyecto proyecto, Consultas precarga) {
         super(18);
         this.director = director;
         this.proyecto = proyecto;
+        this.precarga = precarga;
         setPadding(new Insets(24));
         setStyle("-fx-background-color: " + EstiloUI.C_OFF_WHITE + ";");
 
         cargar();
     }
 
+    @Override
+    public void recargar() {
+        cargar();
+    }
+
     private void cargar() {
         getChildren().clear();
         getChildren().add(EstiloUI.labelTitulo("Dashboard"));
@@ -50,106 +67,144 @@ public class DirDashboard extends VBox {
             return;
         }
 
-        try {
-            PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
-            ParticipacionDAO parDAO          = new ParticipacionDAO();
-            ReporteDAO rDAO                  = new ReporteDAO();
-            InformeActividadesDAO iaDAO      = new InformeActividadesDAO();
-
-            // ── Tarjeta info proyecto ─────────────────────────
-            VBox cardProyecto = EstiloUI.tarjeta();
-            HBox proyHeader = new HBox(16);
-            proyHeader.setAlignment(Pos.CENTER_LEFT);
-            proyHeader.getChildren().add(EstiloUI.labelSubtitulo(proyecto.getNombre()));
-            proyHeader.getChildren().add(EstiloUI.badgeEstadoProyecto(proyecto.getEstado().name()));
-            cardProyecto.getChildren().add(proyHeader);
-
-            GridPane gridInfo = new GridPane();
-            gridInfo.setHgap(24); gridInfo.setVgap(8);
-            gridInfo.setPadding(new Insets(8, 0, 0, 0));
-
-            addGridRow(gridInfo, 0, "Código:",     proyecto.getCodigoProyecto() != null ? proyecto.getCodigoProyecto() : "—");
-            addGridRow(gridInfo, 1, "Tipo:",        proyecto.getTipoProyecto());
-            addGridRow(gridInfo, 2, "Periodo:",     proyecto.getPeriodoInicio() != null ? proyecto.getPeriodoInicio().getCodigo() : "—");
-            addGridRow(gridInfo, 3, "Duración:",    proyecto.getDuracionMeses() + " meses");
-
-            cardProyecto.getChildren().add(gridInfo);
-            getChildren().add(cardProyecto);
-
-            // ── Estadísticas personal ────────────────────────
-            List<PersonalDeInvestigacion> personales = piDAO.obtenerTodos().stream()
-                    .filter(p -> p.getIdProyecto() == proyecto.getIdProyecto())
-                    .collect(java.util.stream.Collectors.toList());
-
-            int totalPersonal = personales.size();
-            int activos = 0;
-            for (PersonalDeInvestigacion p : personales) {
-                List<Participacion> parts = parDAO.obtenerPorPersonal(p.getCedula());
-                if (!parts.isEmpty() && parts.get(0).getEstado() == EstadoParticipacion.ACTIVO) activos++;
-            }
+        // ── Tarjeta info proyecto ─────────────────────────
+        VBox cardProyecto = EstiloUI.tarjeta();
+        HBox proyHeader = new HBox(16);
+        proyHeader.setAlignment(Pos.CENTER_LEFT);
+        proyHeader.getChildren().add(EstiloUI.labelSubtitulo(proyecto.getNombre()));
+        proyHeader.getChildren().add(EstiloUI.badgeEstadoProyecto(proyecto.getEstado().name()));
+        cardProyecto.getChildren().add(proyHeader);
+
+        GridPane gridInfo = new GridPane();
+        gridInfo.setHgap(24); gridInfo.setVgap(8);
+        gridInfo.setPadding(new Insets(8, 0, 0, 0));
+
+        addGridRow(gridInfo, 0, "Código:",     proyecto.getCodigoProyecto() != null ? proyecto.getCodigoProyecto() : "—");
+        addGridRow(gridInfo, 1, "Tipo:",        proyecto.getTipoProyecto());
+        addGridRow(gridInfo, 2, "Periodo:",     proyecto.getPeriodoInicio() != null ? proyecto.getPeriodoInicio().getCodigo() : "—");
+        addGridRow(gridInfo, 3, "Duración:",    proyecto.getDuracionMeses() + " meses");
+
+        cardProyecto.getChildren().add(gridInfo);
+        getChildren().add(cardProyecto);
+
+        // Solo la primera carga usa la precarga; las siguientes consultan de nuevo
+        Consultas lanzadas = precarga;
+        precarga = null;
+        CargaAsincrona.cargar(this, () -> consultarDatos(lanzadas), this::mostrar);
+    }
+
+    // ─── Datos (hilo de fondo) ───────────────────────────────────────────
+
+    /** Cuántos informes pendientes se listan; el total va en la tarjeta. */
+    private static final int LIMITE_PENDIENTES = 10;
+
+    private record Datos(MetricasDirector metricas,
+                         List<ResumenInforme> informesPendientes,
+                         List<Notificacion> notificaciones) {}
+
+    /**
+     * Consultas del dashboard, lanzadas en paralelo al crearse.
+     * PantallaPrincipalDirector las crea antes de armar la ventana, de modo que
+     * el dashboard y la barra de notificaciones arrancan con los datos en camino.
+     */
+    static final class Consultas {
+        private final ConsultasParalelas grupo;
+        private final Pendiente<MetricasDirector> metricas;
+        private final Pendiente<List<ResumenInforme>> informesPendientes;
+        private final Pendiente<List<Notificacion>> notificaciones;
+
+        Consultas(ConsultasParalelas grupo, Director director, Proyecto proyecto) {
+            int idProyecto = proyecto.getIdProyecto();
+            MetricasDashboardDAO dao = new MetricasDashboardDAO();
+            this.grupo = grupo;
+            metricas           = grupo.lanzar(() -> dao.obtenerMetricasDirector(idProyecto));
+            informesPendientes = grupo.lanzar(() -> dao.obtenerInformesPendientes(idProyecto, LIMITE_PENDIENTES));
+            notificaciones     = grupo.lanzar(() -> {
+                director.cargarNotificaciones();
+                return director.getNotificaciones();
+            });
+        }
 
-            List<Reporte> reportes = rDAO.obtenerPorProyecto(proyecto.getIdProyecto());
-            long reportesEnEdicion = reportes.stream().filter(r -> r.getEstado() == EstadoReporte.EN_EDICION).count();
-
-            List<InformeActividades> informesPendientes = iaDAO.obtenerPendientesDeRevision(proyecto.getIdProyecto());
-
-            HBox tarjetas = new HBox(16);
-            tarjetas.setAlignment(Pos.CENTER_LEFT);
-            tarjetas.getChildren().addAll(
-                    EstiloUI.tarjetaStat("Personal Total",    String.valueOf(totalPersonal),  "Registrados"),
-                    EstiloUI.tarjetaStat("Personal Activo",   String.valueOf(activos),        "En el proyecto"),
-                    EstiloUI.tarjetaStat("Reportes",          String.valueOf(reportesEnEdicion), "En edición"),
-                    EstiloUI.tarjetaStat("Informes Pendientes", String.valueOf(informesPendientes.size()), "De revisión")
-            );
-            getChildren().add(tarjetas);
-
-            // ── Informes pendientes de revisión ───────────────
-            if (!informesPendientes.isEmpty()) {
-                VBox cardInf = EstiloUI.tarjeta();
-                cardInf.getChildren().add(EstiloUI.labelSubtitulo("Informes Pendientes de Revisión"));
-
-                for (InformeActividades inf : informesPendientes) {
-                    HBox fila = new HBox(16);
-                    fila.setAlignment(Pos.CENTER_LEFT);
-                    fila.setPadding(new Insets(8, 0, 8, 0));
-                    fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-                    String personNom = (inf.getPersonalDeInvestigacion() != null) ?
-                            inf.getPersonalDeInvestigacion().getNombresCompletos() : "—";
-                    fila.getChildren().addAll(
-                            EstiloUI.labelBody(personNom),
-                            EstiloUI.labelSmall("Fecha: " + (inf.getFechaRegistro() != null ? inf.getFechaRegistro() : "—")),
-                            EstiloUI.badgeEstadoInforme(inf.getEstado().name())
-                    );
-
-                    cardInf.getChildren().add(fila);
-                }
-
-                getChildren().add(cardInf);
+        List<Notificacion> notificaciones() throws SQLException {
+            return notificaciones.obtener();
+        }
+
+        private Datos datos() throws SQLException {
+            grupo.esperar();
+            return new Datos(metricas.obtener(), informesPendientes.obtener(), notificaciones.obtener());
+        }
+    }
+
+    private Datos consultarDatos(Consultas lanzadas) throws SQLException {
+        Consultas consultas = lanzadas != null ? lanzadas
+                : new Consultas(new ConsultasParalelas("Dashboard director"), director, proyecto);
+        return consultas.datos();
+    }
+
+    // ─── Render (hilo JavaFX) ────────────────────────────────────────────
+    private void mostrar(Datos datos) {
+        MetricasDirector metricas = datos.metricas();
+        List<ResumenInforme> informesPendientes = datos.informesPendientes();
+
+        // ── Estadísticas personal ────────────────────────
+        HBox tarjetas = new HBox(16);
+        tarjetas.setAlignment(Pos.CENTER_LEFT);
+        tarjetas.getChildren().addAll(
+                EstiloUI.tarjetaStat("Personal Total",    String.valueOf(metricas.getTotalPersonal()),  "Registrados"),
+                EstiloUI.tarjetaStat("Personal Activo",   String.valueOf(metricas.getPersonalActivo()), "En el proyecto"),
+                EstiloUI.tarjetaStat("Reportes",          String.valueOf(metricas.getReportesEnEdicion()), "En edición"),
+                EstiloUI.tarjetaStat("Informes Pendientes", String.valueOf(metricas.getInformesPendientes()), "De revisión")
+        );
+        getChildren().add(tarjetas);
+
+        // ── Informes pendientes de revisión ───────────────
+        if (!informesPendientes.isEmpty()) {
+            VBox cardInf = EstiloUI.tarjeta();
+            cardInf.getChildren().add(EstiloUI.labelSubtitulo("Informes Pendientes de Revisión"));
+
+            for (ResumenInforme inf : informesPendientes) {
+                HBox fila = new HBox(16);
+                fila.setAlignment(Pos.CENTER_LEFT);
+                fila.setPadding(new Insets(8, 0, 8, 0));
+                fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
+
+                String personNom = (inf.getNombresPersonal() != null) ? inf.getNombreCompletoPersonal() : "—";
+                fila.getChildren().addAll(
+                        EstiloUI.labelBody(personNom),
+                        EstiloUI.labelSmall("Fecha: " + (inf.getFechaRegistro() != null ? inf.getFechaRegistro() : "—")),
+                        EstiloUI.badgeEstadoInforme(inf.getEstado().name())
+                );
+
+                cardInf.getChildren().add(fila);
             }
 
-            // ── Notificaciones recientes ──────────────────────
-            director.cargarNotificaciones();
-            if (!director.getNotificaciones().isEmpty()) {
-                VBox cardNotif = EstiloUI.tarjeta();
-                cardNotif.getChildren().add(EstiloUI.labelSubtitulo("Notificaciones Recientes"));
-
-                int max = Math.min(5, director.getNotificaciones().size());
-                for (int i = 0; i < max; i++) {
-                    Notificacion n = director.getNotificaciones().get(i);
-                    VBox item = new VBox(2);
-                    item.setPadding(new Insets(6, 0, 6, 0));
-                    item.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-                    item.getChildren().add(EstiloUI.labelBody(n.getContenido()));
-                    item.getChildren().add(EstiloUI.labelSmall(n.getFecha() != null ? n.getFecha().toLocalDate().toString() : ""));
-                    cardNotif.getChildren().add(item);
-                }
-                getChildren().add(cardNotif);
+            int restantes = metricas.getInformesPendientes() - informesPendientes.size();
+            if (restantes > 0) {
+                cardInf.getChildren().add(EstiloUI.labelSmall(
+                        "… y " + restantes + " más. Ver la pestaña Informes."));
             }
 
-        } catch (SQLException e) {
-            getChildren().add(EstiloUI.labelSmall("Error al cargar datos: " + e.getMessage()));
+            getChildren().add(cardInf);
+        }
+
+        // ── Notificaciones recientes ──────────────────────
+        List<Notificacion> notificaciones = datos.notificaciones();
+        if (!notificaciones.isEmpty()) {
+            VBox cardNotif = EstiloUI.tarjeta();
+            cardNotif.getChildren().add(EstiloUI.labelSubtitulo("Notificaciones Recientes"));
+
+            int max = Math.min(5, notificaciones.size());
+            for (int i = 0; i < max; i++) {
+                Notificacion n = notificaciones.get(i);
+                VBox item = new VBox(2);
+                item.setPadding(new Insets(6, 0, 6, 0));
+                item.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
+
+                item.getChildren().add(EstiloUI.labelBody(n.getContenido()));
+                item.getChildren().add(EstiloUI.labelSmall(n.getFecha() != null ? n.getFecha().toLocalDate().toString() : ""));
+                cardNotif.getChildren().add(item);
+            }
+            getChildren().add(cardNotif);
         }
     }
 
@@ -8,12 +8,15 @@ import javafx.scene.layout.*;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
 
-import java.sql.SQLException;
 import java.sql.Time;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Módulo de Informes de Actividades para el Director.
@@ -22,12 +25,12 @@ import java.util.List;
  *  – Seleccionar informe ENVIADO → panel detalle con semanas y botones Aprobar / Rechazar
  *  – Rechazar exige ingreso de motivo
  */
-public class DirInformes extends VBox {
+public class DirInformes extends VBox implements VistaRecargable {
 
     private final Director director;
     private final Proyecto proyecto;
 
-    private VBox contenidoTabla;
+    private TablaVirtual<ResumenInforme> tabla;
     private VBox panelDetalle;
 
     // Filtro activo
@@ -42,6 +45,11 @@ public class DirInformes extends VBox {
         construir();
     }
 
+    @Override
+    public void recargar() {
+        if (proyecto != null) cargarInformes();
+    }
+
     // ─── CONSTRUCCIÓN ────────────────────────────────────────────────────────
     private void construir() {
         getChildren().clear();
@@ -71,24 +79,19 @@ public class DirInformes extends VBox {
             return;
         }
 
-        // Tabla de informes
+        // Tabla de informes; las páginas se piden al desplazarse
         VBox tarjeta = EstiloUI.tarjeta();
-
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols   = {"Personal", "Fecha Registro", "Estado", "Semanas", "Horas Total", "Acciones"};
-        double[]  widths = {180,         140,              110,      80,        100,            140};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]); lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().add(tableHeader);
-
-        contenidoTabla = new VBox(0);
-        tarjeta.getChildren().add(contenidoTabla);
+        tabla = new TablaVirtual<>("No hay informes.");
+        tabla.columna("Personal", 180, ResumenInforme::getNombreCompletoPersonal)
+             .columna("Fecha Registro", 140, inf -> inf.getFechaRegistro() != null ?
+                     inf.getFechaRegistro().toString() : null, ResumenInforme::getFechaRegistro)
+             .columnaNodo("Estado", 110, inf -> EstiloUI.badgeEstadoInforme(inf.getEstado().name()),
+                     ResumenInforme::getEstado)
+             .columna("Semanas", 80, inf -> String.valueOf(inf.getNumeroSemanas()), ResumenInforme::getNumeroSemanas)
+             .columna("Horas Total", 100, inf -> String.format("%.1f h", inf.getHorasTotales()),
+                     ResumenInforme::getHorasTotales)
+             .columnaAcciones("Acciones", 200, this::crearAcciones);
+        tarjeta.getChildren().add(tabla);
         getChildren().add(tarjeta);
 
         // Panel detalle (se muestra al seleccionar un informe ENVIADO)
@@ -125,80 +128,54 @@ public class DirInformes extends VBox {
 
     // ─── CARGA DE DATOS ─────────────────────────────────────────────────────
     private void cargarInformes() {
-        contenidoTabla.getChildren().clear();
         panelDetalle.getChildren().clear();
 
-        try {
-            InformeActividadesDAO iaDAO = new InformeActividadesDAO();
-
-            // Obtener todos los informes del proyecto (pendientes + resto)
-            // Usamos obtenerPendientesDeRevision para ENVIADO, y obtenerPorPersonal para el resto
-            // Más limpio: obtener todos los personales del proyecto y luego sus informes
-            PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
-            List<PersonalDeInvestigacion> personales = piDAO.obtenerTodos().stream()
-                    .filter(p -> p.getIdProyecto() == proyecto.getIdProyecto())
-                    .collect(java.util.stream.Collectors.toList());
-
-            boolean hayAlguno = false;
-            for (PersonalDeInvestigacion p : personales) {
-                List<InformeActividades> informes = iaDAO.obtenerPorPersonal(p.getCedula());
-                for (InformeActividades inf : informes) {
-                    // Aplicar filtro
-                    if (filtroEstado != null && inf.getEstado() != filtroEstado) continue;
-                    contenidoTabla.getChildren().add(crearFilaInforme(inf));
-                    hayAlguno = true;
-                }
-            }
+        EstadoInforme estado = filtroEstado;
+        int idProyecto = proyecto.getIdProyecto();
+        tabla.setMensajeVacio("No hay informes" + (estado != null ? " con estado " + estado.name() : "") + ".");
+        tabla.cargar((desplazamiento, ultima, limite) -> {
+            FiltroInformes filtro = new FiltroInformes();
+            filtro.setIdProyecto(idProyecto);
+            filtro.setEstado(estado);
+            filtro.setLimite(limite);
+            filtro.setDesplazamiento(desplazamiento);
+            return new InformeActividadesDAO().obtenerResumenes(filtro);
+        });
+    }
 
-            if (!hayAlguno) {
-                contenidoTabla.getChildren().add(EstiloUI.labelSmall("  No hay informes" +
-                        (filtroEstado != null ? " con estado " + filtroEstado.name() : "") + "."));
+    /**
+     * Carga el informe completo (con semanas) de una fila del listado y se lo pasa a {@code accion}.
+     */
+    private void cargarCompleto(Button origen, ResumenInforme resumen, Consumer<InformeActividades> accion) {
+        CargaAsincrona.consultar(origen, () -> new InformeActividadesDAO().obtenerPorId(resumen.getIdInforme()), inf -> {
+            if (inf == null) {
+                EstiloUI.alertaError("Error", "El informe ya no existe.").showAndWait();
+                return;
             }
-
-        } catch (SQLException e) {
-            contenidoTabla.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+            accion.accept(inf);
+        });
     }
 
-    // ─── FILA DE INFORME ────────────────────────────────────────────────────
-    private HBox crearFilaInforme(InformeActividades inf) {
-        HBox fila = new HBox();
-        fila.setAlignment(Pos.CENTER_LEFT);
-        fila.setPadding(new Insets(9, 0, 9, 0));
-        fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-        String nombre = (inf.getPersonalDeInvestigacion() != null)
-                ? inf.getPersonalDeInvestigacion().getNombresCompletos() : "—";
-        Label lblNombre  = txt(nombre, 180);
-        Label lblFecha   = txt(inf.getFechaRegistro() != null ? inf.getFechaRegistro().toString() : "—", 140);
-        Label lblEstado  = EstiloUI.badgeEstadoInforme(inf.getEstado().name());
-        lblEstado.setMinWidth(110);
-        Label lblSemanas = txt(String.valueOf(inf.getSemanas().size()), 80);
-        Label lblHoras   = txt(String.format("%.1f h", inf.calcularHorasTotales()), 100);
-
-        // Acciones
-        HBox acciones = new HBox(6);
-        if (inf.getEstado() == EstadoInforme.ENVIADO) {
-            Button btnVer = EstiloUI.botonSmall("Ver", EstiloUI.C_MEDIUM);
-            btnVer.setOnAction(e -> mostrarDetalle(inf));
-            acciones.getChildren().add(btnVer);
-
-            Button btnAprobar = EstiloUI.botonSmall("Aprobar", EstiloUI.C_DARK);
-            btnAprobar.setOnAction(e -> aprobarInforme(inf));
-            acciones.getChildren().add(btnAprobar);
-
-            Button btnRechazar = EstiloUI.botonSmall("Rechazar", EstiloUI.C_RED);
-            btnRechazar.setOnAction(e -> rechazarInforme(inf));
-            acciones.getChildren().add(btnRechazar);
-        } else {
+    // ─── ACCIONES DE LA FILA ────────────────────────────────────────────────
+    // El detalle completo se carga recién al usar una acción
+    private List<Button> crearAcciones(ResumenInforme inf) {
+        if (inf.getEstado() != EstadoInforme.ENVIADO) {
             // Solo ver detalle para otros estados
             Button btnVer = EstiloUI.botonSmall("Ver", EstiloUI.C_GRAY_DARK);
-            btnVer.setOnAction(e -> mostrarDetalle(inf));
-            acciones.getChildren().add(btnVer);
+            btnVer.setOnAction(e -> cargarCompleto(btnVer, inf, this::mostrarDetalle));
+            return List.of(btnVer);
         }
 
-        fila.getChildren().addAll(lblNombre, lblFecha, lblEstado, lblSemanas, lblHoras, acciones);
-        return fila;
+        Button btnVer = EstiloUI.botonSmall("Ver", EstiloUI.C_MEDIUM);
+        btnVer.setOnAction(e -> cargarCompleto(btnVer, inf, this::mostrarDetalle));
+
+        Button btnAprobar = EstiloUI.botonSmall("Aprobar", EstiloUI.C_DARK);
+        btnAprobar.setOnAction(e -> cargarCompleto(btnAprobar, inf, this::aprobarInforme));
+
+        Button btnRechazar = EstiloUI.botonSmall("Rechazar", EstiloUI.C_RED);
+        btnRechazar.setOnAction(e -> cargarCompleto(btnRechazar, inf, this::rechazarInforme));
+
+        return List.of(btnVer, btnAprobar, btnRechazar);
     }
 
     // ─── PANEL DETALLE – SEMANAS ────────────────────────────────────────────
@@ -324,13 +301,10 @@ public class DirInformes extends VBox {
                 (inf.getPersonalDeInvestigacion() != null ? inf.getPersonalDeInvestigacion().getNombresCompletos() : "este personal") + "?");
         confirm.showAndWait().ifPresent(res -> {
             if (res == javafx.scene.control.ButtonType.OK) {
-                try {
-                    director.aprobarInformeDeActividades(inf);
+                CargaAsincrona.ejecutar(this, () -> director.aprobarInformeDeActividades(inf), () -> {
                     EstiloUI.alertaInfo("Éxito", "Informe aprobado.").showAndWait();
                     cargarInformes();
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-                }
+                });
             }
         });
     }
@@ -347,23 +321,14 @@ public class DirInformes extends VBox {
                 EstiloUI.alertaError("Validación", "El motivo es obligatorio.").showAndWait();
                 return;
             }
-            try {
-                director.rechazarInformeDeActividades(inf, motivo.trim());
+            CargaAsincrona.ejecutar(this, () -> director.rechazarInformeDeActividades(inf, motivo.trim()), () -> {
                 EstiloUI.alertaInfo("Éxito", "Informe rechazado. Se notificó al personal.").showAndWait();
                 cargarInformes();
-            } catch (SQLException e) {
-                EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-            }
+            });
         });
     }
 
     // ─── UTILIDADES ─────────────────────────────────────────────────────────
-    private Label txt(String valor, double ancho) {
-        Label l = EstiloUI.labelBody(valor);
-        l.setMinWidth(ancho); l.setPrefWidth(ancho);
-        return l;
-    }
-
     private Label miniTxt(String valor, double ancho) {
         Label l = EstiloUI.labelSmall(valor);
         l.setMinWidth(ancho); l.setPrefWidth(ancho);
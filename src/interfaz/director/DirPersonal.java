@@ -8,11 +8,16 @@ import javafx.scene.layout.*;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -21,14 +26,14 @@ import java.util.stream.Collectors;
  * Cambios:
  *  Req 4 – mostrarFormularioAgregar() calcula capacidad por tipo antes de mostrar el form;
  *          solo ofrece tipos con slots disponibles. agregarPersonal() re-verifica al guardar.
- *  Req 5 – crearFila() agrega botón "Finalizar" para participaciones ACTIVAS;
+ *  Req 5 – crearAcciones() agrega botón "Finalizar" para participaciones ACTIVAS;
  *          finalizarParticipacion() setea fecha_fin = hoy y estado = FINALIZADO.
  */
-public class DirPersonal extends VBox {
+public class DirPersonal extends VBox implements VistaRecargable {
 
     private final Director director;
     private final Proyecto proyecto;
-    private VBox contenido;
+    private TablaVirtual<FilaPersonal> tabla;
 
     public DirPersonal(Director director, Proyecto proyecto) {
         super(18);
@@ -39,6 +44,11 @@ public class DirPersonal extends VBox {
         construir();
     }
 
+    @Override
+    public void recargar() {
+        if (proyecto != null) cargarPersonal();
+    }
+
     private void construir() {
         getChildren().clear();
 
@@ -59,30 +69,25 @@ public class DirPersonal extends VBox {
 
         // ── Tabla ───────────────────────────────────────────
         VBox tarjeta = EstiloUI.tarjeta();
-
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols = {"Nombres", "Apellidos", "Tipo", "Cédula", "Correo", "Participación", "Acciones"};
-        double[] widths = {140, 140, 90, 120, 170, 110, 180};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]); lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().add(tableHeader);
-
-        contenido = new VBox(0);
-        tarjeta.getChildren().add(contenido);
+        tabla = new TablaVirtual<>("No hay personal registrado en este proyecto.");
+        tabla.columna("Nombres", 140, f -> f.personal().getNombres())
+             .columna("Apellidos", 140, f -> f.personal().getApellidos())
+             .columna("Tipo", 90, f -> f.personal().getTipo())
+             .columna("Cédula", 120, f -> f.personal().getCedula())
+             .columna("Correo", 170, f -> f.personal().getCorreo())
+             .columnaNodo("Participación", 110, f -> EstiloUI.badgeEstadoParticipacion(estadoDe(f)), this::estadoDe)
+             .columnaAcciones("Acciones", 180, f -> crearAcciones(f.personal(), f.actual()));
+        tarjeta.getChildren().add(tabla);
+        VBox.setVgrow(tarjeta, Priority.ALWAYS);
         getChildren().add(tarjeta);
 
         cargarPersonal();
     }
 
+    private record FilaPersonal(PersonalDeInvestigacion personal, Participacion actual) {}
+
     private void cargarPersonal() {
-        contenido.getChildren().clear();
-        try {
+        CargaAsincrona.cargar(tabla, () -> {
             PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
             ParticipacionDAO parDAO          = new ParticipacionDAO();
 
@@ -90,56 +95,39 @@ public class DirPersonal extends VBox {
                     .filter(p -> p.getIdProyecto() == proyecto.getIdProyecto())
                     .collect(Collectors.toList());
 
-            if (personales.isEmpty()) {
-                contenido.getChildren().add(EstiloUI.labelSmall("  No hay personal registrado en este proyecto."));
-                return;
-            }
+            List<FilaPersonal> filas = new ArrayList<>();
+            if (personales.isEmpty()) return filas;
 
+            Map<String, List<Participacion>> participacionesPorCedula =
+                    parDAO.obtenerPorProyecto(proyecto.getIdProyecto());
             for (PersonalDeInvestigacion p : personales) {
-                List<Participacion> participaciones = parDAO.obtenerPorPersonal(p.getCedula());
-                Participacion partActual = participaciones.isEmpty() ? null : participaciones.get(0);
-                contenido.getChildren().add(crearFila(p, partActual));
+                List<Participacion> participaciones = participacionesPorCedula.getOrDefault(p.getCedula(), List.of());
+                filas.add(new FilaPersonal(p, participaciones.isEmpty() ? null : participaciones.get(0)));
             }
-        } catch (SQLException e) {
-            contenido.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+            return filas;
+        }, tabla::mostrar);
+    }
+
+    private String estadoDe(FilaPersonal f) {
+        return f.actual() != null ? f.actual().getEstado().name() : "—";
     }
 
     /**
-     * Fila de personal.  Req 5: agrega botón "Finalizar" junto a "Retiro" cuando la
+     * Acciones de la fila.  Req 5: agrega botón "Finalizar" junto a "Retiro" cuando la
      * participación está ACTIVA.
      */
-    private HBox crearFila(PersonalDeInvestigacion p, Participacion part) {
-        HBox fila = new HBox();
-        fila.setAlignment(Pos.CENTER_LEFT);
-        fila.setPadding(new Insets(9, 0, 9, 0));
-        fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-        Label nombres   = EstiloUI.labelBody(p.getNombres());    nombres.setMinWidth(140); nombres.setPrefWidth(140);
-        Label apellidos = EstiloUI.labelBody(p.getApellidos());  apellidos.setMinWidth(140); apellidos.setPrefWidth(140);
-        Label tipo      = EstiloUI.labelBody(p.getTipo());       tipo.setMinWidth(90);      tipo.setPrefWidth(90);
-        Label cedula    = EstiloUI.labelBody(p.getCedula());     cedula.setMinWidth(120);   cedula.setPrefWidth(120);
-        Label correo    = EstiloUI.labelBody(p.getCorreo() != null ? p.getCorreo() : "—"); correo.setMinWidth(170); correo.setPrefWidth(170);
-
-        String estadoStr = (part != null) ? part.getEstado().name() : "—";
-        Label estado = EstiloUI.badgeEstadoParticipacion(estadoStr);
-        estado.setMinWidth(110);
-
-        HBox acciones = new HBox(6);
-        if (part != null && part.getEstado() == EstadoParticipacion.ACTIVO) {
-            // Botón Retiro (original)
-            Button btnRetiro = EstiloUI.botonSmall("Retiro", EstiloUI.C_RED);
-            btnRetiro.setOnAction(e -> registrarRetiro(part, p));
-            acciones.getChildren().add(btnRetiro);
-
-            // Botón Finalizar (Req 5)
-            Button btnFinalizar = EstiloUI.botonSmall("Finalizar", EstiloUI.C_DARK);
-            btnFinalizar.setOnAction(e -> finalizarParticipacion(part, p));
-            acciones.getChildren().add(btnFinalizar);
-        }
+    private List<Button> crearAcciones(PersonalDeInvestigacion p, Participacion part) {
+        if (part == null || part.getEstado() != EstadoParticipacion.ACTIVO) return List.of();
 
-        fila.getChildren().addAll(nombres, apellidos, tipo, cedula, correo, estado, acciones);
-        return fila;
+        // Botón Retiro (original)
+        Button btnRetiro = EstiloUI.botonSmall("Retiro", EstiloUI.C_RED);
+        btnRetiro.setOnAction(e -> registrarRetiro(part, p));
+
+        // Botón Finalizar (Req 5)
+        Button btnFinalizar = EstiloUI.botonSmall("Finalizar", EstiloUI.C_DARK);
+        btnFinalizar.setOnAction(e -> finalizarParticipacion(part, p));
+
+        return List.of(btnRetiro, btnFinalizar);
     }
 
     // ─── REGISTRAR RETIRO (sin cambios) ──────────────────────────────────
@@ -153,13 +141,10 @@ public class DirPersonal extends VBox {
                 EstiloUI.alertaError("Validación", "El motivo es obligatorio.").showAndWait();
                 return;
             }
-            try {
-                part.registrarRetiro(motivo.trim());
+            CargaAsincrona.ejecutar(this, () -> part.registrarRetiro(motivo.trim()), () -> {
                 EstiloUI.alertaInfo("Éxito", "Retiro registrado para " + p.getNombresCompletos()).showAndWait();
                 construir();
-            } catch (Exception e) {
-                EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-            }
+            });
         });
     }
 
@@ -175,19 +160,14 @@ public class DirPersonal extends VBox {
 
         confirma.showAndWait().ifPresent(btn -> {
             if (btn == javafx.scene.control.ButtonType.OK) {
-                try {
-                    part.setFechaFin(LocalDate.now());
-                    part.setEstado(EstadoParticipacion.FINALIZADO);
-
-                    ParticipacionDAO parDAO = new ParticipacionDAO();
-                    parDAO.actualizar(part);
+                part.setFechaFin(LocalDate.now());
+                part.setEstado(EstadoParticipacion.FINALIZADO);
 
+                CargaAsincrona.ejecutar(this, () -> new ParticipacionDAO().actualizar(part), () -> {
                     EstiloUI.alertaInfo("Éxito",
                             "Participación de " + p.getNombresCompletos() + " finalizada.").showAndWait();
                     construir();   // refrescar tabla
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-                }
+                });
             }
         });
     }
@@ -204,95 +184,102 @@ public class DirPersonal extends VBox {
             return;
         }
 
-        try {
-            // ── Calcular activos por tipo ──
-            PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
-            ParticipacionDAO parDAO          = new ParticipacionDAO();
+        // ── Calcular activos por tipo ──
+        CargaAsincrona.consultar(this, this::contarActivosPorTipo, this::abrirFormularioAgregar);
+    }
 
-            List<PersonalDeInvestigacion> personales = piDAO.obtenerTodos().stream()
-                    .filter(p -> p.getIdProyecto() == proyecto.getIdProyecto())
-                    .collect(Collectors.toList());
+    /** Personal con participación ACTIVA, por tipo: [asistentes, ayudantes, técnicos]. */
+    private int[] contarActivosPorTipo() throws SQLException {
+        PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
+        ParticipacionDAO parDAO          = new ParticipacionDAO();
 
-            int activosAsistentes = 0, activosAyudantes = 0, activosTecnicos = 0;
+        List<PersonalDeInvestigacion> personales = piDAO.obtenerTodos().stream()
+                .filter(p -> p.getIdProyecto() == proyecto.getIdProyecto())
+                .collect(Collectors.toList());
 
-            for (PersonalDeInvestigacion p : personales) {
-                List<Participacion> parts = parDAO.obtenerPorPersonal(p.getCedula());
-                boolean esActivo = parts.stream().anyMatch(pa -> pa.getEstado() == EstadoParticipacion.ACTIVO);
-                if (!esActivo) continue;   // retirados / finalizados no ocupan slot
+        int[] activos = new int[3];
+        Map<String, List<Participacion>> participacionesPorCedula =
+                parDAO.obtenerPorProyecto(proyecto.getIdProyecto());
 
-                if ("Asistente".equalsIgnoreCase(p.getTipo()))      activosAsistentes++;
-                else if ("Ayudante".equalsIgnoreCase(p.getTipo()))  activosAyudantes++;
-                else if ("Tecnico".equalsIgnoreCase(p.getTipo()))   activosTecnicos++;
-            }
+        for (PersonalDeInvestigacion p : personales) {
+            List<Participacion> parts = participacionesPorCedula.getOrDefault(p.getCedula(), List.of());
+            boolean esActivo = parts.stream().anyMatch(pa -> pa.getEstado() == EstadoParticipacion.ACTIVO);
+            if (!esActivo) continue;   // retirados / finalizados no ocupan slot
 
-            int planAsist  = proyecto.getNumAsistentesPlanificados();
-            int planAyud   = proyecto.getNumAyudantesPlanificados();
-            int planTecn   = proyecto.getNumTecnicosPlanificados();
-
-            // ── Tipos disponibles ──
-            ComboBox<String> cboTipo = new ComboBox<>();
-            if (activosAsistentes < planAsist) cboTipo.getItems().add("Asistente");
-            if (activosAyudantes  < planAyud)  cboTipo.getItems().add("Ayudante");
-            if (activosTecnicos   < planTecn)  cboTipo.getItems().add("Tecnico");
-
-            if (cboTipo.getItems().isEmpty()) {
-                EstiloUI.alertaError("Capacidad llena",
-                        "Todos los tipos de personal han alcanzado su capacidad planificada.\n" +
-                                "Asistentes: " + activosAsistentes + "/" + planAsist +
-                                " | Ayudantes: " + activosAyudantes + "/" + planAyud +
-                                " | Técnicos: " + activosTecnicos  + "/" + planTecn).showAndWait();
-                return;
-            }
-            cboTipo.setValue(cboTipo.getItems().get(0));
-            cboTipo.setPrefHeight(36);
+            if ("Asistente".equalsIgnoreCase(p.getTipo()))      activos[0]++;
+            else if ("Ayudante".equalsIgnoreCase(p.getTipo()))  activos[1]++;
+            else if ("Tecnico".equalsIgnoreCase(p.getTipo()))   activos[2]++;
+        }
+        return activos;
+    }
+
+    private void abrirFormularioAgregar(int[] activos) {
+        int activosAsistentes = activos[0], activosAyudantes = activos[1], activosTecnicos = activos[2];
 
-            // ── Construir formulario ──
-            VBox form = new VBox(14);
-            form.setPadding(new Insets(10));
-            form.setMinWidth(500);
+        int planAsist  = proyecto.getNumAsistentesPlanificados();
+        int planAyud   = proyecto.getNumAyudantesPlanificados();
+        int planTecn   = proyecto.getNumTecnicosPlanificados();
 
-            // Indicador de capacidad
-            Label capacidad = EstiloUI.labelSmall(
-                    "Capacidad disponible →  " +
+        // ── Tipos disponibles ──
+        ComboBox<String> cboTipo = new ComboBox<>();
+        if (activosAsistentes < planAsist) cboTipo.getItems().add("Asistente");
+        if (activosAyudantes  < planAyud)  cboTipo.getItems().add("Ayudante");
+        if (activosTecnicos   < planTecn)  cboTipo.getItems().add("Tecnico");
+
+        if (cboTipo.getItems().isEmpty()) {
+            EstiloUI.alertaError("Capacidad llena",
+                    "Todos los tipos de personal han alcanzado su capacidad planificada.\n" +
                             "Asistentes: " + activosAsistentes + "/" + planAsist +
                             " | Ayudantes: " + activosAyudantes + "/" + planAyud +
-                            " | Técnicos: " + activosTecnicos  + "/" + planTecn);
-            capacidad.setStyle(capacidad.getStyle() + "-fx-font-weight: 600;");
-
-            TextField txtNombres   = EstiloUI.crearTextField("Nombres");
-            TextField txtApellidos = EstiloUI.crearTextField("Apellidos");
-            TextField txtCedula    = EstiloUI.crearTextField("Cédula (10 dígitos)");
-            TextField txtCorreo    = EstiloUI.crearTextField("Correo electrónico");
-            DatePicker dpInicio    = new DatePicker(LocalDate.now());
-            dpInicio.setPrefWidth(240);
-
-            form.getChildren().addAll(
-                    capacidad,
-                    wrapLabel("Nombres:", txtNombres),
-                    wrapLabel("Apellidos:", txtApellidos),
-                    wrapLabel("Cédula:", txtCedula),
-                    wrapLabel("Correo:", txtCorreo),
-                    wrapLabel("Tipo:", cboTipo),
-                    wrapLabel("Fecha inicio participación:", dpInicio)
-            );
-
-            Alert dialog = new Alert(Alert.AlertType.CONFIRMATION);
-            dialog.setTitle("Agregar Personal");
-            dialog.setHeaderText("Nuevo personal de investigación – Proyecto: " + proyecto.getNombre());
-            dialog.getDialogPane().setContent(form);
-            dialog.getDialogPane().setMinWidth(540);
-            dialog.getDialogPane().getButtonTypes().clear();
-            dialog.getDialogPane().getButtonTypes().addAll(new ButtonType("Guardar"), ButtonType.CANCEL);
-
-            dialog.showAndWait().ifPresent(btn -> {
-                if (btn.getText().equals("Guardar")) {
-                    agregarPersonal(txtNombres, txtApellidos, txtCedula, txtCorreo, cboTipo, dpInicio);
-                }
-            });
-
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
+                            " | Técnicos: " + activosTecnicos  + "/" + planTecn).showAndWait();
+            return;
         }
+        cboTipo.setValue(cboTipo.getItems().get(0));
+        cboTipo.setPrefHeight(36);
+
+        // ── Construir formulario ──
+        VBox form = new VBox(14);
+        form.setPadding(new Insets(10));
+        form.setMinWidth(500);
+
+        // Indicador de capacidad
+        Label capacidad = EstiloUI.labelSmall(
+                "Capacidad disponible →  " +
+                        "Asistentes: " + activosAsistentes + "/" + planAsist +
+                        " | Ayudantes: " + activosAyudantes + "/" + planAyud +
+                        " | Técnicos: " + activosTecnicos  + "/" + planTecn);
+        capacidad.setStyle(capacidad.getStyle() + "-fx-font-weight: 600;");
+
+        TextField txtNombres   = EstiloUI.crearTextField("Nombres");
+        TextField txtApellidos = EstiloUI.crearTextField("Apellidos");
+        TextField txtCedula    = EstiloUI.crearTextField("Cédula (10 dígitos)");
+        TextField txtCorreo    = EstiloUI.crearTextField("Correo electrónico");
+        DatePicker dpInicio    = new DatePicker(LocalDate.now());
+        dpInicio.setPrefWidth(240);
+
+        form.getChildren().addAll(
+                capacidad,
+                wrapLabel("Nombres:", txtNombres),
+                wrapLabel("Apellidos:", txtApellidos),
+                wrapLabel("Cédula:", txtCedula),
+                wrapLabel("Correo:", txtCorreo),
+                wrapLabel("Tipo:", cboTipo),
+                wrapLabel("Fecha inicio participación:", dpInicio)
+        );
+
+        Alert dialog = new Alert(Alert.AlertType.CONFIRMATION);
+        dialog.setTitle("Agregar Personal");
+        dialog.setHeaderText("Nuevo personal de investigación – Proyecto: " + proyecto.getNombre());
+        dialog.getDialogPane().setContent(form);
+        dialog.getDialogPane().setMinWidth(540);
+        dialog.getDialogPane().getButtonTypes().clear();
+        dialog.getDialogPane().getButtonTypes().addAll(new ButtonType("Guardar"), ButtonType.CANCEL);
+
+        dialog.showAndWait().ifPresent(btn -> {
+            if (btn.getText().equals("Guardar")) {
+                agregarPersonal(txtNombres, txtApellidos, txtCedula, txtCorreo, cboTipo, dpInicio);
+            }
+        });
     }
 
     /**
@@ -310,9 +297,33 @@ public class DirPersonal extends VBox {
             return;
         }
 
-        try {
+        // ── Crear objeto personal según tipo ──
+        String tipoSel = tipo.getValue();
+        PersonalDeInvestigacion personal;
+        switch (tipoSel) {
+            case "Asistente": personal = new Logica.Entidades.Asistente(); break;
+            case "Tecnico":   personal = new Logica.Entidades.Tecnico();   break;
+            default:          personal = new Logica.Entidades.Ayudante();  break;
+        }
+
+        personal.setNombres(nombres.getText().trim());
+        personal.setApellidos(apellidos.getText().trim());
+        personal.setCedula(cedula.getText().trim());
+        personal.setCorreo(correo.getText().trim());
+
+        LocalDate fechaInicio = dpInicio.getValue() != null ? dpInicio.getValue() : LocalDate.now();
+
+        int planificado;
+        switch (tipoSel) {
+            case "Asistente": planificado = proyecto.getNumAsistentesPlanificados(); break;
+            case "Ayudante":  planificado = proyecto.getNumAyudantesPlanificados();  break;
+            case "Tecnico":   planificado = proyecto.getNumTecnicosPlanificados();   break;
+            default:          planificado = 0;
+        }
+
+        // Devuelve null si se registró, o el mensaje de capacidad llena
+        CargaAsincrona.ejecutar(this, () -> {
             // ── Re-verificar capacidad del tipo seleccionado ──
-            String tipoSel = tipo.getValue();
             PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
             ParticipacionDAO parDAO          = new ParticipacionDAO();
 
@@ -321,56 +332,35 @@ public class DirPersonal extends VBox {
                     .collect(Collectors.toList());
 
             int activosTipo = 0;
+            Map<String, List<Participacion>> participacionesPorCedula =
+                    parDAO.obtenerPorProyecto(proyecto.getIdProyecto());
             for (PersonalDeInvestigacion p : personales) {
                 if (!tipoSel.equalsIgnoreCase(p.getTipo())) continue;
-                List<Participacion> parts = parDAO.obtenerPorPersonal(p.getCedula());
+                List<Participacion> parts = participacionesPorCedula.getOrDefault(p.getCedula(), List.of());
                 if (parts.stream().anyMatch(pa -> pa.getEstado() == EstadoParticipacion.ACTIVO)) {
                     activosTipo++;
                 }
             }
 
-            int planificado;
-            switch (tipoSel) {
-                case "Asistente": planificado = proyecto.getNumAsistentesPlanificados(); break;
-                case "Ayudante":  planificado = proyecto.getNumAyudantesPlanificados();  break;
-                case "Tecnico":   planificado = proyecto.getNumTecnicosPlanificados();   break;
-                default:          planificado = 0;
-            }
-
             if (activosTipo >= planificado) {
-                EstiloUI.alertaError("Capacidad llena",
-                        "Ya se alcanzó el máximo de " + tipoSel.toLowerCase() + "s activos (" +
-                                activosTipo + "/" + planificado + ").").showAndWait();
-                return;
+                return "Ya se alcanzó el máximo de " + tipoSel.toLowerCase() + "s activos (" +
+                        activosTipo + "/" + planificado + ").";
             }
 
-            // ── Crear objeto personal según tipo ──
-            PersonalDeInvestigacion personal;
-            switch (tipoSel) {
-                case "Asistente": personal = new Logica.Entidades.Asistente(); break;
-                case "Tecnico":   personal = new Logica.Entidades.Tecnico();   break;
-                default:          personal = new Logica.Entidades.Ayudante();  break;
-            }
-
-            personal.setNombres(nombres.getText().trim());
-            personal.setApellidos(apellidos.getText().trim());
-            personal.setCedula(cedula.getText().trim());
-            personal.setCorreo(correo.getText().trim());
-
-            LocalDate fechaInicio = dpInicio.getValue() != null ? dpInicio.getValue() : LocalDate.now();
-
             director.registrarPersonalDeInvestigacion(personal, proyecto.getIdProyecto(), fechaInicio);
-
+            return null;
+        }, capacidadLlena -> {
+            if (capacidadLlena != null) {
+                EstiloUI.alertaError("Capacidad llena", capacidadLlena).showAndWait();
+                return;
+            }
             EstiloUI.alertaInfo("Éxito",
                     "Personal registrado exitosamente.\n" +
                             "Se ha creado un usuario con contraseña temporal.\n" +
                             "El personal debe cambiarla en su primer inicio de sesión.").showAndWait();
 
             construir();   // refrescar
-
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-        }
+        });
     }
 
     private HBox wrapLabel(String label, Control control) {
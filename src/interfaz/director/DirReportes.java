@@ -5,34 +5,45 @@ import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
+import Logica.Conexiones.GestorTransacciones;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
 
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Módulo de Reportes para el Director.
  *  – Lista reportes del proyecto con estado y fechas
  *  – "Nuevo Reporte" crea un reporte EN_EDICION para el periodo actual
- *  – Seleccionar reporte EN_EDICION permite agregar / quitar participaciones activas
+ *  – Seleccionar reporte EN_EDICION permite agregar / quitar participaciones activas;
+ *    los cambios se arman en pantalla y se guardan juntos con "Guardar"
  *  – "Enviar" cierra el reporte y lo envía a Jefatura
  *
  * Restricción de dominio: máximo 2 reportes por periodo académico por proyecto.
  * No se puede crear un nuevo reporte mientras existe uno EN_EDICION.
  */
-public class DirReportes extends VBox {
+public class DirReportes extends VBox implements VistaRecargable {
 
     private final Director  director;
     private final Proyecto  proyecto;
 
     // Estado de edición
     private Reporte          reporteSeleccionado;
+    private Map<Integer, Participacion> seleccionEnEdicion;   // participaciones del panel, aún sin guardar
     private VBox             panelDetalle;       // se reemplace al seleccionar reporte
-    private VBox             contenidoTabla;     // filas de la lista superior
+    private TablaVirtual<FilaReporte> tabla;     // lista superior
 
     public DirReportes(Director director, Proyecto proyecto) {
         super(18);
@@ -43,6 +54,11 @@ public class DirReportes extends VBox {
         construir();
     }
 
+    @Override
+    public void recargar() {
+        if (proyecto != null) cargarReportes();
+    }
+
     // ─── CONSTRUCCIÓN INICIAL ──────────────────────────────────────────────
     private void construir() {
         getChildren().clear();
@@ -65,23 +81,16 @@ public class DirReportes extends VBox {
 
         // ── Tabla de reportes ────────────────────────────────────────────
         VBox tarjeta = EstiloUI.tarjeta();
-
-        // Encabezado tabla
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols   = {"#", "Periodo", "Estado", "Fecha Inicio", "Fecha Cierre", "Participaciones", "Acciones"};
-        double[]  widths = {40, 130,        100,      130,             130,            120,               140};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]); lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().add(tableHeader);
-
-        contenidoTabla = new VBox(0);
-        tarjeta.getChildren().add(contenidoTabla);
+        tabla = new TablaVirtual<>("No hay reportes aún.");
+        tabla.columna("#", 40, f -> String.valueOf(f.numero()), FilaReporte::numero)
+             .columna("Periodo", 130, f -> f.reporte().getPeriodoAcademico())
+             .columnaNodo("Estado", 100, this::crearBadgeEstado, f -> f.reporte().getEstado())
+             .columna("Fecha Inicio", 130, f -> texto(f.reporte().getFechaInicio()), f -> f.reporte().getFechaInicio())
+             .columna("Fecha Cierre", 130, f -> texto(f.reporte().getFechaCierre()), f -> f.reporte().getFechaCierre())
+             .columna("Participaciones", 120, f -> String.valueOf(f.reporte().getParticipacionesIncluidas().size()),
+                     f -> f.reporte().getParticipacionesIncluidas().size())
+             .columnaAcciones("Acciones", 160, f -> crearAcciones(f.reporte()));
+        tarjeta.getChildren().add(tabla);
         getChildren().add(tarjeta);
 
         // Panel de detalle (aparece al seleccionar un reporte EN_EDICION)
@@ -93,73 +102,58 @@ public class DirReportes extends VBox {
 
     // ─── CARGA DE DATOS ─────────────────────────────────────────────────────
     private void cargarReportes() {
-        contenidoTabla.getChildren().clear();
         panelDetalle.getChildren().clear();
         reporteSeleccionado = null;
+        seleccionEnEdicion = null;
 
-        try {
+        CargaAsincrona.cargar(tabla, () -> {
+            // Reportes y luego las participaciones de todos en una consulta; los
+            // periodos se leen una vez (de CachePeriodos) y se buscan en memoria.
             ReporteDAO rDAO = new ReporteDAO();
             List<Reporte> reportes = rDAO.obtenerPorProyecto(proyecto.getIdProyecto());
-
-            if (reportes.isEmpty()) {
-                contenidoTabla.getChildren().add(EstiloUI.labelSmall("  No hay reportes aún."));
-                return;
+            rDAO.cargarParticipacionesDeReportes(reportes);
+            Map<String, PeriodoAcademico> periodos = new HashMap<>();
+            for (PeriodoAcademico p : new PeriodoAcademicoDAO().obtenerTodos()) {
+                periodos.put(p.getCodigo(), p);
             }
 
-            PeriodoAcademicoDAO paDAO = new PeriodoAcademicoDAO();
-
+            List<FilaReporte> filas = new ArrayList<>();
             int idx = 1;
             for (Reporte r : reportes) {
-                rDAO.cargarParticipacionesDelReporte(r);
-
                 // Determinar número dentro del periodo
                 PeriodoAcademico pa = (r.getPeriodoAcademico() != null)
-                        ? paDAO.obtenerPorCodigo(r.getPeriodoAcademico()) : null;
+                        ? periodos.get(r.getPeriodoAcademico()) : null;
                 int numReporte = (pa != null) ? r.getNumeroReporte(pa) : idx;
 
-                contenidoTabla.getChildren().add(
-                        crearFilaReporte(r, numReporte, pa));
+                filas.add(new FilaReporte(r, numReporte, pa));
                 idx++;
             }
-        } catch (SQLException e) {
-            contenidoTabla.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+            return filas;
+        }, tabla::mostrar);
     }
 
-    // ─── FILA DE REPORTE ────────────────────────────────────────────────────
-    private HBox crearFilaReporte(Reporte r, int numero, PeriodoAcademico pa) {
-        HBox fila = new HBox();
-        fila.setAlignment(Pos.CENTER_LEFT);
-        fila.setPadding(new Insets(9, 0, 9, 0));
-        fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-        Label lblNum     = txt(String.valueOf(numero),                                      40);
-        Label lblPeriodo = txt(r.getPeriodoAcademico() != null ? r.getPeriodoAcademico() : "—", 130);
-        Label lblEstado  = EstiloUI.badgeEstadoReporte(r.getEstado().name());
-        lblEstado.setMinWidth(100);
-        Label lblInicio  = txt(r.getFechaInicio()  != null ? r.getFechaInicio().toString()  : "—", 130);
-        Label lblCierre  = txt(r.getFechaCierre()  != null ? r.getFechaCierre().toString()  : "—", 130);
-        Label lblParts   = txt(String.valueOf(r.getParticipacionesIncluidas().size()),        120);
+    private record FilaReporte(Reporte reporte, int numero, PeriodoAcademico periodo) {}
 
+    // ─── CELDAS DE LA TABLA ─────────────────────────────────────────────────
+    private Label crearBadgeEstado(FilaReporte f) {
+        Label lblEstado = EstiloUI.badgeEstadoReporte(f.reporte().getEstado().name());
         // Verificar si está atrasado
-        if (pa != null && r.estaAtrasado(pa)) {
+        if (f.periodo() != null && f.reporte().estaAtrasado(f.periodo())) {
             lblEstado.setStyle(lblEstado.getStyle() + " -fx-border-color: " + EstiloUI.C_RED + "; -fx-border-width: 1;");
         }
+        return lblEstado;
+    }
 
-        // Acciones
-        HBox acciones = new HBox(6);
-        if (r.getEstado() == EstadoReporte.EN_EDICION) {
-            Button btnEditar = EstiloUI.botonSmall("Editar", EstiloUI.C_MEDIUM);
-            btnEditar.setOnAction(e -> mostrarDetalle(r));
-            acciones.getChildren().add(btnEditar);
+    private List<Button> crearAcciones(Reporte r) {
+        if (r.getEstado() != EstadoReporte.EN_EDICION) return List.of();
 
-            Button btnEnviar = EstiloUI.botonSmall("Enviar", EstiloUI.C_DARK);
-            btnEnviar.setOnAction(e -> enviarReporte(r));
-            acciones.getChildren().add(btnEnviar);
-        }
+        Button btnEditar = EstiloUI.botonSmall("Editar", EstiloUI.C_MEDIUM);
+        btnEditar.setOnAction(e -> mostrarDetalle(r));
 
-        fila.getChildren().addAll(lblNum, lblPeriodo, lblEstado, lblInicio, lblCierre, lblParts, acciones);
-        return fila;
+        Button btnEnviar = EstiloUI.botonSmall("Enviar", EstiloUI.C_DARK);
+        btnEnviar.setOnAction(e -> enviarReporte(r));
+
+        return List.of(btnEditar, btnEnviar);
     }
 
     // ─── PANEL DE DETALLE (agregar/quitar participaciones) ─────────────────
@@ -167,192 +161,209 @@ public class DirReportes extends VBox {
         reporteSeleccionado = r;
         panelDetalle.getChildren().clear();
 
+        CargaAsincrona.cargar(panelDetalle, () -> {
+            new ReporteDAO().cargarParticipacionesDelReporte(r);
+            return new ParticipacionDAO().obtenerActivasPorProyecto(proyecto.getIdProyecto());
+        }, activasProyecto -> mostrarDetalle(r, activasProyecto));
+    }
+
+    private void mostrarDetalle(Reporte r, List<Participacion> activasProyecto) {
+        // Selección local: agregar y quitar no tocan la base hasta "Guardar"
+        Map<Integer, Participacion> seleccion = new LinkedHashMap<>();
+        r.getParticipacionesIncluidas().forEach(p -> seleccion.put(p.getIdParticipacion(), p));
+        seleccionEnEdicion = seleccion;
+        pintarDetalle(r, activasProyecto, seleccion);
+    }
+
+    private void pintarDetalle(Reporte r, List<Participacion> activasProyecto, Map<Integer, Participacion> seleccion) {
+        panelDetalle.getChildren().clear();
+
         VBox card = EstiloUI.tarjeta();
         card.getChildren().add(EstiloUI.labelSubtitulo(
                 "Editar Reporte – Periodo: " + (r.getPeriodoAcademico() != null ? r.getPeriodoAcademico() : "—")));
 
-        try {
-            ReporteDAO rDAO = new ReporteDAO();
-            rDAO.cargarParticipacionesDelReporte(r);
-
-            ParticipacionDAO parDAO = new ParticipacionDAO();
-            List<Participacion> activasProyecto = parDAO.obtenerActivasPorProyecto(proyecto.getIdProyecto());
-
-            // ── Participaciones ya incluidas ──
-            card.getChildren().add(EstiloUI.labelSeccion("Participaciones incluidas en el reporte"));
-
-            if (r.getParticipacionesIncluidas().isEmpty()) {
-                card.getChildren().add(EstiloUI.labelSmall("  (ninguna aún – agrega desde la lista inferior)"));
-            } else {
-                for (Participacion p : r.getParticipacionesIncluidas()) {
-                    HBox fila = new HBox(12);
-                    fila.setAlignment(Pos.CENTER_LEFT);
-                    fila.setPadding(new Insets(5, 0, 5, 0));
-
-                    String nombre = (p.getPersonal() != null) ? p.getPersonal().getNombresCompletos() : "ID " + p.getIdParticipacion();
-                    fila.getChildren().add(EstiloUI.labelBody(nombre));
-                    fila.getChildren().add(EstiloUI.badgeEstadoParticipacion(p.getEstado().name()));
-
-                    Button btnQuitar = EstiloUI.botonSmall("Quitar", EstiloUI.C_RED);
-                    btnQuitar.setOnAction(e -> {
-                        try {
-                            rDAO.quitarParticipacion(r.getIdReporte(), p.getIdParticipacion());
-                            r.getParticipacionesIncluidas().remove(p);
-                            mostrarDetalle(r); // refrescar
-                        } catch (SQLException ex) {
-                            EstiloUI.alertaError("Error", ex.getMessage()).showAndWait();
-                        }
-                    });
-                    fila.getChildren().add(btnQuitar);
-                    card.getChildren().add(fila);
-                }
+        Runnable repintar = () -> pintarDetalle(r, activasProyecto, seleccion);
+
+        // ── Participaciones incluidas ──
+        card.getChildren().add(EstiloUI.labelSeccion("Participaciones incluidas en el reporte"));
+
+        if (seleccion.isEmpty()) {
+            card.getChildren().add(EstiloUI.labelSmall("  (ninguna aún – agrega desde la lista inferior)"));
+        } else {
+            for (Participacion p : seleccion.values()) {
+                Button btnQuitar = EstiloUI.botonSmall("Quitar", EstiloUI.C_RED);
+                btnQuitar.setOnAction(e -> {
+                    seleccion.remove(p.getIdParticipacion());
+                    repintar.run();
+                });
+                card.getChildren().add(crearFilaParticipacion(p, btnQuitar));
             }
+        }
 
-            // ── Participaciones disponibles para agregar ──
-            List<Integer> yaIncluidos = r.getParticipacionesIncluidas().stream()
-                    .map(Participacion::getIdParticipacion)
-                    .collect(Collectors.toList());
-
-            List<Participacion> disponibles = activasProyecto.stream()
-                    .filter(p -> !yaIncluidos.contains(p.getIdParticipacion()))
-                    .collect(Collectors.toList());
-
-            card.getChildren().add(EstiloUI.labelSeccion("Participaciones activas disponibles"));
-
-            if (disponibles.isEmpty()) {
-                card.getChildren().add(EstiloUI.labelSmall("  Todas las participaciones activas ya están incluidas."));
-            } else {
-                for (Participacion p : disponibles) {
-                    HBox fila = new HBox(12);
-                    fila.setAlignment(Pos.CENTER_LEFT);
-                    fila.setPadding(new Insets(5, 0, 5, 0));
-
-                    String nombre = (p.getPersonal() != null) ? p.getPersonal().getNombresCompletos() : "ID " + p.getIdParticipacion();
-                    fila.getChildren().add(EstiloUI.labelBody(nombre));
-                    fila.getChildren().add(EstiloUI.badgeEstadoParticipacion(p.getEstado().name()));
-
-                    Button btnAgregar = EstiloUI.botonSmall("+ Agregar", EstiloUI.C_MEDIUM);
-                    btnAgregar.setOnAction(e -> {
-                        try {
-                            rDAO.agregarParticipacion(r.getIdReporte(), p.getIdParticipacion());
-                            r.agregarParticipacion(p);
-                            mostrarDetalle(r); // refrescar
-                        } catch (SQLException ex) {
-                            EstiloUI.alertaError("Error", ex.getMessage()).showAndWait();
-                        }
-                    });
-                    fila.getChildren().add(btnAgregar);
-                    card.getChildren().add(fila);
-                }
+        // ── Participaciones disponibles para agregar ──
+        List<Participacion> disponibles = activasProyecto.stream()
+                .filter(p -> !seleccion.containsKey(p.getIdParticipacion()))
+                .collect(Collectors.toList());
+
+        card.getChildren().add(EstiloUI.labelSeccion("Participaciones activas disponibles"));
+
+        if (disponibles.isEmpty()) {
+            card.getChildren().add(EstiloUI.labelSmall("  Todas las participaciones activas ya están incluidas."));
+        } else {
+            for (Participacion p : disponibles) {
+                Button btnAgregar = EstiloUI.botonSmall("+ Agregar", EstiloUI.C_MEDIUM);
+                btnAgregar.setOnAction(e -> {
+                    seleccion.put(p.getIdParticipacion(), p);
+                    repintar.run();
+                });
+                card.getChildren().add(crearFilaParticipacion(p, btnAgregar));
             }
-
-        } catch (SQLException e) {
-            card.getChildren().add(EstiloUI.labelSmall("Error: " + e.getMessage()));
         }
 
-        // Botón cerrar panel
+        // ── Acciones: guardar la selección de una vez o descartarla ──
+        boolean hayCambios = hayCambiosSinGuardar(r);
+
+        Button btnGuardar = EstiloUI.botonPrimario("Guardar");
+        btnGuardar.setDisable(!hayCambios);
+        btnGuardar.setOnAction(e -> CargaAsincrona.ejecutar(btnGuardar,
+                () -> new ReporteDAO().setParticipaciones(r.getIdReporte(), new HashSet<>(seleccion.keySet())),
+                () -> {
+                    r.setParticipacionesIncluidas(new ArrayList<>(seleccion.values()));
+                    tabla.getTabla().refresh();
+                    repintar.run();
+                }));
+
         Button btnCerrar = EstiloUI.botonSecundario("Cerrar");
         btnCerrar.setOnAction(e -> {
             panelDetalle.getChildren().clear();
             reporteSeleccionado = null;
+            seleccionEnEdicion = null;
         });
-        card.getChildren().add(btnCerrar);
+
+        HBox acciones = new HBox(10, btnGuardar, btnCerrar);
+        acciones.setAlignment(Pos.CENTER_LEFT);
+        if (hayCambios) {
+            acciones.getChildren().add(EstiloUI.labelSmall("Hay cambios sin guardar."));
+        }
+        card.getChildren().add(acciones);
 
         panelDetalle.getChildren().add(card);
     }
 
+    /** true si el panel de {@code r} tiene participaciones agregadas o quitadas sin guardar. */
+    private boolean hayCambiosSinGuardar(Reporte r) {
+        return r == reporteSeleccionado && seleccionEnEdicion != null
+                && !seleccionEnEdicion.keySet().equals(r.getParticipacionesIncluidas().stream()
+                        .map(Participacion::getIdParticipacion)
+                        .collect(Collectors.toSet()));
+    }
+
+    private HBox crearFilaParticipacion(Participacion p, Button accion) {
+        HBox fila = new HBox(12);
+        fila.setAlignment(Pos.CENTER_LEFT);
+        fila.setPadding(new Insets(5, 0, 5, 0));
+
+        String nombre = (p.getPersonal() != null) ? p.getPersonal().getNombresCompletos() : "ID " + p.getIdParticipacion();
+        fila.getChildren().addAll(EstiloUI.labelBody(nombre),
+                EstiloUI.badgeEstadoParticipacion(p.getEstado().name()), accion);
+        return fila;
+    }
+
     // ─── CREAR NUEVO REPORTE ────────────────────────────────────────────────
     private void crearNuevoReporte() {
-        try {
+        CargaAsincrona.consultar(this, () -> {
             // ── Validación: no puede haber un reporte EN_EDICION activo ──
             ReporteDAO rDAO = new ReporteDAO();
             List<Reporte> reportesActuales = rDAO.obtenerPorProyecto(proyecto.getIdProyecto());
             boolean tieneDraft = reportesActuales.stream()
                     .anyMatch(r -> r.getEstado() == EstadoReporte.EN_EDICION);
 
-            if (tieneDraft) {
-                EstiloUI.alertaError("No se puede crear reporte",
-                                "Ya existe un reporte en edición. Debe enviarlo o eliminarlo antes de crear uno nuevo.")
-                        .showAndWait();
-                return;
-            }
-
-            // ── Selector de periodo académico ──
-            PeriodoAcademicoDAO paDAO = new PeriodoAcademicoDAO();
-            List<PeriodoAcademico> periodos = paDAO.obtenerTodos();
+            // null indica que ya hay un borrador
+            return tieneDraft ? null : new PeriodoAcademicoDAO().obtenerTodos();
+        }, this::abrirFormularioNuevo);
+    }
 
-            if (periodos.isEmpty()) {
-                EstiloUI.alertaError("Error", "No existen periodos académicos configurados.").showAndWait();
-                return;
-            }
+    private void abrirFormularioNuevo(List<PeriodoAcademico> periodos) {
+        if (periodos == null) {
+            EstiloUI.alertaError("No se puede crear reporte",
+                            "Ya existe un reporte en edición. Debe enviarlo o eliminarlo antes de crear uno nuevo.")
+                    .showAndWait();
+            return;
+        }
 
-            // ComboBox de periodos
-            ComboBox<String> cboPeriodo = new ComboBox<>();
-            for (PeriodoAcademico pa : periodos) {
-                cboPeriodo.getItems().add(pa.getCodigo());
-            }
-            cboPeriodo.setValue(periodos.get(0).getCodigo());
-            cboPeriodo.setPrefWidth(240);
-
-            VBox form = new VBox(12);
-            form.setPadding(new Insets(10));
-            form.getChildren().addAll(
-                    EstiloUI.labelSmall("Seleccione el periodo académico:"),
-                    cboPeriodo
-            );
-
-            Alert dialog = new Alert(Alert.AlertType.CONFIRMATION);
-            dialog.setTitle("Nuevo Reporte");
-            dialog.setHeaderText("Crear reporte – Proyecto: " + proyecto.getNombre());
-            dialog.getDialogPane().setContent(form);
-            dialog.getDialogPane().setMinWidth(400);
-            dialog.getDialogPane().getButtonTypes().clear();
-            ButtonType btnCrear = new ButtonType("Crear");
-            dialog.getDialogPane().getButtonTypes().addAll(btnCrear, ButtonType.CANCEL);
-
-            dialog.showAndWait().ifPresent(btn -> {
-                if (btn == btnCrear) {
-                    try {
-                        String periodo = cboPeriodo.getValue();
-                        int idReporte = director.iniciarReporte(periodo, proyecto.getIdProyecto());
-                        EstiloUI.alertaInfo("Éxito",
-                                "Reporte creado exitosamente (ID: " + idReporte + ").\n" +
-                                        "Puede agregar participaciones y enviarlo desde la lista.").showAndWait();
-                        cargarReportes(); // refrescar
-                    } catch (SQLException e) {
-                        EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-                    }
-                }
-            });
+        // ── Selector de periodo académico ──
+        if (periodos.isEmpty()) {
+            EstiloUI.alertaError("Error", "No existen periodos académicos configurados.").showAndWait();
+            return;
+        }
 
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
+        // ComboBox de periodos
+        ComboBox<String> cboPeriodo = new ComboBox<>();
+        for (PeriodoAcademico pa : periodos) {
+            cboPeriodo.getItems().add(pa.getCodigo());
         }
+        cboPeriodo.setValue(periodos.get(0).getCodigo());
+        cboPeriodo.setPrefWidth(240);
+
+        VBox form = new VBox(12);
+        form.setPadding(new Insets(10));
+        form.getChildren().addAll(
+                EstiloUI.labelSmall("Seleccione el periodo académico:"),
+                cboPeriodo
+        );
+
+        Alert dialog = new Alert(Alert.AlertType.CONFIRMATION);
+        dialog.setTitle("Nuevo Reporte");
+        dialog.setHeaderText("Crear reporte – Proyecto: " + proyecto.getNombre());
+        dialog.getDialogPane().setContent(form);
+        dialog.getDialogPane().setMinWidth(400);
+        dialog.getDialogPane().getButtonTypes().clear();
+        ButtonType btnCrear = new ButtonType("Crear");
+        dialog.getDialogPane().getButtonTypes().addAll(btnCrear, ButtonType.CANCEL);
+
+        dialog.showAndWait().ifPresent(btn -> {
+            if (btn == btnCrear) {
+                String periodo = cboPeriodo.getValue();
+                CargaAsincrona.ejecutar(this,
+                        () -> director.iniciarReporte(periodo, proyecto.getIdProyecto()),
+                        idReporte -> {
+                            EstiloUI.alertaInfo("Éxito",
+                                    "Reporte creado exitosamente (ID: " + idReporte + ").\n" +
+                                            "Puede agregar participaciones y enviarlo desde la lista.").showAndWait();
+                            cargarReportes(); // refrescar
+                        });
+            }
+        });
     }
 
     // ─── ENVIAR REPORTE ─────────────────────────────────────────────────────
     private void enviarReporte(Reporte r) {
+        // Si el panel tiene participaciones sin guardar, se guardan junto con el envío
+        Set<Integer> pendientes = hayCambiosSinGuardar(r) ? new HashSet<>(seleccionEnEdicion.keySet()) : null;
+
         Alert confirm = EstiloUI.alertaConfirmacion("Confirmar envío",
                 "¿Desea cerrar y enviar este reporte a Jefatura?\n" +
+                        (pendientes != null
+                                ? "Antes se guardarán los cambios de participaciones que aún no guardó.\n"
+                                : "") +
                         "Esta acción no puede deshacerse.");
         confirm.showAndWait().ifPresent(res -> {
             if (res == javafx.scene.control.ButtonType.OK) {
-                try {
+                CargaAsincrona.ejecutar(this, () -> GestorTransacciones.ejecutar(() -> {
+                    if (pendientes != null) {
+                        new ReporteDAO().setParticipaciones(r.getIdReporte(), pendientes);
+                    }
                     director.enviarReporte(r);
+                }), () -> {
                     EstiloUI.alertaInfo("Éxito", "Reporte enviado exitosamente a Jefatura.").showAndWait();
                     cargarReportes();
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-                }
+                });
             }
         });
     }
 
     // ─── UTILIDADES ─────────────────────────────────────────────────────────
-    private Label txt(String valor, double ancho) {
-        Label l = EstiloUI.labelBody(valor);
-        l.setMinWidth(ancho);
-        l.setPrefWidth(ancho);
-        return l;
+    private static String texto(Object valor) {
+        return valor != null ? valor.toString() : null;
     }
 }
\ No newline at end of file
@@ -3,10 +3,14 @@ package interfaz.director;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.*;
 
+import Logica.Conexiones.ConsultasParalelas;
 import Logica.Entidades.*;
 import interfaz.comun.BarraNavegacion;
+import interfaz.comun.CacheVistas;
+import interfaz.comun.CargaAsincrona;
 
-import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Layout raíz para el rol DIRECTOR.
@@ -18,6 +22,7 @@ public class PantallaPrincipalDirector extends VBox {
     private final Proyecto proyecto;
     private final BarraNavegacion barra;
     private final StackPane contenedorPrincipal;
+    private final CacheVistas vistas = new CacheVistas();
 
     public PantallaPrincipalDirector(Director director, Proyecto proyecto) {
         super();
@@ -27,6 +32,11 @@ public class PantallaPrincipalDirector extends VBox {
         setPrefHeight(750);
         setStyle("-fx-background-color: " + interfaz.comun.EstiloUI.C_OFF_WHITE + ";");
 
+        // Las consultas del dashboard (y las notificaciones) salen antes de armar la ventana
+        DirDashboard.Consultas precarga = proyecto != null
+                ? new DirDashboard.Consultas(new ConsultasParalelas("Inicio director"), director, proyecto)
+                : null;
+
         barra = new BarraNavegacion(
                 director.getNombres(),
                 director.getApellidos(),
@@ -47,24 +57,25 @@ public class PantallaPrincipalDirector extends VBox {
         contenedorPrincipal.getChildren().add(overlayNotif);
 
         // Tabs
-        barra.agregarTab("Dashboard", () -> mostrar(new DirDashboard(director, proyecto)));
-        barra.agregarTab("Personal",  () -> mostrar(new DirPersonal(director, proyecto)));
-        barra.agregarTab("Reportes",  () -> mostrar(new DirReportes(director, proyecto)));
-        barra.agregarTab("Informes",  () -> mostrar(new DirInformes(director, proyecto)));
+        barra.agregarTab("Dashboard", () -> mostrar("Dashboard", () -> new DirDashboard(director, proyecto)));
+        barra.agregarTab("Personal",  () -> mostrar("Personal", () -> new DirPersonal(director, proyecto)));
+        barra.agregarTab("Reportes",  () -> mostrar("Reportes", () -> new DirReportes(director, proyecto)));
+        barra.agregarTab("Informes",  () -> mostrar("Informes", () -> new DirInformes(director, proyecto)));
 
         getChildren().addAll(barra, contenedorPrincipal);
 
         // Cargar notificaciones
-        cargarNotificaciones();
+        cargarNotificaciones(precarga);
 
         // Mostrar dashboard
-        mostrar(new DirDashboard(director, proyecto));
+        mostrar("Dashboard", () -> new DirDashboard(director, proyecto, precarga));
     }
 
-    private void mostrar(Pane modulo) {
-        ScrollPane scrollPane = new ScrollPane(modulo);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setStyle("-fx-background-color: transparent; -fx-background: transparent;");
+    /**
+     * Las pestañas ya visitadas se reutilizan desde la caché de vistas.
+     */
+    private void mostrar(String clave, Supplier<Pane> fabrica) {
+        ScrollPane scrollPane = vistas.mostrar(clave, fabrica);
 
         if (!contenedorPrincipal.getChildren().isEmpty()) {
             contenedorPrincipal.getChildren().set(0, scrollPane);
@@ -73,12 +84,18 @@ public class PantallaPrincipalDirector extends VBox {
         barra.getPanelNotificaciones().setVisible(false);
     }
 
-    private void cargarNotificaciones() {
-        try {
-            director.cargarNotificaciones();
-            barra.setNotificaciones(director.getNotificaciones());
-        } catch (SQLException e) {
-            System.err.println("Error cargando notificaciones: " + e.getMessage());
+    private void cargarNotificaciones(DirDashboard.Consultas precarga) {
+        CargaAsincrona.Consulta<List<Notificacion>> consulta;
+        if (precarga != null) {
+            consulta = precarga::notificaciones;
+        } else {
+            consulta = () -> {
+                director.cargarNotificaciones();
+                return director.getNotificaciones();
+            };
         }
+        CargaAsincrona.enSegundoPlano(consulta,
+           recientes -> barra.setNotificaciones(director.getIdUsuario(), recientes),
+           e -> System.err.println("Error cargando notificaciones: " + e.getMessage()));
     }
 }
@@ -0,0 +1,111 @@
+package interfaz.jefatura;
+
+import Logica.Entidades.Participacion;
+import Logica.Entidades.PersonalDeInvestigacion;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Índice en memoria del personal para los filtros de JefPersonal. Se arma una vez
+ * por carga; cada filtro es un BitSet sobre la posición de la persona en la lista,
+ * así combinarlos es un AND de bits y no hace falta volver a la base.
+ *
+ *  – nombre: trigramas de nombres y apellidos (consultas de 3+ letras),
+ *  – tipo, proyecto y estado: un BitSet por valor; el estado marca a quien tenga
+ *    alguna participación con ese estado.
+ */
+final class IndicePersonal {
+
+    /** Persona del listado con el estado de su participación más reciente. */
+    record Fila(PersonalDeInvestigacion personal, String estadoParticipacion) {}
+
+    private static final int N = 3;
+
+    private final List<Fila> filas = new ArrayList<>();
+    private final List<String> nombres = new ArrayList<>();
+    private final List<String> apellidos = new ArrayList<>();
+    private final BitSet todas = new BitSet();
+
+    private final Map<String, BitSet> porTrigrama = new HashMap<>();
+    private final Map<String, BitSet> porTipo = new HashMap<>();
+    private final Map<String, BitSet> porEstado = new HashMap<>();
+    private final Map<Integer, BitSet> porProyecto = new HashMap<>();
+
+    /**
+     * @param participacionesPorCedula participaciones de cada persona, la más reciente primero
+     */
+    IndicePersonal(List<PersonalDeInvestigacion> personal,
+                   Map<String, List<Participacion>> participacionesPorCedula) {
+        for (PersonalDeInvestigacion p : personal) {
+            int i = filas.size();
+            List<Participacion> participaciones = participacionesPorCedula.getOrDefault(p.getCedula(), List.of());
+            String estadoActual = participaciones.isEmpty() ? "—" : participaciones.get(0).getEstado().name();
+
+            filas.add(new Fila(p, estadoActual));
+            nombres.add(normalizar(p.getNombres()));
+            apellidos.add(normalizar(p.getApellidos()));
+            todas.set(i);
+
+            indexarTrigramas(nombres.get(i), i);
+            indexarTrigramas(apellidos.get(i), i);
+            marcar(porTipo, normalizar(p.getTipo()), i);
+            marcar(porProyecto, p.getIdProyecto(), i);
+            for (Participacion par : participaciones) {
+                marcar(porEstado, par.getEstado().name(), i);
+            }
+        }
+    }
+
+    /**
+     * Personas que cumplen todos los filtros, en el orden de carga.
+     * @param buscar     texto en nombres o apellidos (vacío = sin filtro)
+     * @param tipo       null = todos
+     * @param estado     estado de participación (nombre del enum); null = todos
+     * @param idProyecto 0 o negativo = todos
+     */
+    List<Fila> filtrar(String buscar, String tipo, String estado, int idProyecto) {
+        BitSet resultado = (BitSet) todas.clone();
+        if (tipo != null) resultado.and(porTipo.getOrDefault(normalizar(tipo), new BitSet()));
+        if (estado != null) resultado.and(porEstado.getOrDefault(estado.toUpperCase(Locale.ROOT), new BitSet()));
+        if (idProyecto > 0) resultado.and(porProyecto.getOrDefault(idProyecto, new BitSet()));
+
+        String texto = normalizar(buscar);
+        if (texto.length() >= N) {
+            for (int i = 0; i + N <= texto.length() && !resultado.isEmpty(); i++) {
+                resultado.and(porTrigrama.getOrDefault(texto.substring(i, i + N), new BitSet()));
+            }
+        }
+
+        List<Fila> visibles = new ArrayList<>(resultado.cardinality());
+        for (int i = resultado.nextSetBit(0); i >= 0; i = resultado.nextSetBit(i + 1)) {
+            // Los trigramas solo descartan; la coincidencia se confirma sobre el texto
+            if (texto.isEmpty() || nombres.get(i).contains(texto) || apellidos.get(i).contains(texto)) {
+                visibles.add(filas.get(i));
+            }
+        }
+        return visibles;
+    }
+
+    int size() {
+        return filas.size();
+    }
+
+    private void indexarTrigramas(String texto, int fila) {
+        for (int i = 0; i + N <= texto.length(); i++) {
+            marcar(porTrigrama, texto.substring(i, i + N), fila);
+        }
+    }
+
+    private static <K> void marcar(Map<K, BitSet> indice, K clave, int fila) {
+        indice.computeIfAbsent(clave, k -> new BitSet()).set(fila);
+    }
+
+    private static String normalizar(String texto) {
+        return texto != null ? texto.trim().toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -5,12 +5,17 @@ import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
+import Logica.Conexiones.GestorTransacciones;
 import Logica.DAO.*;
 import Logica.Entidades.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -18,10 +23,10 @@ import java.util.List;
  *  – Sección superior: usuarios de Jefatura (sin cambios).
  *  – Sección inferior (Req 3): creación y listado de Periodos Académicos.
  */
-public class JefAdministracion extends VBox {
+public class JefAdministracion extends VBox implements VistaRecargable {
 
-    private VBox listaUsuarios;
-    private VBox listaPeriodos;   // Req 3
+    private final TablaVirtual<FilaJefatura> tablaUsuarios;
+    private final TablaVirtual<PeriodoAcademico> tablaPeriodos;   // Req 3
 
     public JefAdministracion() {
         super(20);
@@ -47,21 +52,14 @@ public class JefAdministracion extends VBox {
         VBox tarjeta = EstiloUI.tarjeta();
         tarjeta.getChildren().add(EstiloUI.labelSubtitulo("Usuarios de Jefatura"));
 
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols = {"Nombres", "Apellidos", "Cédula", "Correo", "Username"};
-        double[] widths = {160, 160, 120, 200, 180};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]); lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().add(tableHeader);
-
-        listaUsuarios = new VBox(0);
-        tarjeta.getChildren().add(listaUsuarios);
+        tablaUsuarios = new TablaVirtual<>("No hay usuarios de jefatura registrados.");
+        tablaUsuarios.setFilasVisibles(6);
+        tablaUsuarios.columna("Nombres", 160, f -> f.jefatura().getNombres())
+                     .columna("Apellidos", 160, f -> f.jefatura().getApellidos())
+                     .columna("Cédula", 120, f -> f.jefatura().getCedula())
+                     .columna("Correo", 200, f -> f.jefatura().getCorreo())
+                     .columna("Username", 180, FilaJefatura::username);
+        tarjeta.getChildren().add(tablaUsuarios);
         getChildren().add(tarjeta);
 
         cargarListado();
@@ -84,90 +82,48 @@ public class JefAdministracion extends VBox {
         VBox tarjetaPA = EstiloUI.tarjeta();
         tarjetaPA.getChildren().add(EstiloUI.labelSubtitulo("Listado de Periodos"));
 
-        HBox tableHeaderPA = new HBox();
-        tableHeaderPA.setPadding(new Insets(10, 0, 10, 0));
-        tableHeaderPA.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] colsPA  = {"Código", "Fecha Inicio", "Fecha Fin", "Fecha Mitad"};
-        double[] widthsPA = {100,      150,            150,         150};
-        for (int i = 0; i < colsPA.length; i++) {
-            Label lbl = new Label(colsPA[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widthsPA[i]); lbl.setPrefWidth(widthsPA[i]);
-            tableHeaderPA.getChildren().add(lbl);
-        }
-        tarjetaPA.getChildren().add(tableHeaderPA);
-
-        listaPeriodos = new VBox(0);
-        tarjetaPA.getChildren().add(listaPeriodos);
+        tablaPeriodos = new TablaVirtual<>("No hay periodos académicos registrados.");
+        tablaPeriodos.setFilasVisibles(6);
+        tablaPeriodos.columna("Código", 100, PeriodoAcademico::getCodigo)
+                     .columna("Fecha Inicio", 150, pa -> texto(pa.getFechaInicio()), PeriodoAcademico::getFechaInicio)
+                     .columna("Fecha Fin", 150, pa -> texto(pa.getFechaFin()), PeriodoAcademico::getFechaFin)
+                     .columna("Fecha Mitad", 150, pa -> texto(pa.getFechaMitad()), PeriodoAcademico::getFechaMitad);
+        tarjetaPA.getChildren().add(tablaPeriodos);
         getChildren().add(tarjetaPA);
 
         cargarListadoPeriodos();
     }
 
+    @Override
+    public void recargar() {
+        cargarListado();
+        cargarListadoPeriodos();
+    }
+
     // ─── CARGA USUARIOS ──────────────────────────────────────────────────
+    private record FilaJefatura(Jefatura jefatura, String username) {}
+
     private void cargarListado() {
-        listaUsuarios.getChildren().clear();
-        try {
+        CargaAsincrona.cargar(tablaUsuarios, () -> {
             JefaturaDAO jDAO = new JefaturaDAO();
             UsuarioDAO  uDAO = new UsuarioDAO();
-            List<Jefatura> jefaturas = jDAO.obtenerTodos();
-
-            for (Jefatura j : jefaturas) {
+            List<FilaJefatura> filas = new ArrayList<>();
+            for (Jefatura j : jDAO.obtenerTodos()) {
                 Usuario u = uDAO.obtenerPorId(j.getIdUsuario());
-                String username = (u != null) ? u.getUsername() : "—";
-
-                HBox fila = new HBox();
-                fila.setAlignment(Pos.CENTER_LEFT);
-                fila.setPadding(new Insets(9, 0, 9, 0));
-                fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-                Label nombres  = EstiloUI.labelBody(j.getNombres());   nombres.setMinWidth(160);  nombres.setPrefWidth(160);
-                Label apellidos = EstiloUI.labelBody(j.getApellidos()); apellidos.setMinWidth(160); apellidos.setPrefWidth(160);
-                Label cedula   = EstiloUI.labelBody(j.getCedula());     cedula.setMinWidth(120);   cedula.setPrefWidth(120);
-                Label correo   = EstiloUI.labelBody(j.getCorreo() != null ? j.getCorreo() : "—"); correo.setMinWidth(200); correo.setPrefWidth(200);
-                Label user     = EstiloUI.labelBody(username);          user.setMinWidth(180);     user.setPrefWidth(180);
-
-                fila.getChildren().addAll(nombres, apellidos, cedula, correo, user);
-                listaUsuarios.getChildren().add(fila);
-            }
-
-            if (listaUsuarios.getChildren().isEmpty()) {
-                listaUsuarios.getChildren().add(EstiloUI.labelSmall("  No hay usuarios de jefatura registrados."));
+                filas.add(new FilaJefatura(j, (u != null) ? u.getUsername() : "—"));
             }
-        } catch (SQLException e) {
-            listaUsuarios.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+            return filas;
+        }, tablaUsuarios::mostrar);
     }
 
     // ─── CARGA PERIODOS (Req 3) ──────────────────────────────────────────
     private void cargarListadoPeriodos() {
-        listaPeriodos.getChildren().clear();
-        try {
-            PeriodoAcademicoDAO paDAO = new PeriodoAcademicoDAO();
-            List<PeriodoAcademico> periodos = paDAO.obtenerTodos();
-
-            for (PeriodoAcademico pa : periodos) {
-                HBox fila = new HBox();
-                fila.setAlignment(Pos.CENTER_LEFT);
-                fila.setPadding(new Insets(9, 0, 9, 0));
-                fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-                Label codigo = EstiloUI.labelBody(pa.getCodigo());                        codigo.setMinWidth(100); codigo.setPrefWidth(100);
-                Label inicio = EstiloUI.labelBody(pa.getFechaInicio().toString());        inicio.setMinWidth(150); inicio.setPrefWidth(150);
-                Label fin    = EstiloUI.labelBody(pa.getFechaFin().toString());           fin.setMinWidth(150);    fin.setPrefWidth(150);
-                Label mitad  = EstiloUI.labelBody(pa.getFechaMitad() != null ? pa.getFechaMitad().toString() : "—");
-                mitad.setMinWidth(150); mitad.setPrefWidth(150);
-
-                fila.getChildren().addAll(codigo, inicio, fin, mitad);
-                listaPeriodos.getChildren().add(fila);
-            }
+        CargaAsincrona.cargar(tablaPeriodos, () -> new PeriodoAcademicoDAO().obtenerTodos(),
+                tablaPeriodos::mostrar);
+    }
 
-            if (listaPeriodos.getChildren().isEmpty()) {
-                listaPeriodos.getChildren().add(EstiloUI.labelSmall("  No hay periodos académicos registrados."));
-            }
-        } catch (SQLException e) {
-            listaPeriodos.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+    private static String texto(Object valor) {
+        return valor != null ? valor.toString() : null;
     }
 
     // ═══════════════════════════════════════════════════════════════════════
@@ -222,37 +178,38 @@ public class JefAdministracion extends VBox {
             return;
         }
 
-        try {
+        String txtNombres   = nombres.getText().trim();
+        String txtApellidos = apellidos.getText().trim();
+        String txtCedula    = cedula.getText().trim();
+        String txtCorreo    = correo.getText().trim();
+        String txtUsername  = username.getText().trim();
+        String contrasenaDefecto = UsuarioDAO.generarContrasenaDefecto(txtCedula);
+
+        CargaAsincrona.ejecutar(this, () -> {
             UsuarioDAO uDAO  = new UsuarioDAO();
             JefaturaDAO jDAO = new JefaturaDAO();
 
-            String contrasenaDefecto = UsuarioDAO.generarContrasenaDefecto(cedula.getText().trim());
-            Usuario usuario = new Usuario(username.getText().trim(), contrasenaDefecto, "JEFATURA");
-            int idUsuario = uDAO.guardar(usuario);
+            // Usuario y jefatura se crean juntos o no se crea ninguno
+            GestorTransacciones.ejecutar(() -> {
+                Usuario usuario = new Usuario(txtUsername, contrasenaDefecto, "JEFATURA");
+                int idUsuario = uDAO.guardar(usuario);
 
-            if (idUsuario == -1) {
-                EstiloUI.alertaError("Error", "No se pudo crear el usuario.").showAndWait();
-                return;
-            }
-
-            Jefatura nueva = new Jefatura(
-                    nombres.getText().trim(),
-                    apellidos.getText().trim(),
-                    correo.getText().trim(),
-                    cedula.getText().trim()
-            );
-            nueva.setIdUsuario(idUsuario);
-            jDAO.guardar(nueva);
+                if (idUsuario == -1) {
+                    throw new SQLException("No se pudo crear el usuario.");
+                }
 
+                Jefatura nueva = new Jefatura(txtNombres, txtApellidos, txtCorreo, txtCedula);
+                nueva.setIdUsuario(idUsuario);
+                jDAO.guardar(nueva);
+            });
+        }, () -> {
             EstiloUI.alertaInfo("Éxito",
                     "Usuario de jefatura creado.\n" +
-                            "Username: " + username.getText().trim() + "\n" +
+                            "Username: " + txtUsername + "\n" +
                             "Contraseña temporal: " + contrasenaDefecto).showAndWait();
 
             cargarListado();
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-        }
+        });
     }
 
     // ═══════════════════════════════════════════════════════════════════════
@@ -334,30 +291,29 @@ public class JefAdministracion extends VBox {
             return;
         }
 
-        try {
+        PeriodoAcademico nuevo = new PeriodoAcademico();
+        nuevo.setCodigo(codigo);
+        nuevo.setFechaInicio(inicio);
+        nuevo.setFechaFin(fin);
+        nuevo.setFechaMitad(mitad);   // null si no se indicó
+
+        CargaAsincrona.ejecutar(this, () -> {
             // ── Verificar código duplicado ──
             PeriodoAcademicoDAO paDAO = new PeriodoAcademicoDAO();
-            PeriodoAcademico existente = paDAO.obtenerPorCodigo(codigo);
-            if (existente != null) {
+            if (paDAO.obtenerPorCodigo(codigo) != null) {
+                return false;
+            }
+            // ── Persistir ──
+            paDAO.guardar(nuevo);
+            return true;
+        }, creado -> {
+            if (!creado) {
                 EstiloUI.alertaError("Validación", "Ya existe un periodo académico con el código: " + codigo).showAndWait();
                 return;
             }
-
-            // ── Crear y persistir ──
-            PeriodoAcademico nuevo = new PeriodoAcademico();
-            nuevo.setCodigo(codigo);
-            nuevo.setFechaInicio(inicio);
-            nuevo.setFechaFin(fin);
-            nuevo.setFechaMitad(mitad);   // null si no se indicó
-
-            paDAO.guardar(nuevo);
             EstiloUI.alertaInfo("Éxito", "Periodo académico \"" + codigo + "\" creado exitosamente.").showAndWait();
-
             cargarListadoPeriodos();   // refrescar listado
-
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-        }
+        });
     }
 
     // ─── Utilidad ────────────────────────────────────────────────────────
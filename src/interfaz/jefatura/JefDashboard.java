@@ -5,91 +5,142 @@ import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
+import Logica.Conexiones.ConsultasParalelas;
+import Logica.Conexiones.ConsultasParalelas.Pendiente;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.VistaRecargable;
 
 import java.sql.SQLException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Dashboard principal de Jefatura – solo lectura.
  * Las acciones de aprobar / rechazar se encuentran en JefProyectos y JefReportes.
  */
-public class JefDashboard extends VBox {
+public class JefDashboard extends VBox implements VistaRecargable {
 
     private final Jefatura jefatura;
 
+    /** Consultas ya lanzadas para la primera carga (null si no hay). */
+    private Consultas precarga;
+
     public JefDashboard(Jefatura jefatura) {
+        this(jefatura, null);
+    }
+
+    JefDashboard(Jefatura jefatura, Consultas precarga) {
         super(20);
         this.jefatura = jefatura;
+        this.precarga = precarga;
         setPadding(new Insets(24));
         setStyle("-fx-background-color: " + EstiloUI.C_OFF_WHITE + ";");
         cargar();
     }
 
+    @Override
+    public void recargar() {
+        cargar();
+    }
+
+    /** Cuántos pendientes de cada tipo se listan; el total va en las tarjetas. */
+    private static final int LIMITE_PENDIENTES = 10;
+
+    /** Datos del dashboard, consultados fuera del hilo de JavaFX. */
+    private record Datos(MetricasJefatura metricas, List<Proyecto> proyectosEnRevision,
+                         List<ResumenReporte> reportesPendientes) {}
+
+    /**
+     * Consultas del dashboard, lanzadas en paralelo al crearse.
+     * PantallaPrincipalJefatura las crea antes de armar la ventana.
+     */
+    static final class Consultas {
+        private final ConsultasParalelas grupo;
+        private final Pendiente<MetricasJefatura>    metricas;
+        private final Pendiente<List<Proyecto>>      proyectosEnRevision;
+        private final Pendiente<List<ResumenReporte>> reportesPendientes;
+
+        Consultas(ConsultasParalelas grupo) {
+            MetricasDashboardDAO dao = new MetricasDashboardDAO();
+            this.grupo = grupo;
+            metricas            = grupo.lanzar(dao::obtenerMetricasJefatura);
+            proyectosEnRevision = grupo.lanzar(() -> dao.obtenerProyectosEnRevision(LIMITE_PENDIENTES));
+            reportesPendientes  = grupo.lanzar(() -> dao.obtenerReportesPendientes(LIMITE_PENDIENTES));
+        }
+
+        private Datos datos() throws SQLException {
+            grupo.esperar();
+            return new Datos(metricas.obtener(), proyectosEnRevision.obtener(), reportesPendientes.obtener());
+        }
+    }
+
     private void cargar() {
         getChildren().clear();
+        getChildren().add(EstiloUI.labelTitulo("Dashboard"));
+
+        // Solo la primera carga usa la precarga; las siguientes consultan de nuevo
+        Consultas lanzadas = precarga;
+        precarga = null;
+        CargaAsincrona.cargar(this, () -> {
+            Consultas consultas = lanzadas != null ? lanzadas
+                    : new Consultas(new ConsultasParalelas("Dashboard jefatura"));
+            return consultas.datos();
+        }, this::mostrar);
+    }
 
-        try {
-            ProyectoDAO pDAO = new ProyectoDAO();
-            ReporteDAO  rDAO = new ReporteDAO();
-            List<Proyecto> proyectos = pDAO.obtenerTodos();
-            List<Reporte>  reportes  = rDAO.obtenerTodos();
-
-            long activos      = proyectos.stream().filter(p -> p.getEstado() == EstadoProyecto.APROBADO).count();
-            long enRevision   = proyectos.stream().filter(p -> p.getEstado() == EstadoProyecto.EN_REVISION).count();
-            long reportesPend = reportes.stream().filter(r -> r.getEstado() == EstadoReporte.CERRADO).count();
-
-            getChildren().add(EstiloUI.labelTitulo("Dashboard"));
-
-            HBox tarjetas = new HBox(16);
-            tarjetas.setAlignment(Pos.CENTER_LEFT);
-            tarjetas.getChildren().addAll(
-                    EstiloUI.tarjetaStat("Proyectos Activos",   String.valueOf(activos),     "Aprobados"),
-                    EstiloUI.tarjetaStat("En Revisión",         String.valueOf(enRevision),  "Pendientes"),
-                    EstiloUI.tarjetaStat("Reportes Pendientes", String.valueOf(reportesPend),"Esperando aprobación"),
-                    EstiloUI.tarjetaStat("Total Proyectos",     String.valueOf(proyectos.size()), "Registrados")
-            );
-            getChildren().add(tarjetas);
-            getChildren().add(EstiloUI.separador());
-
-            // ── Proyectos EN_REVISION (informativo) ──────────────
-            List<Proyecto> enRevisionList = proyectos.stream()
-                    .filter(p -> p.getEstado() == EstadoProyecto.EN_REVISION)
-                    .collect(Collectors.toList());
-
-            VBox seccion1 = EstiloUI.tarjeta();
-            seccion1.getChildren().add(EstiloUI.labelSubtitulo("Proyectos en Revisión"));
-            if (enRevisionList.isEmpty()) {
-                seccion1.getChildren().add(EstiloUI.labelSmall("No hay proyectos pendientes de revisión."));
-            } else {
-                for (Proyecto p : enRevisionList) {
-                    seccion1.getChildren().add(crearFilaProyectoRevision(p));
-                }
+    private void mostrar(Datos datos) {
+        MetricasJefatura metricas = datos.metricas();
+
+        HBox tarjetas = new HBox(16);
+        tarjetas.setAlignment(Pos.CENTER_LEFT);
+        tarjetas.getChildren().addAll(
+                EstiloUI.tarjetaStat("Proyectos Activos",   String.valueOf(metricas.getProyectosAprobados()),  "Aprobados"),
+                EstiloUI.tarjetaStat("En Revisión",         String.valueOf(metricas.getProyectosEnRevision()), "Pendientes"),
+                EstiloUI.tarjetaStat("Reportes Pendientes", String.valueOf(metricas.getReportesPendientes()),  "Esperando aprobación"),
+                EstiloUI.tarjetaStat("Total Proyectos",     String.valueOf(metricas.getTotalProyectos()),      "Registrados")
+        );
+        getChildren().add(tarjetas);
+        getChildren().add(EstiloUI.separador());
+
+        // ── Proyectos EN_REVISION (informativo) ──────────────
+        List<Proyecto> enRevisionList = datos.proyectosEnRevision();
+
+        VBox seccion1 = EstiloUI.tarjeta();
+        seccion1.getChildren().add(EstiloUI.labelSubtitulo("Proyectos en Revisión"));
+        if (enRevisionList.isEmpty()) {
+            seccion1.getChildren().add(EstiloUI.labelSmall("No hay proyectos pendientes de revisión."));
+        } else {
+            for (Proyecto p : enRevisionList) {
+                seccion1.getChildren().add(crearFilaProyectoRevision(p));
             }
-            getChildren().add(seccion1);
-
-            // ── Reportes pendientes (informativo) ────────────────
-            List<Reporte> pendientes = reportes.stream()
-                    .filter(r -> r.getEstado() == EstadoReporte.CERRADO)
-                    .collect(Collectors.toList());
-
-            VBox seccion2 = EstiloUI.tarjeta();
-            seccion2.getChildren().add(EstiloUI.labelSubtitulo("Reportes Pendientes de Aprobación"));
-            if (pendientes.isEmpty()) {
-                seccion2.getChildren().add(EstiloUI.labelSmall("No hay reportes pendientes."));
-            } else {
-                for (Reporte r : pendientes) {
-                    seccion2.getChildren().add(crearFilaReportePendiente(r));
-                }
+            agregarRestantes(seccion1, metricas.getProyectosEnRevision() - enRevisionList.size(), "Proyectos");
+        }
+        getChildren().add(seccion1);
+
+        // ── Reportes pendientes (informativo) ────────────────
+        List<ResumenReporte> pendientes = datos.reportesPendientes();
+
+        VBox seccion2 = EstiloUI.tarjeta();
+        seccion2.getChildren().add(EstiloUI.labelSubtitulo("Reportes Pendientes de Aprobación"));
+        if (pendientes.isEmpty()) {
+            seccion2.getChildren().add(EstiloUI.labelSmall("No hay reportes pendientes."));
+        } else {
+            for (ResumenReporte r : pendientes) {
+                seccion2.getChildren().add(crearFilaReportePendiente(r));
             }
-            getChildren().add(seccion2);
+            agregarRestantes(seccion2, metricas.getReportesPendientes() - pendientes.size(), "Reportes");
+        }
+        getChildren().add(seccion2);
+    }
 
-        } catch (SQLException e) {
-            getChildren().add(EstiloUI.labelSmall("Error al cargar datos: " + e.getMessage()));
+    /** Aviso de cuántos pendientes no se listan y en qué pestaña verlos. */
+    private void agregarRestantes(VBox seccion, int restantes, String pestana) {
+        if (restantes > 0) {
+            seccion.getChildren().add(EstiloUI.labelSmall(
+                    "… y " + restantes + " más. Ver la pestaña " + pestana + "."));
         }
     }
 
@@ -117,7 +168,8 @@ public class JefDashboard extends VBox {
     }
 
     /** Fila reporte – solo info y badge. Sin botones. */
-    private HBox crearFilaReportePendiente(Reporte r) {
+    private HBox crearFilaReportePendiente(ResumenReporte resumen) {
+        Reporte r = resumen.getReporte();
         HBox fila = new HBox(16);
         fila.setAlignment(Pos.CENTER_LEFT);
         fila.setPadding(new Insets(10, 0, 10, 0));
@@ -126,7 +178,8 @@ public class JefDashboard extends VBox {
         VBox info = new VBox(2);
         info.setMinWidth(200);
         info.getChildren().add(EstiloUI.labelBody("Reporte #" + r.getIdReporte()));
-        info.getChildren().add(EstiloUI.labelSmall("Proyecto ID: " + r.getIdProyecto() + " | Periodo: " + r.getPeriodoAcademico()));
+        String proyecto = resumen.getNombreProyecto() != null ? resumen.getNombreProyecto() : "ID " + r.getIdProyecto();
+        info.getChildren().add(EstiloUI.labelSmall("Proyecto: " + proyecto + " | Periodo: " + r.getPeriodoAcademico()));
 
         Label badge = EstiloUI.badgeEstadoReporte(r.getEstado().name());
 
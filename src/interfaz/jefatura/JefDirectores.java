@@ -7,20 +7,32 @@ import javafx.scene.layout.*;
 
 import Logica.DAO.*;
 import Logica.Entidades.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
 
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
 
 /**
  * Módulo de Directores para Jefatura.
- * Muestra listado de directores registrados con sus proyectos asociados.
+ * Muestra en una tabla los directores registrados con sus proyectos asociados.
  * Incluye buscador por nombre.
  */
-public class JefDirectores extends VBox {
+public class JefDirectores extends VBox implements VistaRecargable {
 
     private final TextField txtBuscar;
-    private VBox listaContenido;
+    private final TablaVirtual<Director> tabla;
+
+    // Datos cargados una vez; el buscador filtra en memoria
+    private List<Director> directores = new ArrayList<>();
+    private Map<String, List<Proyecto>> proyectosPorDirector = new HashMap<>();
+
+    private record Datos(List<Director> directores, Map<String, List<Proyecto>> proyectosPorDirector) {}
 
     public JefDirectores() {
         super(18);
@@ -34,102 +46,78 @@ public class JefDirectores extends VBox {
 
         txtBuscar = EstiloUI.crearTextField("Buscar por nombre...");
         txtBuscar.setPrefWidth(280);
-        txtBuscar.setOnKeyReleased(e -> cargarDirectores(txtBuscar.getText().trim()));
+        txtBuscar.setOnKeyReleased(e -> mostrarDirectores(txtBuscar.getText().trim()));
 
         HBox.setHgrow(header.getChildren().get(0), Priority.ALWAYS);
         header.getChildren().add(txtBuscar);
         getChildren().add(header);
 
-        // ── Contenido ───────────────────────────────────────
-        listaContenido = new VBox(12);
-        getChildren().add(listaContenido);
+        // ── Tabla ───────────────────────────────────────────
+        VBox tarjeta = EstiloUI.tarjeta();
+        tabla = new TablaVirtual<>("No se encontraron directores.");
+        tabla.columna("Director", 220, Director::getNombresCompletos)
+             .columna("Cédula", 110, Director::getCedula)
+             .columna("Correo", 200, Director::getCorreo)
+             .columna("Proy.", 50, d -> String.valueOf(proyectosDe(d).size()), d -> proyectosDe(d).size())
+             .columna("Proyectos asociados", 320, this::textoProyectos);
+        tarjeta.getChildren().add(tabla);
+        VBox.setVgrow(tarjeta, Priority.ALWAYS);
+        getChildren().add(tarjeta);
+
+        cargarDirectores();
+    }
 
-        cargarDirectores("");
+    @Override
+    public void recargar() {
+        cargarDirectores();
     }
 
-    private void cargarDirectores(String filtro) {
-        listaContenido.getChildren().clear();
-        try {
+    private void cargarDirectores() {
+        CargaAsincrona.cargar(tabla, () -> {
             DirectorDAO dDAO  = new DirectorDAO();
             ProyectoDAO pDAO  = new ProyectoDAO();
-            List<Director> directores = dDAO.obtenerTodos();
-
-            for (Director d : directores) {
-                // Filtro
-                if (!filtro.isEmpty()) {
-                    String buscar = filtro.toLowerCase();
-                    if (!d.getNombres().toLowerCase().contains(buscar) &&
-                        !d.getApellidos().toLowerCase().contains(buscar)) {
-                        continue;
-                    }
+
+            // Todos los proyectos en una consulta, agrupados por director
+            Map<String, List<Proyecto>> porDirector = new HashMap<>();
+            for (Proyecto p : pDAO.obtenerTodos()) {
+                if (p.getDirector() != null) {
+                    porDirector.computeIfAbsent(p.getDirector().getCedula(), c -> new ArrayList<>()).add(p);
                 }
-                List<Proyecto> proyectosDir = pDAO.obtenerPorDirector(d.getCedula());
-                listaContenido.getChildren().add(crearTarjetaDirector(d, proyectosDir));
             }
+            return new Datos(dDAO.obtenerTodos(), porDirector);
+        }, datos -> {
+            directores = datos.directores();
+            proyectosPorDirector = datos.proyectosPorDirector();
+            mostrarDirectores(txtBuscar.getText().trim());
+        });
+    }
 
-            if (listaContenido.getChildren().isEmpty()) {
-                listaContenido.getChildren().add(EstiloUI.labelSmall("No se encontraron directores."));
+    private void mostrarDirectores(String filtro) {
+        String buscar = filtro.toLowerCase();
+        List<Director> visibles = new ArrayList<>();
+        for (Director d : directores) {
+            if (buscar.isEmpty() ||
+                d.getNombres().toLowerCase().contains(buscar) ||
+                d.getApellidos().toLowerCase().contains(buscar)) {
+                visibles.add(d);
             }
-
-        } catch (SQLException e) {
-            listaContenido.getChildren().add(EstiloUI.labelSmall("Error: " + e.getMessage()));
         }
+        tabla.mostrar(visibles);
     }
 
-    private VBox crearTarjetaDirector(Director d, List<Proyecto> proyectos) {
-        VBox tarjeta = EstiloUI.tarjeta();
+    private List<Proyecto> proyectosDe(Director d) {
+        return proyectosPorDirector.getOrDefault(d.getCedula(), List.of());
+    }
 
-        // ── Info director ──────────────────────────────────
-        HBox infoRow = new HBox(20);
-        infoRow.setAlignment(Pos.CENTER_LEFT);
-
-        // Avatar inicial
-        Label avatar = new Label(String.valueOf(d.getNombres().charAt(0)));
-        avatar.setStyle(
-                "-fx-background-color: " + EstiloUI.C_MEDIUM + ";" +
-                "-fx-text-fill: white;" +
-                "-fx-font-size: 18px;" +
-                "-fx-font-weight: bold;" +
-                "-fx-width: 42; -fx-height: 42;" +
-                "-fx-border-radius: 50;" +
-                "-fx-background-radius: 50;" +
-                "-fx-alignment: center;"
-        );
-
-        VBox info = new VBox(3);
-        info.getChildren().add(EstiloUI.labelSubtitulo(d.getNombresCompletos()));
-        info.getChildren().add(EstiloUI.labelSmall("Cédula: " + d.getCedula() +
-                (d.getCorreo() != null ? " | Correo: " + d.getCorreo() : "")));
-
-        infoRow.getChildren().addAll(avatar, info);
-        tarjeta.getChildren().add(infoRow);
-        tarjeta.getChildren().add(EstiloUI.separador());
-
-        // ── Proyectos asociados ────────────────────────────
-        Label lblProy = EstiloUI.labelSeccion("Proyectos asociados");
-        tarjeta.getChildren().add(lblProy);
-
-        if (proyectos.isEmpty()) {
-            tarjeta.getChildren().add(EstiloUI.labelSmall("  Sin proyectos asignados."));
-        } else {
-            for (Proyecto p : proyectos) {
-                HBox fila = new HBox(16);
-                fila.setAlignment(Pos.CENTER_LEFT);
-                fila.setPadding(new Insets(6, 8, 6, 8));
-                fila.setStyle("-fx-background-color: " + EstiloUI.C_OFF_WHITE + ";" +
-                        "-fx-border-radius: 4; -fx-background-radius: 4;");
-
-                Label nombre = EstiloUI.labelBody(p.getNombre());
-                nombre.setMinWidth(200);
-                Label codigo = EstiloUI.labelSmall(p.getCodigoProyecto() != null ? p.getCodigoProyecto() : "—");
-                codigo.setMinWidth(80);
-                Label estado = EstiloUI.badgeEstadoProyecto(p.getEstado().name());
-
-                fila.getChildren().addAll(nombre, codigo, estado);
-                tarjeta.getChildren().add(fila);
-            }
+    /** Nombre, código y estado de cada proyecto del director, en una línea. */
+    private String textoProyectos(Director d) {
+        List<Proyecto> proyectos = proyectosDe(d);
+        if (proyectos.isEmpty()) return "Sin proyectos asignados";
+        StringJoiner texto = new StringJoiner("; ");
+        for (Proyecto p : proyectos) {
+            texto.add(p.getNombre() + (p.getCodigoProyecto() != null ? " (" + p.getCodigoProyecto() + ")" : "") +
+                    " – " + p.getEstado().name());
         }
-
-        return tarjeta;
+        return texto.toString();
     }
 }
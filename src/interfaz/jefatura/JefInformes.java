@@ -8,9 +8,11 @@ import javafx.scene.layout.*;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.EstadoInforme;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
 
-import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -18,9 +20,10 @@ import java.util.List;
  * Listado de todos los informes del sistema con estado y personal asociado.
  * Permite visualizar el detalle (semanas) de cada informe.
  */
-public class JefInformes extends VBox {
+public class JefInformes extends VBox implements VistaRecargable {
 
-    private VBox contenido;
+    private final TablaVirtual<ResumenInforme> tabla;
+    private ComboBox<String> cboEstado;
 
     public JefInformes() {
         super(18);
@@ -32,7 +35,7 @@ public class JefInformes extends VBox {
         // Filtro por estado
         HBox filtros = new HBox(16);
         filtros.setAlignment(Pos.CENTER_LEFT);
-        ComboBox<String> cboEstado = new ComboBox<>();
+        cboEstado = new ComboBox<>();
         cboEstado.getItems().addAll("Todos", "EN_EDICION", "ENVIADO", "APROBADO", "RECHAZADO");
         cboEstado.setValue("Todos");
         cboEstado.setOnAction(e -> cargar(cboEstado.getValue()));
@@ -40,91 +43,50 @@ public class JefInformes extends VBox {
         filtros.getChildren().addAll(EstiloUI.labelSmall("Estado:"), cboEstado);
         getChildren().add(filtros);
 
-        // Tarjeta con listado
+        // Tarjeta con la tabla; las páginas se piden al desplazarse
         VBox tarjeta = EstiloUI.tarjeta();
-
-        // Header
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols = {"ID", "Personal", "Proyecto", "Fecha Reg.", "Estado", "Acciones"};
-        double[] widths = {60, 200, 160, 110, 110, 140};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]); lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().add(tableHeader);
-
-        contenido = new VBox(0);
-        tarjeta.getChildren().add(contenido);
+        tabla = new TablaVirtual<>("No hay informes disponibles.");
+        tabla.columna("ID", 60, inf -> String.valueOf(inf.getIdInforme()), ResumenInforme::getIdInforme)
+             .columna("Personal", 200, ResumenInforme::getNombreCompletoPersonal)
+             .columna("Proyecto", 160, inf -> inf.getNombreProyecto() != null ?
+                     inf.getNombreProyecto() : "Proy #" + inf.getIdProyecto())
+             .columna("Fecha Reg.", 110, inf -> inf.getFechaRegistro() != null ?
+                     inf.getFechaRegistro().toString() : null, ResumenInforme::getFechaRegistro)
+             .columnaNodo("Estado", 110, inf -> EstiloUI.badgeEstadoInforme(inf.getEstado().name()),
+                     ResumenInforme::getEstado)
+             .columnaAcciones("Acciones", 140, inf -> List.of(crearBotonVer(inf)));
+        tarjeta.getChildren().add(tabla);
+        VBox.setVgrow(tarjeta, Priority.ALWAYS);
         getChildren().add(tarjeta);
 
         cargar("Todos");
     }
 
-    private void cargar(String filtroEstado) {
-        contenido.getChildren().clear();
-        try {
-            InformeActividadesDAO iaDAO = new InformeActividadesDAO();
-            PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
-
-            // Obtener todos los personales y luego sus informes
-            List<PersonalDeInvestigacion> personales = piDAO.obtenerTodos();
-
-            for (PersonalDeInvestigacion p : personales) {
-                List<InformeActividades> informes = iaDAO.obtenerPorPersonal(p.getCedula());
-                for (InformeActividades inf : informes) {
-                    // Filtro
-                    if (!"Todos".equals(filtroEstado) && !inf.getEstado().name().equals(filtroEstado)) continue;
-
-                    contenido.getChildren().add(crearFila(inf));
-                }
-            }
-
-            if (contenido.getChildren().isEmpty()) {
-                contenido.getChildren().add(EstiloUI.labelSmall("  No hay informes disponibles."));
-            }
-
-        } catch (SQLException e) {
-            contenido.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+    @Override
+    public void recargar() {
+        cargar(cboEstado.getValue());
     }
 
-    private HBox crearFila(InformeActividades inf) {
-        HBox fila = new HBox();
-        fila.setAlignment(Pos.CENTER_LEFT);
-        fila.setPadding(new Insets(9, 0, 9, 0));
-        fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-        Label id = EstiloUI.labelBody(String.valueOf(inf.getIdInforme()));
-        id.setMinWidth(60); id.setPrefWidth(60);
-
-        String personNom = (inf.getPersonalDeInvestigacion() != null) ?
-                inf.getPersonalDeInvestigacion().getNombresCompletos() : "—";
-        Label personal = EstiloUI.labelBody(personNom);
-        personal.setMinWidth(200); personal.setPrefWidth(200);
-
-        String proyNom = (inf.getProyecto() != null) ? inf.getProyecto().getNombre() : "Proy #" +
-                (inf.getProyecto() != null ? inf.getProyecto().getIdProyecto() : "?");
-        Label proyecto = EstiloUI.labelBody(proyNom);
-        proyecto.setMinWidth(160); proyecto.setPrefWidth(160);
-
-        Label fecha = EstiloUI.labelBody(inf.getFechaRegistro() != null ? inf.getFechaRegistro().toString() : "—");
-        fecha.setMinWidth(110); fecha.setPrefWidth(110);
-
-        Label estado = EstiloUI.badgeEstadoInforme(inf.getEstado().name());
-        estado.setMinWidth(110);
+    private void cargar(String filtroEstado) {
+        EstadoInforme estado = "Todos".equals(filtroEstado) ? null : EstadoInforme.fromString(filtroEstado);
+        tabla.cargar((desplazamiento, ultima, limite) -> {
+            FiltroInformes filtro = new FiltroInformes();
+            filtro.setEstado(estado);
+            filtro.setLimite(limite);
+            filtro.setDesplazamiento(desplazamiento);
+            return new InformeActividadesDAO().obtenerResumenes(filtro);
+        });
+    }
 
-        // Acciones
-        HBox acciones = new HBox(6);
+    // El detalle (semanas) se carga recién al abrirlo
+    private Button crearBotonVer(ResumenInforme inf) {
         Button btnVer = EstiloUI.botonSmall("Ver", EstiloUI.C_DARK);
-        btnVer.setOnAction(e -> mostrarDetalleInforme(inf));
-        acciones.getChildren().add(btnVer);
-
-        fila.getChildren().addAll(id, personal, proyecto, fecha, estado, acciones);
-        return fila;
+        btnVer.setOnAction(e -> CargaAsincrona.consultar(btnVer,
+                () -> new InformeActividadesDAO().obtenerPorId(inf.getIdInforme()),
+                completo -> {
+                    if (completo != null) mostrarDetalleInforme(completo);
+                }));
+        return btnVer;
     }
 
     private void mostrarDetalleInforme(InformeActividades inf) {
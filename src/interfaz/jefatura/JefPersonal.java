@@ -1,15 +1,23 @@
 package interfaz.jefatura;
 
+import javafx.animation.PauseTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
+import javafx.util.Duration;
+
+import Logica.Conexiones.ConsultasParalelas;
+import Logica.Conexiones.ConsultasParalelas.Pendiente;
 
 import Logica.DAO.*;
 import Logica.Entidades.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
+import interfaz.jefatura.IndicePersonal.Fila;
 
-import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,14 +27,25 @@ import java.util.stream.Collectors;
  * Módulo de Personal de Investigación para Jefatura.
  * Listado global con filtros: proyecto, tipo (Asistente/Ayudante/Técnico), estado participación.
  * Información completa de cada personal + sus participaciones.
+ * Los datos se cargan una vez en un {@link IndicePersonal}; los filtros se aplican
+ * sobre él y solo "Recargar" (o una escritura en otra vista) vuelve a consultar.
  */
-public class JefPersonal extends VBox {
+public class JefPersonal extends VBox implements VistaRecargable {
 
     private final ComboBox<String> cboProyecto;
     private final ComboBox<String> cboTipo;
     private final ComboBox<String> cboEstado;
     private final TextField txtBuscar;
-    private VBox contenido;
+    private final TablaVirtual<Fila> tabla;
+    private final PauseTransition busquedaDiferida = new PauseTransition(Duration.millis(ESPERA_BUSQUEDA_MS));
+
+    // Datos de la última carga; los filtros trabajan sobre este índice
+    private IndicePersonal indice;
+
+    // Código de cada proyecto, para la columna "Proyecto"
+    private Map<Integer, String> codigosPorId = Map.of();
+
+    private static final int ESPERA_BUSQUEDA_MS = 200;
 
     public JefPersonal() {
         super(18);
@@ -46,17 +65,15 @@ public class JefPersonal extends VBox {
         // Buscador
         txtBuscar = EstiloUI.crearTextField("Buscar nombre...");
         txtBuscar.setPrefWidth(220);
-        txtBuscar.setOnKeyReleased(e -> aplicarFiltros());
+        // Se filtra cuando se deja de escribir, no en cada tecla
+        busquedaDiferida.setOnFinished(e -> aplicarFiltros());
+        txtBuscar.textProperty().addListener((obs, anterior, actual) -> busquedaDiferida.playFromStart());
 
         // Filtro proyecto
         cboProyecto = new ComboBox<>();
         cboProyecto.getItems().add("Todos los proyectos");
         cboProyecto.setValue("Todos los proyectos");
         cboProyecto.setPrefWidth(200);
-        try {
-            ProyectoDAO pDAO = new ProyectoDAO();
-            pDAO.obtenerTodos().forEach(p -> cboProyecto.getItems().add(p.getIdProyecto() + " – " + p.getNombre()));
-        } catch (SQLException ignored) {}
         cboProyecto.setOnAction(e -> aplicarFiltros());
 
         // Filtro tipo
@@ -73,121 +90,107 @@ public class JefPersonal extends VBox {
         cboEstado.setPrefWidth(150);
         cboEstado.setOnAction(e -> aplicarFiltros());
 
+        // Los filtros no consultan la base; los datos se releen solo aquí o tras una escritura
+        Button btnRecargar = EstiloUI.botonSecundario("Recargar");
+        btnRecargar.setOnAction(e -> cargarDatos());
+
+        Region espacio = new Region();
+        HBox.setHgrow(espacio, Priority.ALWAYS);
+
         filaFiltros.getChildren().addAll(
                 wrapFiltro("Buscar:", txtBuscar),
                 wrapFiltro("Proyecto:", cboProyecto),
                 wrapFiltro("Tipo:", cboTipo),
-                wrapFiltro("Estado:", cboEstado)
+                wrapFiltro("Estado:", cboEstado),
+                espacio, btnRecargar
         );
 
         filtros.getChildren().add(filaFiltros);
         getChildren().add(filtros);
 
-        // ── Contenido listado ───────────────────────────────
-        contenido = new VBox(0);
+        // ── Tabla ───────────────────────────────────────────
         VBox tarjeta = EstiloUI.tarjeta();
-
-        // Header tabla
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols = {"Nombres", "Apellidos", "Tipo", "Cédula", "Proyecto", "Participación"};
-        double[] widths = {150, 150, 100, 120, 180, 120};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]);
-            lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().addAll(tableHeader, contenido);
+        tabla = new TablaVirtual<>("No se encontró personal con los filtros aplicados.");
+        tabla.columna("Nombres", 150, f -> f.personal().getNombres())
+             .columna("Apellidos", 150, f -> f.personal().getApellidos())
+             .columna("Tipo", 100, f -> f.personal().getTipo())
+             .columna("Cédula", 120, f -> f.personal().getCedula())
+             .columna("Proyecto", 180, f -> codigosPorId.getOrDefault(f.personal().getIdProyecto(),
+                     "Proy #" + f.personal().getIdProyecto()))
+             .columnaNodo("Participación", 120, f -> EstiloUI.badgeEstadoParticipacion(f.estadoParticipacion()),
+                     Fila::estadoParticipacion);
+        tarjeta.getChildren().add(tabla);
+        VBox.setVgrow(tarjeta, Priority.ALWAYS);
         getChildren().add(tarjeta);
 
-        aplicarFiltros();
+        cargarDatos();
     }
 
-    private void aplicarFiltros() {
-        contenido.getChildren().clear();
-        try {
-            PersonalDeInvestigacionDAO piDAO = new PersonalDeInvestigacionDAO();
-            ParticipacionDAO parDAO          = new ParticipacionDAO();
-            ProyectoDAO pDAO                 = new ProyectoDAO();
-            List<PersonalDeInvestigacion> todos = piDAO.obtenerTodos();
+    @Override
+    public void recargar() {
+        cargarDatos();
+    }
 
+    private record Datos(IndicePersonal indice, List<Proyecto> proyectos) {}
+
+    /**
+     * Lee todo el personal, sus participaciones y los proyectos, y arma el índice
+     * sobre el que trabajan los filtros.
+     */
+    private void cargarDatos() {
+        CargaAsincrona.cargar(tabla, () -> {
+            ConsultasParalelas grupo = new ConsultasParalelas("Personal jefatura");
+            Pendiente<List<PersonalDeInvestigacion>> personal =
+                    grupo.lanzar(() -> new PersonalDeInvestigacionDAO().obtenerTodos());
+            Pendiente<List<Proyecto>> proyectos = grupo.lanzar(() -> new ProyectoDAO().obtenerTodos());
+            grupo.esperar();
+
+            List<PersonalDeInvestigacion> todos = personal.obtener();
+            // Participaciones de todo el personal en una sola consulta
+            Map<String, List<Participacion>> participacionesPorCedula = new ParticipacionDAO().obtenerPorCedulas(
+                    todos.stream().map(PersonalDeInvestigacion::getCedula).collect(Collectors.toList()));
+            return new Datos(new IndicePersonal(todos, participacionesPorCedula), proyectos.obtener());
+        }, datos -> {
             // Mapa id_proyecto → codigo_proyecto (una sola consulta para toda la tabla)
-            Map<Integer, String> codigosPorId = new HashMap<>();
-            for (Proyecto proy : pDAO.obtenerTodos()) {
-                codigosPorId.put(proy.getIdProyecto(),
+            Map<Integer, String> codigos = new HashMap<>();
+            for (Proyecto proy : datos.proyectos()) {
+                codigos.put(proy.getIdProyecto(),
                         proy.getCodigoProyecto() != null ? proy.getCodigoProyecto() : "Proy #" + proy.getIdProyecto());
             }
+            codigosPorId = codigos;
+            indice = datos.indice();
+            actualizarComboProyectos(datos.proyectos());
+            aplicarFiltros();
+        });
+    }
 
-            String buscar   = txtBuscar.getText().trim().toLowerCase();
-            String tipoSel  = cboTipo.getValue();
-            String estadoSel= cboEstado.getValue();
-            String proyectoSel = cboProyecto.getValue();
-
-            // Extraer ID del proyecto si no es "Todos"
-            int idProyectoFiltro = -1;
-            if (proyectoSel != null && !proyectoSel.equals("Todos los proyectos")) {
-                try {
-                    idProyectoFiltro = Integer.parseInt(proyectoSel.split(" – ")[0].trim());
-                } catch (Exception ignored) {}
-            }
-
-            for (PersonalDeInvestigacion p : todos) {
-                // Filtro nombre
-                if (!buscar.isEmpty() &&
-                        !p.getNombres().toLowerCase().contains(buscar) &&
-                        !p.getApellidos().toLowerCase().contains(buscar)) continue;
-
-                // Filtro tipo
-                if (!"Todos".equals(tipoSel) && !tipoSel.equalsIgnoreCase(p.getTipo())) continue;
-
-                // Filtro proyecto
-                if (idProyectoFiltro > 0 && p.getIdProyecto() != idProyectoFiltro) continue;
-
-                // Obtener participación
-                List<Participacion> participaciones = parDAO.obtenerPorPersonal(p.getCedula());
-
-                // Filtro estado participación
-                if (!"Todos".equals(estadoSel)) {
-                    boolean tiene = participaciones.stream()
-                            .anyMatch(par -> par.getEstado().name().equalsIgnoreCase(estadoSel));
-                    if (!tiene) continue;
-                }
-
-                // Estado de la participación más reciente
-                String estadoParticipacion = participaciones.isEmpty() ? "—" :
-                        participaciones.get(0).getEstado().name();
-
-                contenido.getChildren().add(crearFila(p, estadoParticipacion, codigosPorId));
-            }
-
-            if (contenido.getChildren().isEmpty()) {
-                contenido.getChildren().add(EstiloUI.labelSmall("  No se encontró personal con los filtros aplicados."));
-            }
-
-        } catch (SQLException e) {
-            contenido.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
+    /** Filtra el índice ya cargado; no consulta la base. */
+    private void aplicarFiltros() {
+        busquedaDiferida.stop();
+        if (indice == null) return;
+
+        String tipoSel     = cboTipo.getValue();
+        String estadoSel   = cboEstado.getValue();
+        String proyectoSel = cboProyecto.getValue();
+
+        // Extraer ID del proyecto si no es "Todos"
+        int idProyecto = -1;
+        if (proyectoSel != null && !proyectoSel.equals("Todos los proyectos")) {
+            try {
+                idProyecto = Integer.parseInt(proyectoSel.split(" – ")[0].trim());
+            } catch (Exception ignored) {}
         }
+
+        tabla.mostrar(indice.filtrar(txtBuscar.getText(),
+                "Todos".equals(tipoSel) ? null : tipoSel,
+                "Todos".equals(estadoSel) ? null : estadoSel,
+                idProyecto));
     }
 
-    private HBox crearFila(PersonalDeInvestigacion p, String estadoParticipacion, Map<Integer, String> codigosPorId) {
-        HBox fila = new HBox();
-        fila.setAlignment(Pos.CENTER_LEFT);
-        fila.setPadding(new Insets(9, 0, 9, 0));
-        fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-        Label nombres = EstiloUI.labelBody(p.getNombres());     nombres.setMinWidth(150); nombres.setPrefWidth(150);
-        Label apellidos = EstiloUI.labelBody(p.getApellidos()); apellidos.setMinWidth(150); apellidos.setPrefWidth(150);
-        Label tipo = EstiloUI.labelBody(p.getTipo());           tipo.setMinWidth(100);      tipo.setPrefWidth(100);
-        Label cedula = EstiloUI.labelBody(p.getCedula());       cedula.setMinWidth(120);    cedula.setPrefWidth(120);
-        Label proyecto = EstiloUI.labelBody(codigosPorId.getOrDefault(p.getIdProyecto(), "Proy #" + p.getIdProyecto()));
-        proyecto.setMinWidth(180); proyecto.setPrefWidth(180);
-        Label estado = EstiloUI.badgeEstadoParticipacion(estadoParticipacion); estado.setMinWidth(120);
-
-        fila.getChildren().addAll(nombres, apellidos, tipo, cedula, proyecto, estado);
-        return fila;
+    /** Llena el filtro de proyectos la primera vez que llegan los datos. */
+    private void actualizarComboProyectos(List<Proyecto> proyectos) {
+        if (cboProyecto.getItems().size() > 1) return;
+        proyectos.forEach(p -> cboProyecto.getItems().add(p.getIdProyecto() + " – " + p.getNombre()));
     }
 
     private HBox wrapFiltro(String label, Control control) {
@@ -4,24 +4,41 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
 
+import Logica.Conexiones.ConsultasParalelas;
+import Logica.Conexiones.ConsultasParalelas.Pendiente;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
-
-import java.sql.SQLException;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Módulo de Proyectos para Jefatura.
  * Cambio (Req 2): guardarProyecto() verifica que el director candidato no tenga
  *                 un proyecto con estado APROBADO antes de permitir la creación.
  */
-public class JefProyectos extends VBox {
+public class JefProyectos extends VBox implements VistaRecargable {
 
     private final Jefatura jefatura;
-    private VBox listaProyectos;
+    private TablaVirtual<Proyecto> tabla;
+
+    // Último listado cargado, con el resumen de seguimiento de cada proyecto
+    private List<Proyecto> proyectos = List.of();
+    private Map<Integer, ResumenSeguimiento> resumenes = Map.of();
 
     public JefProyectos(Jefatura jefatura) {
         super(18);
@@ -31,6 +48,11 @@ public class JefProyectos extends VBox {
         construir();
     }
 
+    @Override
+    public void recargar() {
+        cargarProyectos();
+    }
+
     private void construir() {
         getChildren().clear();
 
@@ -39,93 +61,81 @@ public class JefProyectos extends VBox {
         header.getChildren().add(EstiloUI.labelTitulo("Proyectos"));
         HBox.setHgrow(header.getChildren().get(0), Priority.ALWAYS);
 
+        Button btnExportar = EstiloUI.botonSecundario("Exportar CSV");
+        btnExportar.setOnAction(e -> exportarCsv());
+
         Button btnCrear = EstiloUI.botonPrimario("+ Nuevo Proyecto");
         btnCrear.setOnAction(e -> mostrarFormularioCrear());
-        header.getChildren().add(btnCrear);
+        header.getChildren().addAll(btnExportar, btnCrear);
         getChildren().add(header);
 
         // ── Listado ─────────────────────────────────────────────
         VBox tarjeta = EstiloUI.tarjeta();
-
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols = {"Proyecto", "Código", "Director", "Estado", "Tipo", "Acciones"};
-        double[] widths = {260, 100, 200, 110, 100, 200};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]);
-            lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().add(tableHeader);
-
-        listaProyectos = new VBox(0);
-        tarjeta.getChildren().add(listaProyectos);
+        tabla = new TablaVirtual<>("No hay proyectos registrados.");
+        tabla.columna("Proyecto", 260, Proyecto::getNombre)
+             .columna("Código", 100, p -> p.getCodigoProyecto() != null && !p.getCodigoProyecto().isEmpty()
+                     ? p.getCodigoProyecto() : null)
+             .columna("Director", 200, p -> p.getDirector() != null ? p.getDirector().getNombresCompletos() : "Candidato")
+             .columnaNodo("Estado", 110, p -> EstiloUI.badgeEstadoProyecto(p.getEstado().name()), Proyecto::getEstado)
+             .columna("Tipo", 100, Proyecto::getTipoProyecto)
+             .columnaNodo("Cumplimiento", 110, p -> crearCeldaCumplimiento(resumenes.get(p.getIdProyecto())),
+                     p -> resumenes.containsKey(p.getIdProyecto())
+                             ? resumenes.get(p.getIdProyecto()).isCumplePlanificacionGlobal() : null)
+             .columnaAcciones("Acciones", 200, this::crearAcciones);
+        tarjeta.getChildren().add(tabla);
+        VBox.setVgrow(tarjeta, Priority.ALWAYS);
         getChildren().add(tarjeta);
 
         cargarProyectos();
     }
 
-    private void cargarProyectos() {
-        listaProyectos.getChildren().clear();
-        try {
-            ProyectoDAO pDAO = new ProyectoDAO();
-            List<Proyecto> proyectos = pDAO.obtenerTodos();
+    /** Proyectos y sus resúmenes de seguimiento, consultados a la vez. */
+    private record Listado(List<Proyecto> proyectos, Map<Integer, ResumenSeguimiento> resumenes) {}
 
-            if (proyectos.isEmpty()) {
-                listaProyectos.getChildren().add(EstiloUI.labelSmall("  No hay proyectos registrados."));
-            }
-            for (Proyecto p : proyectos) {
-                listaProyectos.getChildren().add(crearFila(p));
-            }
-        } catch (SQLException e) {
-            listaProyectos.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+    private void cargarProyectos() {
+        CargaAsincrona.cargar(tabla, () -> {
+            ConsultasParalelas grupo = new ConsultasParalelas("Proyectos jefatura");
+            Pendiente<List<Proyecto>> lista = grupo.lanzar(() -> new ProyectoDAO().obtenerTodos());
+            Pendiente<Map<Integer, ResumenSeguimiento>> seguimiento =
+                    grupo.lanzar(() -> jefatura.generarResumenesSeguimiento(null, null));
+            grupo.esperar();
+            return new Listado(lista.obtener(), seguimiento.obtener());
+        }, listado -> {
+            proyectos = listado.proyectos();
+            resumenes = listado.resumenes();
+            tabla.mostrar(proyectos);
+        });
     }
 
-    private HBox crearFila(Proyecto p) {
-        HBox fila = new HBox();
-        fila.setAlignment(Pos.CENTER_LEFT);
-        fila.setPadding(new Insets(10, 0, 10, 0));
-        fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-        Label nombre = EstiloUI.labelBody(p.getNombre());
-        nombre.setMinWidth(260); nombre.setPrefWidth(260);
-
-        String codigoText = (p.getCodigoProyecto() != null && !p.getCodigoProyecto().isEmpty())
-                ? p.getCodigoProyecto() : "—";
-        Label codigo = EstiloUI.labelBody(codigoText);
-        codigo.setMinWidth(100); codigo.setPrefWidth(100);
-
-        String dirNom = (p.getDirector() != null) ? p.getDirector().getNombresCompletos() : "Candidato";
-        Label director = EstiloUI.labelBody(dirNom);
-        director.setMinWidth(200); director.setPrefWidth(200);
-
-        Label estado = EstiloUI.badgeEstadoProyecto(p.getEstado().name());
-        estado.setMinWidth(110); estado.setPrefWidth(110);
-
-        Label tipo = EstiloUI.labelBody(p.getTipoProyecto());
-        tipo.setMinWidth(100); tipo.setPrefWidth(100);
-
-        HBox acciones = new HBox(6);
-        acciones.setAlignment(Pos.CENTER);
-
+    private List<Button> crearAcciones(Proyecto p) {
+        List<Button> acciones = new ArrayList<>();
         if (p.getEstado() == EstadoProyecto.EN_REVISION) {
             Button btnApr = EstiloUI.botonSmall("Aprobar",  EstiloUI.C_MEDIUM);
             Button btnRec = EstiloUI.botonSmall("Rechazar", EstiloUI.C_RED);
             btnApr.setOnAction(e -> aprobar(p));
             btnRec.setOnAction(e -> rechazar(p));
-            acciones.getChildren().addAll(btnApr, btnRec);
+            acciones.add(btnApr);
+            acciones.add(btnRec);
         }
 
         Button btnRes = EstiloUI.botonSmall("Resumen", EstiloUI.C_DARK);
         btnRes.setOnAction(e -> mostrarResumenSeguimiento(p));
-        acciones.getChildren().add(btnRes);
+        acciones.add(btnRes);
+        return acciones;
+    }
+
+    /** Personal vigente (registrado menos retirado) sobre el planificado. */
+    private Label crearCeldaCumplimiento(ResumenSeguimiento resumen) {
+        if (resumen == null) return EstiloUI.labelBody("—");
+        Label celda = EstiloUI.labelBody(textoCumplimiento(resumen));
+        celda.setStyle(celda.getStyle() + "-fx-font-weight: bold; -fx-text-fill: " +
+                (resumen.isCumplePlanificacionGlobal() ? EstiloUI.C_VERY_DARK : EstiloUI.C_RED) + ";");
+        return celda;
+    }
 
-        fila.getChildren().addAll(nombre, codigo, director, estado, tipo, acciones);
-        return fila;
+    private String textoCumplimiento(ResumenSeguimiento resumen) {
+        int vigentes = resumen.getTotalRegistrado() - resumen.getTotalRetirado();
+        return vigentes + " / " + resumen.getTotalPlanificado();
     }
 
     // ─── APROBAR / RECHAZAR ──────────────────────────────────────────────
@@ -151,20 +161,23 @@ public class JefProyectos extends VBox {
                     EstiloUI.alertaError("Validación", "Debe ingresar un código para el proyecto.").showAndWait();
                     return;
                 }
-                try {
+                CargaAsincrona.ejecutar(this, () -> {
                     ProyectoDAO pDAO = new ProyectoDAO();
                     Proyecto existente = pDAO.obtenerPorCodigo(codigo);
                     if (existente != null && existente.getIdProyecto() != proyecto.getIdProyecto()) {
-                        EstiloUI.alertaError("Error", "Ya existe un proyecto con el código: " + codigo).showAndWait();
-                        return;
+                        return false;
                     }
                     proyecto.setCodigoProyecto(codigo);
                     jefatura.actualizarEstadoProyecto(proyecto, EstadoProyecto.APROBADO);
+                    return true;
+                }, aprobado -> {
+                    if (!aprobado) {
+                        EstiloUI.alertaError("Error", "Ya existe un proyecto con el código: " + codigo).showAndWait();
+                        return;
+                    }
                     EstiloUI.alertaInfo("Éxito", "Proyecto aprobado con código: " + codigo).showAndWait();
                     construir();
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-                }
+                });
             }
         });
     }
@@ -174,65 +187,70 @@ public class JefProyectos extends VBox {
                 "¿Marcar como no aprobado \"" + proyecto.getNombre() + "\"?");
         c.showAndWait().ifPresent(btn -> {
             if (btn == ButtonType.OK) {
-                try {
-                    jefatura.actualizarEstadoProyecto(proyecto, EstadoProyecto.NO_APROBADO);
-                    EstiloUI.alertaInfo("Listo", "Proyecto no aprobado.").showAndWait();
-                    construir();
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-                }
+                CargaAsincrona.ejecutar(this,
+                        () -> jefatura.actualizarEstadoProyecto(proyecto, EstadoProyecto.NO_APROBADO),
+                        () -> {
+                            EstiloUI.alertaInfo("Listo", "Proyecto no aprobado.").showAndWait();
+                            construir();
+                        });
             }
         });
     }
 
     // ─── RESUMEN DE SEGUIMIENTO ──────────────────────────────────────────
     private void mostrarResumenSeguimiento(Proyecto proyecto) {
-        try {
-            ResumenSeguimiento resumen = jefatura.generarResumenSeguimiento(proyecto.getIdProyecto());
-
-            GridPane grid = EstiloUI.crearGridFormulario();
-            grid.setPadding(new Insets(16));
-
-            String[] headers = {"Tipo", "Planificado", "Registrado", "Activo", "Retirado"};
-            for (int i = 0; i < headers.length; i++) {
-                Label h = new Label(headers[i]);
-                h.setStyle("-fx-font-weight: bold; -fx-font-size: 12px; -fx-text-fill: " + EstiloUI.C_VERY_DARK + ";");
-                GridPane.setColumnIndex(h, i);
-                GridPane.setRowIndex(h, 0);
-                grid.getChildren().add(h);
-            }
+        // El listado ya trae el resumen de cada proyecto
+        ResumenSeguimiento cargado = resumenes.get(proyecto.getIdProyecto());
+        if (cargado != null) {
+            mostrarResumenSeguimiento(proyecto, cargado);
+            return;
+        }
+        CargaAsincrona.consultar(this,
+                () -> jefatura.generarResumenSeguimiento(proyecto.getIdProyecto()),
+                resumen -> mostrarResumenSeguimiento(proyecto, resumen));
+    }
 
-            agregarFila(grid, 1, "Asistentes",
-                    resumen.getCantidadAsistentesPlanificados(), resumen.getCantidadAsistentesRegistrados(),
-                    resumen.getCantidadAsistentesActivos(),      resumen.getCantidadAsistentesRetirados());
-            agregarFila(grid, 2, "Ayudantes",
-                    resumen.getCantidadAyudantesPlanificados(),  resumen.getCantidadAyudantesRegistrados(),
-                    resumen.getCantidadAyudantesActivos(),       resumen.getCantidadAyudantesRetirados());
-            agregarFila(grid, 3, "Técnicos",
-                    resumen.getCantidadTecnicosPlanificados(),   resumen.getCantidadTecnicosRegistrados(),
-                    resumen.getCantidadTecnicosActivos(),        resumen.getCantidadTecnicosRetirados());
-            agregarFila(grid, 4, "TOTAL",
-                    resumen.getTotalPlanificado(),               resumen.getTotalRegistrado() - resumen.getTotalRetirado(),
-                    resumen.getTotalActivo(),                    resumen.getTotalRetirado());
-
-            Label cumple = new Label(resumen.isCumplePlanificacionGlobal() ? "Cumple planificación" : "No cumple planificación");
-            cumple.setStyle("-fx-font-weight: bold; -fx-text-fill: " +
-                    (resumen.isCumplePlanificacionGlobal() ? EstiloUI.C_VERY_DARK : EstiloUI.C_RED) + ";");
-            GridPane.setColumnIndex(cumple, 0);
-            GridPane.setRowIndex(cumple, 5);
-            GridPane.setColumnSpan(cumple, 5);
-            grid.getChildren().add(cumple);
-
-            Alert popup = new Alert(Alert.AlertType.INFORMATION);
-            popup.setTitle("Resumen de Seguimiento");
-            popup.setHeaderText("Proyecto: " + proyecto.getNombre());
-            popup.getDialogPane().setContent(grid);
-            popup.getDialogPane().setMinWidth(480);
-            popup.showAndWait();
-
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error", "No se pudo generar resumen: " + e.getMessage()).showAndWait();
+    private void mostrarResumenSeguimiento(Proyecto proyecto, ResumenSeguimiento resumen) {
+
+        GridPane grid = EstiloUI.crearGridFormulario();
+        grid.setPadding(new Insets(16));
+
+        String[] headers = {"Tipo", "Planificado", "Registrado", "Activo", "Retirado"};
+        for (int i = 0; i < headers.length; i++) {
+            Label h = new Label(headers[i]);
+            h.setStyle("-fx-font-weight: bold; -fx-font-size: 12px; -fx-text-fill: " + EstiloUI.C_VERY_DARK + ";");
+            GridPane.setColumnIndex(h, i);
+            GridPane.setRowIndex(h, 0);
+            grid.getChildren().add(h);
         }
+
+        agregarFila(grid, 1, "Asistentes",
+                resumen.getCantidadAsistentesPlanificados(), resumen.getCantidadAsistentesRegistrados(),
+                resumen.getCantidadAsistentesActivos(),      resumen.getCantidadAsistentesRetirados());
+        agregarFila(grid, 2, "Ayudantes",
+                resumen.getCantidadAyudantesPlanificados(),  resumen.getCantidadAyudantesRegistrados(),
+                resumen.getCantidadAyudantesActivos(),       resumen.getCantidadAyudantesRetirados());
+        agregarFila(grid, 3, "Técnicos",
+                resumen.getCantidadTecnicosPlanificados(),   resumen.getCantidadTecnicosRegistrados(),
+                resumen.getCantidadTecnicosActivos(),        resumen.getCantidadTecnicosRetirados());
+        agregarFila(grid, 4, "TOTAL",
+                resumen.getTotalPlanificado(),               resumen.getTotalRegistrado() - resumen.getTotalRetirado(),
+                resumen.getTotalActivo(),                    resumen.getTotalRetirado());
+
+        Label cumple = new Label(resumen.isCumplePlanificacionGlobal() ? "Cumple planificación" : "No cumple planificación");
+        cumple.setStyle("-fx-font-weight: bold; -fx-text-fill: " +
+                (resumen.isCumplePlanificacionGlobal() ? EstiloUI.C_VERY_DARK : EstiloUI.C_RED) + ";");
+        GridPane.setColumnIndex(cumple, 0);
+        GridPane.setRowIndex(cumple, 5);
+        GridPane.setColumnSpan(cumple, 5);
+        grid.getChildren().add(cumple);
+
+        Alert popup = new Alert(Alert.AlertType.INFORMATION);
+        popup.setTitle("Resumen de Seguimiento");
+        popup.setHeaderText("Proyecto: " + proyecto.getNombre());
+        popup.getDialogPane().setContent(grid);
+        popup.getDialogPane().setMinWidth(480);
+        popup.showAndWait();
     }
 
     private void agregarFila(GridPane grid, int row, String tipo, int plan, int reg, int act, int ret) {
@@ -258,8 +276,66 @@ public class JefProyectos extends VBox {
         grid.getChildren().addAll(lTipo, lPlan, lReg, lAct, lRet);
     }
 
+    // ─── EXPORTAR ────────────────────────────────────────────────────────
+    /** Exporta el listado actual con su seguimiento; no vuelve a consultar la base. */
+    private void exportarCsv() {
+        if (proyectos.isEmpty()) {
+            EstiloUI.alertaError("Exportar", "No hay proyectos para exportar.").showAndWait();
+            return;
+        }
+
+        FileChooser selector = new FileChooser();
+        selector.setTitle("Exportar seguimiento de proyectos");
+        selector.setInitialFileName("seguimiento_proyectos.csv");
+        selector.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV", "*.csv"));
+        File archivo = selector.showSaveDialog(getScene().getWindow());
+        if (archivo == null) return;
+
+        List<String> lineas = new ArrayList<>();
+        lineas.add("Código,Proyecto,Director,Estado,Tipo,Planificado,Registrado,Activo,Retirado,Vigente,Cumple");
+        for (Proyecto p : proyectos) {
+            ResumenSeguimiento r = resumenes.get(p.getIdProyecto());
+            String director = p.getDirector() != null ? p.getDirector().getNombresCompletos() : "";
+            List<Object> campos = new ArrayList<>(List.of(
+                    p.getCodigoProyecto() != null ? p.getCodigoProyecto() : "",
+                    p.getNombre(), director, p.getEstado().name(),
+                    p.getTipoProyecto() != null ? p.getTipoProyecto() : ""));
+            if (r != null) {
+                campos.addAll(List.of(r.getTotalPlanificado(), r.getTotalRegistrado(), r.getTotalActivo(),
+                        r.getTotalRetirado(), r.getTotalRegistrado() - r.getTotalRetirado(),
+                        r.isCumplePlanificacionGlobal() ? "Sí" : "No"));
+            }
+            lineas.add(campos.stream().map(c -> campoCsv(String.valueOf(c))).collect(Collectors.joining(",")));
+        }
+
+        try {
+            Files.write(archivo.toPath(), lineas, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            EstiloUI.alertaError("Error al exportar", ex.getMessage()).showAndWait();
+            return;
+        }
+        EstiloUI.alertaInfo("Exportar", "Se exportaron " + proyectos.size() + " proyectos.").showAndWait();
+    }
+
+    private String campoCsv(String valor) {
+        if (valor.contains(",") || valor.contains("\"") || valor.contains("\n")) {
+            return "\"" + valor.replace("\"", "\"\"") + "\"";
+        }
+        return valor;
+    }
+
     // ─── FORMULARIO CREAR PROYECTO ───────────────────────────────────────
     private void mostrarFormularioCrear() {
+        // Ambas lecturas salen de CachePeriodos; el periodo vigente queda preseleccionado
+        CargaAsincrona.consultar(this, () -> {
+            PeriodoAcademicoDAO paDAO = new PeriodoAcademicoDAO();
+            return new PeriodosFormulario(paDAO.obtenerTodos(), paDAO.obtenerPorFecha(LocalDate.now()));
+        }, this::abrirFormularioCrear);
+    }
+
+    private record PeriodosFormulario(List<PeriodoAcademico> todos, PeriodoAcademico vigente) {}
+
+    private void abrirFormularioCrear(PeriodosFormulario periodos) {
         VBox form = new VBox(14);
         form.setPadding(new Insets(10));
         form.setMinWidth(500);
@@ -274,10 +350,8 @@ public class JefProyectos extends VBox {
         cboTipo.setPrefHeight(36);
 
         ComboBox<String> cboPeriodo = new ComboBox<>();
-        try {
-            PeriodoAcademicoDAO paDAO = new PeriodoAcademicoDAO();
-            paDAO.obtenerTodos().forEach(pa -> cboPeriodo.getItems().add(pa.getCodigo()));
-        } catch (SQLException ignored) {}
+        periodos.todos().forEach(pa -> cboPeriodo.getItems().add(pa.getCodigo()));
+        if (periodos.vigente() != null) cboPeriodo.setValue(periodos.vigente().getCodigo());
         cboPeriodo.setStyle("-fx-font-size: 13px;");
         cboPeriodo.setPrefHeight(36);
 
@@ -339,25 +413,11 @@ public class JefProyectos extends VBox {
             return;
         }
 
+        // ── Crear objeto Proyecto ──
+        String cedulaDirector = dirCed.getText().trim();
+        String codigoPeriodo  = periodo.getValue();
+        Proyecto proyecto;
         try {
-            // ── Req 2: verificar director sin proyecto activo ──
-            String cedulaDirector = dirCed.getText().trim();
-            ProyectoDAO pDAO = new ProyectoDAO();
-            List<Proyecto> proyectosDirector = pDAO.obtenerPorDirector(cedulaDirector);
-
-            boolean tieneProyectoActivo = proyectosDirector.stream()
-                    .anyMatch(p -> p.getEstado() == EstadoProyecto.APROBADO);
-
-            if (tieneProyectoActivo) {
-                EstiloUI.alertaError("Validación",
-                        "El director con cédula " + cedulaDirector +
-                                " ya tiene un proyecto activo (aprobado). " +
-                                "No se puede crear otro proyecto para este director.").showAndWait();
-                return;
-            }
-
-            // ── Crear objeto Proyecto ──
-            Proyecto proyecto;
             if ("Semilla".equals(tipo.getValue())) {
                 proyecto = new Logica.Entidades.ProyectoSemilla();
             } else {
@@ -369,9 +429,6 @@ public class JefProyectos extends VBox {
             proyecto.setDuracionMeses(Integer.parseInt(dur.getText().trim().isEmpty() ? "0" : dur.getText().trim()));
             proyecto.setEstado(EstadoProyecto.EN_REVISION);
 
-            PeriodoAcademicoDAO paDAO = new PeriodoAcademicoDAO();
-            proyecto.setPeriodoInicio(paDAO.obtenerPorCodigo(periodo.getValue()));
-
             proyecto.setNumAsistentesPlanificados(parseInt(asist.getText()));
             proyecto.setNumAyudantesPlanificados(parseInt(ayud.getText()));
             proyecto.setNumTecnicosPlanificados(parseInt(tecn.getText()));
@@ -382,14 +439,38 @@ public class JefProyectos extends VBox {
             dirCandidato.setCedula(cedulaDirector);
             dirCandidato.setCorreo(dirCorr.getText().trim());
             proyecto.setDirector(dirCandidato);
+        } catch (Exception e) {
+            EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
+            return;
+        }
+
+        CargaAsincrona.ejecutar(this, () -> {
+            // ── Req 2: verificar director sin proyecto activo ──
+            ProyectoDAO pDAO = new ProyectoDAO();
+            List<Proyecto> proyectosDirector = pDAO.obtenerPorDirector(cedulaDirector);
+
+            boolean tieneProyectoActivo = proyectosDirector.stream()
+                    .anyMatch(p -> p.getEstado() == EstadoProyecto.APROBADO);
+            if (tieneProyectoActivo) {
+                return false;
+            }
+
+            PeriodoAcademicoDAO paDAO = new PeriodoAcademicoDAO();
+            proyecto.setPeriodoInicio(paDAO.obtenerPorCodigo(codigoPeriodo));
 
             jefatura.registrarProyecto(proyecto);
+            return true;
+        }, registrado -> {
+            if (!registrado) {
+                EstiloUI.alertaError("Validación",
+                        "El director con cédula " + cedulaDirector +
+                                " ya tiene un proyecto activo (aprobado). " +
+                                "No se puede crear otro proyecto para este director.").showAndWait();
+                return;
+            }
             EstiloUI.alertaInfo("Éxito", "Proyecto creado en estado \"En Revisión\". El código se asignará al aprobar.").showAndWait();
             construir();
-
-        } catch (Exception e) {
-            EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-        }
+        });
     }
 
     // ─── Utilidades ──────────────────────────────────────────────────────
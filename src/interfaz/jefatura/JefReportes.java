@@ -8,9 +8,12 @@ import javafx.scene.layout.*;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.EstadoReporte;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
 
-import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,10 +22,10 @@ import java.util.List;
  * Permite aprobar reportes en estado CERRADO (enviados).
  * Botón "Ver" para visualizar las participaciones incluidas.
  */
-public class JefReportes extends VBox {
+public class JefReportes extends VBox implements VistaRecargable {
 
     private final Jefatura jefatura;
-    private VBox contenido;
+    private final TablaVirtual<ResumenReporte> tabla;
     private ComboBox<String> cboEstado;
 
     // Se recibe jefatura desde la pantalla principal
@@ -49,100 +52,62 @@ public class JefReportes extends VBox {
         filtros.getChildren().addAll(EstiloUI.labelSmall("Estado:"), cboEstado);
         getChildren().add(filtros);
 
-        // Tarjeta
+        // Tarjeta con la tabla; las páginas se piden al desplazarse
         VBox tarjeta = EstiloUI.tarjeta();
-
-        // Header tabla
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols = {"ID", "Proyecto", "Periodo", "Fecha Ini.", "Fecha Cierre", "Estado", "Acciones"};
-        double[] widths = {60, 180, 90, 100, 100, 110, 160};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]); lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().add(tableHeader);
-
-        contenido = new VBox(0);
-        tarjeta.getChildren().add(contenido);
+        tabla = new TablaVirtual<>("No hay reportes disponibles.");
+        tabla.columna("ID", 60, r -> String.valueOf(r.getReporte().getIdReporte()), r -> r.getReporte().getIdReporte())
+             .columna("Proyecto", 180, r -> r.getNombreProyecto() != null ?
+                     r.getNombreProyecto() : "Proyecto #" + r.getReporte().getIdProyecto())
+             .columna("Director", 150, ResumenReporte::getNombreCompletoDirector)
+             .columna("Periodo", 90, r -> r.getReporte().getPeriodoAcademico())
+             .columna("Part.", 50, r -> String.valueOf(r.getNumeroParticipaciones()), ResumenReporte::getNumeroParticipaciones)
+             .columna("Fecha Ini.", 100, r -> texto(r.getReporte().getFechaInicio()), r -> r.getReporte().getFechaInicio())
+             .columna("Fecha Cierre", 100, r -> texto(r.getReporte().getFechaCierre()), r -> r.getReporte().getFechaCierre())
+             .columnaNodo("Estado", 110, r -> EstiloUI.badgeEstadoReporte(r.getReporte().getEstado().name()),
+                     r -> r.getReporte().getEstado())
+             .columnaAcciones("Acciones", 200, r -> crearAcciones(r.getReporte()));
+        tarjeta.getChildren().add(tabla);
+        VBox.setVgrow(tarjeta, Priority.ALWAYS);
         getChildren().add(tarjeta);
 
         cargar();
     }
 
-    private void cargar() {
-        contenido.getChildren().clear();
-        try {
-            ReporteDAO rDAO  = new ReporteDAO();
-            ProyectoDAO pDAO = new ProyectoDAO();
-            List<Reporte> reportes = rDAO.obtenerTodos();
-
-            String filtro = cboEstado.getValue();
-
-            for (Reporte r : reportes) {
-                if (!"Todos".equals(filtro) && !r.getEstado().name().equals(filtro)) continue;
-
-                // Obtener nombre del proyecto
-                Proyecto p = pDAO.obtenerPorId(r.getIdProyecto());
-                String proyNom = (p != null) ? p.getNombre() : "Proyecto #" + r.getIdProyecto();
-
-                contenido.getChildren().add(crearFila(r, proyNom));
-            }
-
-            if (contenido.getChildren().isEmpty()) {
-                contenido.getChildren().add(EstiloUI.labelSmall("  No hay reportes disponibles."));
-            }
-
-        } catch (SQLException e) {
-            contenido.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+    @Override
+    public void recargar() {
+        cargar();
     }
 
-    private HBox crearFila(Reporte r, String proyNom) {
-        HBox fila = new HBox();
-        fila.setAlignment(Pos.CENTER_LEFT);
-        fila.setPadding(new Insets(9, 0, 9, 0));
-        fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-        Label id = EstiloUI.labelBody(String.valueOf(r.getIdReporte()));
-        id.setMinWidth(60); id.setPrefWidth(60);
-
-        Label proyecto = EstiloUI.labelBody(proyNom);
-        proyecto.setMinWidth(180); proyecto.setPrefWidth(180);
-
-        Label periodo = EstiloUI.labelBody(r.getPeriodoAcademico() != null ? r.getPeriodoAcademico() : "—");
-        periodo.setMinWidth(90); periodo.setPrefWidth(90);
-
-        Label fechaIni = EstiloUI.labelBody(r.getFechaInicio() != null ? r.getFechaInicio().toString() : "—");
-        fechaIni.setMinWidth(100); fechaIni.setPrefWidth(100);
-
-        Label fechaCierre = EstiloUI.labelBody(r.getFechaCierre() != null ? r.getFechaCierre().toString() : "—");
-        fechaCierre.setMinWidth(100); fechaCierre.setPrefWidth(100);
+    /**
+     * Vuelve a listar desde la primera página con el filtro actual (una consulta
+     * por página, con proyecto y director incluidos).
+     */
+    private void cargar() {
+        String filtro = cboEstado.getValue();
+        EstadoReporte estado = "Todos".equals(filtro) ? null : EstadoReporte.fromString(filtro);
+        tabla.cargar((desplazamiento, ultima, limite) -> new ReporteDAO().obtenerResumenes(estado, ultima, limite));
+    }
 
-        Label estado = EstiloUI.badgeEstadoReporte(r.getEstado().name());
-        estado.setMinWidth(110);
+    private static String texto(Object valor) {
+        return valor != null ? valor.toString() : null;
+    }
 
-        // Acciones
-        HBox acciones = new HBox(6);
+    private List<Button> crearAcciones(Reporte r) {
+        List<Button> acciones = new ArrayList<>();
         Button btnVer = EstiloUI.botonSmall("Ver", EstiloUI.C_DARK);
         btnVer.setOnAction(e -> mostrarDetalleReporte(r));
-        acciones.getChildren().add(btnVer);
+        acciones.add(btnVer);
 
         if (r.getEstado() == EstadoReporte.CERRADO && jefatura != null) {
             Button btnAprobar = EstiloUI.botonSmall("Aprobar", EstiloUI.C_MEDIUM);
             btnAprobar.setOnAction(e -> aprobarReporte(r));
-            acciones.getChildren().add(btnAprobar);
+            acciones.add(btnAprobar);
 
             Button btnRechazar = EstiloUI.botonSmall("Rechazar", EstiloUI.C_RED);
             btnRechazar.setOnAction(e -> rechazarReporte(r));
-            acciones.getChildren().add(btnRechazar);
+            acciones.add(btnRechazar);
         }
-
-        fila.getChildren().addAll(id, proyecto, periodo, fechaIni, fechaCierre, estado, acciones);
-        return fila;
+        return acciones;
     }
 
     private void aprobarReporte(Reporte r) {
@@ -150,13 +115,10 @@ public class JefReportes extends VBox {
                 "¿Desea aprobar el reporte #" + r.getIdReporte() + "?");
         confirma.showAndWait().ifPresent(btn -> {
             if (btn == ButtonType.OK) {
-                try {
-                    jefatura.aprobarReporte(r);
+                CargaAsincrona.ejecutar(this, () -> jefatura.aprobarReporte(r), () -> {
                     EstiloUI.alertaInfo("Éxito", "Reporte aprobado.").showAndWait();
                     cargar();
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-                }
+                });
             }
         });
     }
@@ -187,62 +149,59 @@ public class JefReportes extends VBox {
                     EstiloUI.alertaError("Validación", "Debe indicar un motivo para el rechazo.").showAndWait();
                     return;
                 }
-                try {
-                    jefatura.rechazarReporte(r, motivo);
+                CargaAsincrona.ejecutar(this, () -> jefatura.rechazarReporte(r, motivo), () -> {
                     EstiloUI.alertaInfo("Éxito", "Reporte rechazado. El director será notificado.").showAndWait();
                     cargar();
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
-                }
+                });
             }
         });
     }
 
     private void mostrarDetalleReporte(Reporte r) {
-        try {
-            ReporteDAO rDAO = new ReporteDAO();
-            rDAO.cargarParticipacionesDelReporte(r);
-
-            VBox detalle = new VBox(10);
-            detalle.setPadding(new Insets(10));
-            detalle.setMinWidth(480);
-
-            detalle.getChildren().add(EstiloUI.labelSubtitulo("Reporte #" + r.getIdReporte()));
-            detalle.getChildren().add(EstiloUI.labelSmall("Periodo: " + r.getPeriodoAcademico() +
-                    " | Estado: " + r.getEstado().name()));
-            detalle.getChildren().add(EstiloUI.separador());
-            detalle.getChildren().add(EstiloUI.labelSeccion("Participaciones incluidas:"));
-
-            if (r.getParticipacionesIncluidas().isEmpty()) {
-                detalle.getChildren().add(EstiloUI.labelSmall("  Sin participaciones."));
-            } else {
-                for (Participacion p : r.getParticipacionesIncluidas()) {
-                    HBox fila = new HBox(16);
-                    fila.setPadding(new Insets(6, 8, 6, 8));
-                    fila.setStyle("-fx-background-color: " + EstiloUI.C_OFF_WHITE + ";" +
-                            "-fx-border-radius: 4; -fx-background-radius: 4;");
-
-                    String nom = (p.getPersonal() != null) ? p.getPersonal().getNombresCompletos() : "—";
-                    String tipo = (p.getPersonal() != null) ? p.getPersonal().getTipo() : "—";
-                    fila.getChildren().addAll(
-                            EstiloUI.labelBody(nom),
-                            EstiloUI.labelSmall(tipo),
-                            EstiloUI.labelSmall("Inicio: " + (p.getFechaInicio() != null ? p.getFechaInicio() : "—")),
-                            EstiloUI.badgeEstadoParticipacion(p.getEstado().name())
-                    );
-                    detalle.getChildren().add(fila);
-                }
-            }
-
-            Alert popup = new Alert(Alert.AlertType.INFORMATION);
-            popup.setTitle("Detalle del Reporte");
-            popup.setHeaderText("Reporte #" + r.getIdReporte());
-            popup.getDialogPane().setContent(detalle);
-            popup.getDialogPane().setMinWidth(500);
-            popup.showAndWait();
+        CargaAsincrona.consultar(this, () -> {
+            new ReporteDAO().cargarParticipacionesDelReporte(r);
+            return r;
+        }, this::mostrarDetalleCargado);
+    }
 
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
+    private void mostrarDetalleCargado(Reporte r) {
+
+        VBox detalle = new VBox(10);
+        detalle.setPadding(new Insets(10));
+        detalle.setMinWidth(480);
+
+        detalle.getChildren().add(EstiloUI.labelSubtitulo("Reporte #" + r.getIdReporte()));
+        detalle.getChildren().add(EstiloUI.labelSmall("Periodo: " + r.getPeriodoAcademico() +
+                " | Estado: " + r.getEstado().name()));
+        detalle.getChildren().add(EstiloUI.separador());
+        detalle.getChildren().add(EstiloUI.labelSeccion("Participaciones incluidas:"));
+
+        if (r.getParticipacionesIncluidas().isEmpty()) {
+            detalle.getChildren().add(EstiloUI.labelSmall("  Sin participaciones."));
+        } else {
+            for (Participacion p : r.getParticipacionesIncluidas()) {
+                HBox fila = new HBox(16);
+                fila.setPadding(new Insets(6, 8, 6, 8));
+                fila.setStyle("-fx-background-color: " + EstiloUI.C_OFF_WHITE + ";" +
+                        "-fx-border-radius: 4; -fx-background-radius: 4;");
+
+                String nom = (p.getPersonal() != null) ? p.getPersonal().getNombresCompletos() : "—";
+                String tipo = (p.getPersonal() != null) ? p.getPersonal().getTipo() : "—";
+                fila.getChildren().addAll(
+                        EstiloUI.labelBody(nom),
+                        EstiloUI.labelSmall(tipo),
+                        EstiloUI.labelSmall("Inicio: " + (p.getFechaInicio() != null ? p.getFechaInicio() : "—")),
+                        EstiloUI.badgeEstadoParticipacion(p.getEstado().name())
+                );
+                detalle.getChildren().add(fila);
+            }
         }
+
+        Alert popup = new Alert(Alert.AlertType.INFORMATION);
+        popup.setTitle("Detalle del Reporte");
+        popup.setHeaderText("Reporte #" + r.getIdReporte());
+        popup.getDialogPane().setContent(detalle);
+        popup.getDialogPane().setMinWidth(500);
+        popup.showAndWait();
     }
 }
\ No newline at end of file
@@ -4,11 +4,15 @@ import javafx.geometry.Insets;
 import javafx.scene.layout.*;
 import javafx.scene.control.ScrollPane;
 
+import Logica.Conexiones.ConsultasParalelas;
+import Logica.Conexiones.ConsultasParalelas.Pendiente;
 import Logica.Entidades.*;
 import interfaz.comun.BarraNavegacion;
+import interfaz.comun.CacheVistas;
+import interfaz.comun.CargaAsincrona;
 
-import java.sql.SQLException;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Layout raíz para el rol JEFATURA.
@@ -27,6 +31,7 @@ public class PantallaPrincipalJefatura extends VBox {
     private final Jefatura jefatura;
     private final BarraNavegacion barra;
     private final StackPane contenedorPrincipal; // stack para overlay de notif
+    private final CacheVistas vistas = new CacheVistas();
 
     public PantallaPrincipalJefatura(Jefatura jefatura) {
         super();
@@ -35,6 +40,14 @@ public class PantallaPrincipalJefatura extends VBox {
         setPrefHeight(750);
         setStyle("-fx-background-color: " + interfaz.comun.EstiloUI.C_OFF_WHITE + ";");
 
+        // ── Precarga: dashboard y notificaciones en paralelo mientras se arma la ventana ──
+        ConsultasParalelas inicio = new ConsultasParalelas("Inicio jefatura");
+        JefDashboard.Consultas precarga = new JefDashboard.Consultas(inicio);
+        Pendiente<List<Notificacion>> notificaciones = inicio.lanzar(() -> {
+            jefatura.cargarNotificaciones();
+            return jefatura.getNotificaciones();
+        });
+
         // ── Barra deNavigación ─────────────────────────────────
         barra = new BarraNavegacion(
                 jefatura.getNombres(),
@@ -57,30 +70,29 @@ public class PantallaPrincipalJefatura extends VBox {
         contenedorPrincipal.getChildren().add(overlayNotif);
 
         // ── Registrar tabs DESPUÉS de montar contenedorPrincipal ─
-        barra.agregarTab("Dashboard",        () -> mostrar(new JefDashboard(jefatura)));
-        barra.agregarTab("Proyectos",        () -> mostrar(new JefProyectos(jefatura)));
-        barra.agregarTab("Directores",       () -> mostrar(new JefDirectores()));
-        barra.agregarTab("Personal",         () -> mostrar(new JefPersonal()));
-        barra.agregarTab("Informes",         () -> mostrar(new JefInformes()));
-        barra.agregarTab("Reportes",         () -> mostrar(new JefReportes(jefatura)));
-        barra.agregarTab("Administración",   () -> mostrar(new JefAdministracion()));
+        barra.agregarTab("Dashboard",        () -> mostrar("Dashboard", () -> new JefDashboard(jefatura)));
+        barra.agregarTab("Proyectos",        () -> mostrar("Proyectos", () -> new JefProyectos(jefatura)));
+        barra.agregarTab("Directores",       () -> mostrar("Directores", () -> new JefDirectores()));
+        barra.agregarTab("Personal",         () -> mostrar("Personal", () -> new JefPersonal()));
+        barra.agregarTab("Informes",         () -> mostrar("Informes", () -> new JefInformes()));
+        barra.agregarTab("Reportes",         () -> mostrar("Reportes", () -> new JefReportes(jefatura)));
+        barra.agregarTab("Administración",   () -> mostrar("Administración", () -> new JefAdministracion()));
 
         getChildren().addAll(barra, contenedorPrincipal);
 
         // Cargar notificaciones al inicio
-        cargarNotificaciones();
+        cargarNotificaciones(notificaciones);
 
         // Mostrar dashboard por defecto
-        mostrar(new JefDashboard(jefatura));
+        mostrar("Dashboard", () -> new JefDashboard(jefatura, precarga));
     }
 
     /**
      * Intercambia el contenido del panel central.
+     * Las pestañas ya visitadas se reutilizan desde la caché de vistas.
      */
-    private void mostrar(Pane modulo) {
-        ScrollPane scrollPane = new ScrollPane(modulo);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setStyle("-fx-background-color: transparent; -fx-background: transparent;");
+    private void mostrar(String clave, Supplier<Pane> fabrica) {
+        ScrollPane scrollPane = vistas.mostrar(clave, fabrica);
 
         // El primer hijo del stack es el contenedor base
         if (!contenedorPrincipal.getChildren().isEmpty()) {
@@ -92,12 +104,9 @@ public class PantallaPrincipalJefatura extends VBox {
         barra.getPanelNotificaciones().setVisible(false);
     }
 
-    private void cargarNotificaciones() {
-        try {
-            jefatura.cargarNotificaciones();
-            barra.setNotificaciones(jefatura.getNotificaciones());
-        } catch (SQLException e) {
-            System.err.println("Error cargando notificaciones: " + e.getMessage());
-        }
+    private void cargarNotificaciones(Pendiente<List<Notificacion>> notificaciones) {
+        CargaAsincrona.enSegundoPlano(notificaciones::obtener,
+           recientes -> barra.setNotificaciones(jefatura.getIdUsuario(), recientes),
+           e -> System.err.println("Error cargando notificaciones: " + e.getMessage()));
     }
-}
\ No newline at end of file
+}
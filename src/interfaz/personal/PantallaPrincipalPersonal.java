@@ -6,8 +6,11 @@ import javafx.scene.layout.*;
 
 import Logica.Entidades.*;
 import interfaz.comun.BarraNavegacion;
+import interfaz.comun.CacheVistas;
+import interfaz.comun.CargaAsincrona;
+
+import java.util.function.Supplier;
 
-import java.sql.SQLException;
 
 /**
  * Layout raíz para el rol PERSONAL DE INVESTIGACIÓN.
@@ -19,6 +22,7 @@ public class PantallaPrincipalPersonal extends VBox {
     private final Proyecto                proyecto;
     private final BarraNavegacion         barra;
     private final StackPane               contenedorPrincipal;
+    private final CacheVistas vistas = new CacheVistas();
 
     public PantallaPrincipalPersonal(PersonalDeInvestigacion personal, Proyecto proyecto) {
         super();
@@ -48,8 +52,8 @@ public class PantallaPrincipalPersonal extends VBox {
         contenedorPrincipal.getChildren().add(overlayNotif);
 
         // Tabs
-        barra.agregarTab("Dashboard", () -> mostrar(new PerDashboard(personal, proyecto)));
-        barra.agregarTab("Informes",  () -> mostrar(new PerInformes(personal, proyecto)));
+        barra.agregarTab("Dashboard", () -> mostrar("Dashboard", () -> new PerDashboard(personal, proyecto)));
+        barra.agregarTab("Informes",  () -> mostrar("Informes", () -> new PerInformes(personal, proyecto)));
 
         getChildren().addAll(barra, contenedorPrincipal);
 
@@ -57,13 +61,14 @@ public class PantallaPrincipalPersonal extends VBox {
         cargarNotificaciones();
 
         // Mostrar dashboard por defecto
-        mostrar(new PerDashboard(personal, proyecto));
+        mostrar("Dashboard", () -> new PerDashboard(personal, proyecto));
     }
 
-    private void mostrar(Pane modulo) {
-        ScrollPane scrollPane = new ScrollPane(modulo);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setStyle("-fx-background-color: transparent; -fx-background: transparent;");
+    /**
+     * Las pestañas ya visitadas se reutilizan desde la caché de vistas.
+     */
+    private void mostrar(String clave, Supplier<Pane> fabrica) {
+        ScrollPane scrollPane = vistas.mostrar(clave, fabrica);
 
         if (!contenedorPrincipal.getChildren().isEmpty()) {
             contenedorPrincipal.getChildren().set(0, scrollPane);
@@ -73,11 +78,11 @@ public class PantallaPrincipalPersonal extends VBox {
     }
 
     private void cargarNotificaciones() {
-        try {
+        CargaAsincrona.enSegundoPlano(() -> {
             personal.cargarNotificaciones();
-            barra.setNotificaciones(personal.getNotificaciones());
-        } catch (SQLException e) {
-            System.err.println("Error cargando notificaciones: " + e.getMessage());
-        }
+            return personal.getNotificaciones();
+        },
+           recientes -> barra.setNotificaciones(personal.getIdUsuario(), recientes),
+           e -> System.err.println("Error cargando notificaciones: " + e.getMessage()));
     }
 }
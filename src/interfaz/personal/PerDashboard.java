@@ -8,7 +8,9 @@ import javafx.scene.layout.*;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.VistaRecargable;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -23,7 +25,7 @@ import java.util.stream.Collectors;
  *  – Resumen de informes (en edición / enviados / aprobados / rechazados)
  *  – Notificaciones recientes (máximo 5)
  */
-public class PerDashboard extends VBox {
+public class PerDashboard extends VBox implements VistaRecargable {
 
     private final PersonalDeInvestigacion personal;
     private final Proyecto                proyecto;
@@ -37,6 +39,11 @@ public class PerDashboard extends VBox {
         cargar();
     }
 
+    @Override
+    public void recargar() {
+        cargar();
+    }
+
     private void cargar() {
         getChildren().clear();
         getChildren().add(EstiloUI.labelTitulo("Dashboard"));
@@ -59,19 +66,6 @@ public class PerDashboard extends VBox {
         addGridRow(gridPer, 0, "Cédula:",  personal.getCedula() != null ? personal.getCedula() : "—");
         addGridRow(gridPer, 1, "Correo:",  personal.getCorreo() != null ? personal.getCorreo() : "—");
 
-        // Estado participación
-        try {
-            ParticipacionDAO parDAO = new ParticipacionDAO();
-            List<Participacion> participaciones = parDAO.obtenerPorPersonal(personal.getCedula());
-            if (!participaciones.isEmpty()) {
-                Participacion p = participaciones.get(0);
-                addGridRow(gridPer, 2, "Participación:",
-                        p.getEstado().name() + (p.getFechaInicio() != null ? "  (desde " + p.getFechaInicio() + ")" : ""));
-            }
-        } catch (SQLException e) {
-            // ignorar – se muestra sin participación
-        }
-
         cardPersonal.getChildren().add(gridPer);
         getChildren().add(cardPersonal);
 
@@ -97,10 +91,55 @@ public class PerDashboard extends VBox {
             getChildren().add(cardProyecto);
         }
 
-        // ── Estadísticas de informes ────────────────────────────────────
+        CargaAsincrona.cargar(this, this::consultarDatos, datos -> mostrar(datos, gridPer));
+    }
+
+    // ─── Datos (hilo de fondo) ──────────────────────────────────────────────
+    private record Datos(Participacion participacion,
+                         List<InformeActividades> informes, String errorInformes,
+                         List<Notificacion> notificaciones) {}
+
+    private Datos consultarDatos() {
+        // Estado participación
+        Participacion participacion = null;
+        try {
+            List<Participacion> participaciones = new ParticipacionDAO().obtenerPorPersonal(personal.getCedula());
+            if (!participaciones.isEmpty()) participacion = participaciones.get(0);
+        } catch (SQLException e) {
+            // ignorar – se muestra sin participación
+        }
+
+        List<InformeActividades> informes = null;
+        String errorInformes = null;
         try {
-            InformeActividadesDAO iaDAO = new InformeActividadesDAO();
-            List<InformeActividades> informes = iaDAO.obtenerPorPersonal(personal.getCedula());
+            informes = new InformeActividadesDAO().obtenerPorPersonal(personal.getCedula());
+        } catch (SQLException e) {
+            errorInformes = e.getMessage();
+        }
+
+        List<Notificacion> notificaciones = List.of();
+        try {
+            personal.cargarNotificaciones();
+            notificaciones = personal.getNotificaciones();
+        } catch (SQLException e) {
+            // silencio – notificaciones no críticas
+        }
+        return new Datos(participacion, informes, errorInformes, notificaciones);
+    }
+
+    // ─── Render (hilo JavaFX) ───────────────────────────────────────────────
+    private void mostrar(Datos datos, GridPane gridPer) {
+        Participacion p = datos.participacion();
+        if (p != null) {
+            addGridRow(gridPer, 2, "Participación:",
+                    p.getEstado().name() + (p.getFechaInicio() != null ? "  (desde " + p.getFechaInicio() + ")" : ""));
+        }
+
+        // ── Estadísticas de informes ────────────────────────────────────
+        if (datos.errorInformes() != null) {
+            getChildren().add(EstiloUI.labelSmall("Error al cargar informes: " + datos.errorInformes()));
+        } else {
+            List<InformeActividades> informes = datos.informes();
 
             long enEdicion  = informes.stream().filter(i -> i.getEstado() == EstadoInforme.EN_EDICION).count();
             long enviados   = informes.stream().filter(i -> i.getEstado() == EstadoInforme.ENVIADO).count();
@@ -132,33 +171,26 @@ public class PerDashboard extends VBox {
                 }
                 getChildren().add(avisoCard);
             }
-
-        } catch (SQLException e) {
-            getChildren().add(EstiloUI.labelSmall("Error al cargar informes: " + e.getMessage()));
         }
 
         // ── Notificaciones recientes ────────────────────────────────────
-        try {
-            personal.cargarNotificaciones();
-            if (!personal.getNotificaciones().isEmpty()) {
-                VBox cardNotif = EstiloUI.tarjeta();
-                cardNotif.getChildren().add(EstiloUI.labelSubtitulo("Notificaciones Recientes"));
-
-                int max = Math.min(5, personal.getNotificaciones().size());
-                for (int i = 0; i < max; i++) {
-                    Notificacion n = personal.getNotificaciones().get(i);
-                    VBox item = new VBox(2);
-                    item.setPadding(new Insets(6, 0, 6, 0));
-                    item.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-                    item.getChildren().add(EstiloUI.labelBody(n.getContenido()));
-                    item.getChildren().add(EstiloUI.labelSmall(
-                            n.getFecha() != null ? n.getFecha().toLocalDate().toString() : ""));
-                    cardNotif.getChildren().add(item);
-                }
-                getChildren().add(cardNotif);
+        List<Notificacion> notificaciones = datos.notificaciones();
+        if (!notificaciones.isEmpty()) {
+            VBox cardNotif = EstiloUI.tarjeta();
+            cardNotif.getChildren().add(EstiloUI.labelSubtitulo("Notificaciones Recientes"));
+
+            int max = Math.min(5, notificaciones.size());
+            for (int i = 0; i < max; i++) {
+                Notificacion n = notificaciones.get(i);
+                VBox item = new VBox(2);
+                item.setPadding(new Insets(6, 0, 6, 0));
+                item.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
+                item.getChildren().add(EstiloUI.labelBody(n.getContenido()));
+                item.getChildren().add(EstiloUI.labelSmall(
+                        n.getFecha() != null ? n.getFecha().toLocalDate().toString() : ""));
+                cardNotif.getChildren().add(item);
             }
-        } catch (SQLException e) {
-            // silencio – notificaciones no críticas
+            getChildren().add(cardNotif);
         }
     }
 
@@ -8,15 +8,18 @@ import javafx.scene.layout.*;
 import Logica.DAO.*;
 import Logica.Entidades.*;
 import Logica.Enumeraciones.*;
+import interfaz.comun.CargaAsincrona;
 import interfaz.comun.EstiloUI;
+import interfaz.comun.TablaVirtual;
+import interfaz.comun.VistaRecargable;
 
-import java.sql.SQLException;
 import java.sql.Time;
 import java.time.LocalTime;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Módulo de Informes de Actividades para el Personal de Investigación.
@@ -36,13 +39,13 @@ import java.util.List;
  *  – Se necesita al menos 1 semana para enviar.
  *  – Personal con participación RETIRADA o FINALIZADA no puede crear nuevos informes.
  */
-public class PerInformes extends BorderPane {
+public class PerInformes extends BorderPane implements VistaRecargable {
 
     private final PersonalDeInvestigacion personal;
     private final Proyecto                proyecto;
 
     // ── Áreas intercambiables ──
-    private final VBox contenidoTabla;   // filas de la lista superior
+    private final TablaVirtual<InformeActividades> tabla;   // lista superior
     private final VBox panelEdicion;     // formulario de edición (bajo la tabla)
 
     // Estado de edición activo
@@ -73,12 +76,31 @@ public class PerInformes extends BorderPane {
         // Agregar el ScrollPane al centro del BorderPane
         setCenter(scrollPane);
 
-        contenidoTabla = new VBox(0);
+        tabla = new TablaVirtual<>("No hay informes aún. Cree uno nuevo.");
+        tabla.setFilasVisibles(6);
+        tabla.columna("Fecha Registro", 150, inf -> inf.getFechaRegistro() != null ?
+                     inf.getFechaRegistro().toString() : null, InformeActividades::getFechaRegistro)
+             .columnaNodo("Estado", 120, inf -> EstiloUI.badgeEstadoInforme(inf.getEstado().name()),
+                     InformeActividades::getEstado)
+             .columna("Semanas", 80, inf -> String.valueOf(inf.getSemanas().size()), inf -> inf.getSemanas().size())
+             .columna("Horas Total", 110, inf -> String.format("%.1f h", inf.calcularHorasTotales()),
+                     InformeActividades::calcularHorasTotales)
+             .columnaAcciones("Acciones", 220, this::crearAcciones);
         panelEdicion   = new VBox(14);
 
         construir();
     }
 
+    @Override
+    public void recargar() {
+        // Si hay un informe abierto en el panel no se pierde lo que se está editando
+        if (panelEdicion.getChildren().isEmpty()) {
+            cargarInformes();
+        } else {
+            cargarTabla();
+        }
+    }
+
     // ─── CONSTRUCCIÓN INICIAL ──────────────────────────────────────────────
     private void construir() {
         contenedorPrincipal.getChildren().clear();
@@ -102,20 +124,7 @@ public class PerInformes extends BorderPane {
         // ── Tabla de informes ──
         VBox tarjeta = EstiloUI.tarjeta();
 
-        HBox tableHeader = new HBox();
-        tableHeader.setPadding(new Insets(10, 0, 10, 0));
-        tableHeader.setStyle("-fx-border-color: " + EstiloUI.C_DARK + "; -fx-border-width: 0 0 2 0;");
-        String[] cols   = {"Fecha Registro", "Estado", "Semanas", "Horas Total", "Acciones"};
-        double[]  widths = {150,             120,      80,        110,           220};
-        for (int i = 0; i < cols.length; i++) {
-            Label lbl = new Label(cols[i]);
-            lbl.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: " + EstiloUI.C_GRAY_DARK + ";");
-            lbl.setMinWidth(widths[i]);
-            lbl.setPrefWidth(widths[i]);
-            tableHeader.getChildren().add(lbl);
-        }
-        tarjeta.getChildren().add(tableHeader);
-        tarjeta.getChildren().add(contenidoTabla);
+        tarjeta.getChildren().add(tabla);
         contenedorPrincipal.getChildren().add(tarjeta);
 
         // ── Panel de edición (aparece debajo) ──
@@ -126,73 +135,49 @@ public class PerInformes extends BorderPane {
 
     // ─── CARGA DE LISTA ─────────────────────────────────────────────────────
     private void cargarInformes() {
-        contenidoTabla.getChildren().clear();
         panelEdicion.getChildren().clear();
         informeEnEdicion = null;
         semanasEnMemoria.clear();
-
-        try {
-            InformeActividadesDAO iaDAO = new InformeActividadesDAO();
-            List<InformeActividades> informes = iaDAO.obtenerPorPersonal(personal.getCedula());
-
-            if (informes.isEmpty()) {
-                contenidoTabla.getChildren().add(EstiloUI.labelSmall("  No hay informes aún. Cree uno nuevo."));
-                return;
-            }
-
-            for (InformeActividades inf : informes) {
-                contenidoTabla.getChildren().add(crearFilaInforme(inf));
-            }
-
-        } catch (SQLException e) {
-            contenidoTabla.getChildren().add(EstiloUI.labelSmall("  Error: " + e.getMessage()));
-        }
+        cargarTabla();
     }
 
-    // ─── FILA DE INFORME ────────────────────────────────────────────────────
-    private HBox crearFilaInforme(InformeActividades inf) {
-        HBox fila = new HBox();
-        fila.setAlignment(Pos.CENTER_LEFT);
-        fila.setPadding(new Insets(9, 0, 9, 0));
-        fila.setStyle("-fx-border-color: " + EstiloUI.C_GRAY_LIGHT + "; -fx-border-width: 0 0 1 0;");
-
-        Label lblFecha  = txt(inf.getFechaRegistro() != null ? inf.getFechaRegistro().toString() : "—", 150);
-        Label lblEstado = EstiloUI.badgeEstadoInforme(inf.getEstado().name());
-        lblEstado.setMinWidth(120);
-        Label lblSemanas = txt(String.valueOf(inf.getSemanas().size()), 80);
-        Label lblHoras   = txt(String.format("%.1f h", inf.calcularHorasTotales()), 110);
+    /** Solo el listado; no toca el panel de edición. */
+    private void cargarTabla() {
+        CargaAsincrona.cargar(tabla,
+                () -> new InformeActividadesDAO().obtenerPorPersonal(personal.getCedula()),
+                tabla::mostrar);
+    }
 
-        // Acciones según estado
-        HBox acciones = new HBox(6);
+    // ─── ACCIONES DE LA FILA ────────────────────────────────────────────────
+    private List<Button> crearAcciones(InformeActividades inf) {
+        List<Button> acciones = new ArrayList<>();
 
         switch (inf.getEstado()) {
             case EN_EDICION:
                 Button btnEditar = EstiloUI.botonSmall("Editar", EstiloUI.C_MEDIUM);
                 btnEditar.setOnAction(e -> abrirPanelEditar(inf));
-                acciones.getChildren().add(btnEditar);
+                acciones.add(btnEditar);
                 break;
 
             case RECHAZADO:
                 // Puede devolver a edición y re-enviar
                 Button btnDevolver = EstiloUI.botonSmall("Corregir", EstiloUI.C_ORANGE);
                 btnDevolver.setOnAction(e -> devolverParaEdicion(inf));
-                acciones.getChildren().add(btnDevolver);
+                acciones.add(btnDevolver);
                 // También "Ver" para revisar contenido
                 Button btnVerR = EstiloUI.botonSmall("Ver", EstiloUI.C_GRAY_DARK);
                 btnVerR.setOnAction(e -> mostrarDetalleReadOnly(inf));
-                acciones.getChildren().add(btnVerR);
+                acciones.add(btnVerR);
                 break;
 
             case ENVIADO:
             case APROBADO:
                 Button btnVer = EstiloUI.botonSmall("Ver", EstiloUI.C_GRAY_DARK);
                 btnVer.setOnAction(e -> mostrarDetalleReadOnly(inf));
-                acciones.getChildren().add(btnVer);
+                acciones.add(btnVer);
                 break;
         }
-
-        fila.getChildren().addAll(lblFecha, lblEstado, lblSemanas, lblHoras, acciones);
-        return fila;
+        return acciones;
     }
 
     // ═══════════════════════════════════════════════════════════════════════
@@ -202,25 +187,24 @@ public class PerInformes extends BorderPane {
     /** Abre el panel vacío para crear un nuevo informe */
     private void abrirPanelNuevo() {
         // ── Validación: personal retirado o finalizado no puede crear informes ──
-        try {
-            ParticipacionDAO parDAO = new ParticipacionDAO();
-            List<Participacion> participaciones = parDAO.obtenerPorPersonal(personal.getCedula());
-
-            if (!participaciones.isEmpty()) {
-                EstadoParticipacion estadoActual = participaciones.get(0).getEstado();
-                if (estadoActual == EstadoParticipacion.RETIRADO || estadoActual == EstadoParticipacion.FINALIZADO) {
-                    EstiloUI.alertaError("No permitido",
-                                    "No puede crear nuevos informes porque su participación tiene estado " +
-                                            estadoActual.name().charAt(0) + estadoActual.name().substring(1).toLowerCase() +
-                                            ". Comuníquese con el Director para más información.")
-                            .showAndWait();
-                    return;
-                }
+        CargaAsincrona.enSegundoPlano(
+                () -> new ParticipacionDAO().obtenerPorPersonal(personal.getCedula()),
+                this::abrirPanelNuevo,
+                e -> EstiloUI.alertaError("Error",
+                        "No se pudo verificar el estado de su participación: " + e.getMessage()).showAndWait());
+    }
+
+    private void abrirPanelNuevo(List<Participacion> participaciones) {
+        if (!participaciones.isEmpty()) {
+            EstadoParticipacion estadoActual = participaciones.get(0).getEstado();
+            if (estadoActual == EstadoParticipacion.RETIRADO || estadoActual == EstadoParticipacion.FINALIZADO) {
+                EstiloUI.alertaError("No permitido",
+                                "No puede crear nuevos informes porque su participación tiene estado " +
+                                        estadoActual.name().charAt(0) + estadoActual.name().substring(1).toLowerCase() +
+                                        ". Comuníquese con el Director para más información.")
+                        .showAndWait();
+                return;
             }
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error", "No se pudo verificar el estado de su participación: " + e.getMessage())
-                    .showAndWait();
-            return;
         }
 
         informeEnEdicion = null;
@@ -395,9 +379,9 @@ public class PerInformes extends BorderPane {
                     java.util.Calendar cal = java.util.Calendar.getInstance();
                     cal.set(newV.getYear(), newV.getMonthValue() - 1, newV.getDayOfMonth(), 0, 0, 0);
                     cal.set(java.util.Calendar.MILLISECOND, 0);
-                    fechas[idx] = cal.getTime();
+                    semana.setFecha(idx, cal.getTime());
                 } else {
-                    fechas[idx] = null;
+                    semana.setFecha(idx, null);
                 }
             });
 
@@ -407,7 +391,7 @@ public class PerInformes extends BorderPane {
                 cboInicio.setValue(horasInicio[i].toString().substring(0, 5));
             }
             cboInicio.valueProperty().addListener((obs, oldV, newV) -> {
-                horasInicio[idx] = parseTime(newV);
+                semana.setHoraInicio(idx, parseTime(newV));
             });
 
             // Hora Salida
@@ -416,7 +400,7 @@ public class PerInformes extends BorderPane {
                 cboSalida.setValue(horasSalida[i].toString().substring(0, 5));
             }
             cboSalida.valueProperty().addListener((obs, oldV, newV) -> {
-                horasSalida[idx] = parseTime(newV);
+                semana.setHoraSalida(idx, parseTime(newV));
             });
 
             fila.getChildren().addAll(lblDia, dp, cboInicio, cboSalida);
@@ -470,6 +454,11 @@ public class PerInformes extends BorderPane {
 
     /** Guarda el informe (nuevo o existente) con sus semanas */
     private void guardarInforme() {
+        guardarInforme(guardado -> cargarInformes());   // refrescar lista
+    }
+
+    /** Guarda y entrega el informe persistido a {@code alGuardar} (en el hilo JavaFX). */
+    private void guardarInforme(Consumer<InformeActividades> alGuardar) {
         // Validar que al menos una semana tenga datos
         boolean hayDatos = false;
         for (SemanaActividades s : semanasEnMemoria) {
@@ -485,39 +474,40 @@ public class PerInformes extends BorderPane {
             return;
         }
 
-        try {
+        InformeActividades existente = informeEnEdicion;
+        List<SemanaActividades> semanas = new ArrayList<>(semanasEnMemoria);
+
+        CargaAsincrona.enSegundoPlano(() -> {
             InformeActividadesDAO iaDAO = new InformeActividadesDAO();
 
-            if (informeEnEdicion == null) {
+            if (existente == null) {
                 // ── Crear nuevo ──
                 InformeActividades nuevo = personal.iniciarInformeActividades();
-                for (SemanaActividades s : semanasEnMemoria) {
+                for (SemanaActividades s : semanas) {
                     nuevo.agregarSemana(s);
                 }
                 iaDAO.guardar(nuevo);
-                informeEnEdicion = nuevo;   // ahora tiene ID
-
-                EstiloUI.alertaInfo("Éxito", "Informe guardado exitosamente.").showAndWait();
-            } else {
-                // ── Actualizar existente (re-guardar semanas no soportado en DAO actual,
-                //     pero se persiste el estado) ──
-                iaDAO.actualizar(informeEnEdicion);
-                EstiloUI.alertaInfo("Éxito", "Informe actualizado.").showAndWait();
+                return nuevo;   // ahora tiene ID
             }
-
-            cargarInformes();   // refrescar lista
-
-        } catch (SQLException e) {
-            EstiloUI.alertaError("Error al guardar", e.getMessage()).showAndWait();
-        }
+            // ── Actualizar existente: el DAO solo escribe las semanas cambiadas ──
+            existente.setSemanas(semanas);
+            iaDAO.actualizar(existente);
+            return existente;
+        }, guardado -> {
+            CargaAsincrona.notificarCambio(this);
+            informeEnEdicion = guardado;
+            EstiloUI.alertaInfo("Éxito",
+                    existente == null ? "Informe guardado exitosamente." : "Informe actualizado.").showAndWait();
+            alGuardar.accept(guardado);
+        }, e -> EstiloUI.alertaError("Error al guardar", e.getMessage()).showAndWait());
     }
 
     /** Guarda y envía el informe al Director */
     private void enviarInforme() {
         // Primero guardar si es nuevo
         if (informeEnEdicion == null) {
-            guardarInforme();
-            if (informeEnEdicion == null) return; // guardar falló
+            guardarInforme(guardado -> enviarInforme());
+            return;
         }
 
         // Validar que tenga semanas
@@ -532,16 +522,20 @@ public class PerInformes extends BorderPane {
                         "Una vez enviado no podrá editarlo hasta que sea aprobado o rechazado.");
         confirm.showAndWait().ifPresent(res -> {
             if (res == ButtonType.OK) {
-                try {
-                    personal.cerrarInformeActividades(informeEnEdicion);
+                InformeActividades informe = informeEnEdicion;
+                if (informe.getEstado() != EstadoInforme.EN_EDICION) {
+                    EstiloUI.alertaError("Validación", "El informe ya fue enviado").showAndWait();
+                    return;
+                }
+                CargaAsincrona.enSegundoPlano(() -> {
+                    personal.cerrarInformeActividades(informe);
+                    return informe;
+                }, enviado -> {
+                    CargaAsincrona.notificarCambio(this);
                     EstiloUI.alertaInfo("Éxito",
                             "Informe enviado exitosamente. El Director será notificado.").showAndWait();
                     cargarInformes();
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error al enviar", e.getMessage()).showAndWait();
-                } catch (IllegalStateException e) {
-                    EstiloUI.alertaError("Validación", e.getMessage()).showAndWait();
-                }
+                }, e -> EstiloUI.alertaError("Error al enviar", e.getMessage()).showAndWait());
             }
         });
     }
@@ -556,17 +550,15 @@ public class PerInformes extends BorderPane {
             if (res == ButtonType.OK) {
                 try {
                     inf.devolverParaEdicion();                          // cambia estado en memoria
-                    InformeActividadesDAO dao = new InformeActividadesDAO();
-                    dao.actualizar(inf);                                // persiste
-
-                    // Abre directamente en modo edición
-                    abrirPanelEditar(inf);
-                    cargarInformes();                                   // actualiza lista
-                } catch (SQLException e) {
-                    EstiloUI.alertaError("Error", e.getMessage()).showAndWait();
                 } catch (IllegalStateException e) {
                     EstiloUI.alertaError("Validación", e.getMessage()).showAndWait();
+                    return;
                 }
+                CargaAsincrona.ejecutar(this, () -> new InformeActividadesDAO().actualizar(inf), () -> {
+                    cargarInformes();                                   // actualiza lista
+                    // Abre directamente en modo edición
+                    abrirPanelEditar(inf);
+                });
             }
         });
     }
@@ -674,13 +666,6 @@ public class PerInformes extends BorderPane {
     }
 
     // ─── UTILIDADES ─────────────────────────────────────────────────────────
-    private Label txt(String valor, double ancho) {
-        Label l = EstiloUI.labelBody(valor);
-        l.setMinWidth(ancho);
-        l.setPrefWidth(ancho);
-        return l;
-    }
-
     private Label miniTxt(String valor, double ancho) {
         Label l = EstiloUI.labelSmall(valor);
         l.setMinWidth(ancho);